@@ -0,0 +1,142 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.JobManagementApplication;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Boots the application against a private in-memory H2 database seeded with a fixed number of jobs.
+ * Jobs are spread evenly over technicians ({@value #JOBS_PER_TECHNICIAN} each) and cycle
+ * through the statuses, so list sizes grow linearly with the dataset.
+ */
+public final class BenchmarkEnvironment implements AutoCloseable {
+    /** Number of jobs assigned to each seeded technician. */
+    public static final int JOBS_PER_TECHNICIAN = 100;
+
+    private final ConfigurableApplicationContext context;
+    private final JdbcTemplate jdbcTemplate;
+    private final int jobCount;
+    private final int technicianCount;
+
+    private BenchmarkEnvironment(ConfigurableApplicationContext context, int jobCount) {
+        this.context = context;
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.jobCount = jobCount;
+        this.technicianCount = Math.max(1, jobCount / JOBS_PER_TECHNICIAN);
+    }
+
+    /**
+     * Starts the application without a web server and seeds the database.
+     *
+     * @param jobCount the number of jobs to seed
+     * @return the running environment
+     */
+    public static BenchmarkEnvironment start(int jobCount) {
+        return start(jobCount, "none", "default");
+    }
+
+    /**
+     * Starts the application with its web server on a random port and seeds the database.
+     *
+     * @param jobCount the number of jobs to seed
+     * @param profiles the Spring profiles to activate, e.g. {@code virtual-threads}
+     * @return the running environment
+     */
+    public static BenchmarkEnvironment startServer(int jobCount, String profiles) {
+        return start(jobCount, "servlet", profiles);
+    }
+
+    private static BenchmarkEnvironment start(int jobCount, String webApplicationType, String profiles) {
+        // Command-line arguments take precedence over the application.yml packaged with the application
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(JobManagementApplication.class)
+                .run("--spring.datasource.url=jdbc:h2:mem:jobs_" + jobCount + ";DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.format_sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.sql.init.mode=never",
+                        "--spring.main.web-application-type=" + webApplicationType,
+                        "--spring.main.banner-mode=off",
+                        "--spring.profiles.active=" + profiles,
+                        "--server.port=0",
+                        "--jobs.stats.reconcile-interval=P1D",
+                        "--jobs.assignment.rebuild-interval=P1D",
+                        "--logging.level.root=WARN");
+        BenchmarkEnvironment environment = new BenchmarkEnvironment(context, jobCount);
+        environment.seed();
+        return environment;
+    }
+
+    private void seed() {
+        jdbcTemplate.update("""
+                insert into technician (tech_id, tech_name, doj)
+                select x, 'Technician ' || x, date '2020-01-01'
+                from system_range(1, ?)""", technicianCount);
+        jdbcTemplate.update("""
+                insert into job (job_id, description, tech_id, created_date, completed_date, status)
+                select x,
+                       'Job ' || x,
+                       mod(x - 1, ?) + 1,
+                       dateadd('SECOND', x, timestamp '2024-01-01 00:00:00'),
+                       case when mod(x, 3) = 2 then dateadd('SECOND', x + 3600, timestamp '2024-01-01 00:00:00') end,
+                       case mod(x, 3) when 0 then 'PENDING' when 1 then 'IN_PROGRESS' else 'COMPLETED' end
+                from system_range(1, ?)""", technicianCount, jobCount);
+        jdbcTemplate.execute("alter table technician alter column tech_id restart with " + (technicianCount + 1));
+        jdbcTemplate.execute("alter sequence job_job_id_seq restart with " + (jobCount + 1));
+        // The in-memory counts were built at startup against an empty database
+        context.getBean(JobStatusCounters.class).reconcile();
+        context.getBean(TechnicianWorkloadIndex.class).rebuild();
+    }
+
+    /**
+     * Removes jobs created by a benchmark so every iteration runs against the seeded dataset.
+     */
+    public void removeCreatedJobs() {
+        jdbcTemplate.update("delete from job where job_id > ?", jobCount);
+    }
+
+    /**
+     * @return the ID of a random seeded job
+     */
+    public long randomJobId() {
+        return ThreadLocalRandom.current().nextLong(1, jobCount + 1L);
+    }
+
+    /**
+     * @return the ID of a random seeded technician
+     */
+    public long randomTechId() {
+        return ThreadLocalRandom.current().nextLong(1, technicianCount + 1L);
+    }
+
+    /**
+     * @return the port the web server listens on, when started with {@link #startServer}
+     */
+    public int getPort() {
+        return context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+    }
+
+    /**
+     * Looks up a bean from the running application.
+     *
+     * @param type the bean type
+     * @param <T> the bean type
+     * @return the bean
+     */
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
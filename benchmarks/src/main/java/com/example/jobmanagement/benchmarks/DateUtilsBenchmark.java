@@ -0,0 +1,89 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.utils.DateUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures formatting and parsing with {@link DateUtils}. Needs no database.
+ * The {@code perCallFormatter} benchmarks build a formatter on every call, which is what
+ * {@code DateUtils} used to do, and serve as the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    private final LocalDate date = LocalDate.of(2024, 3, 15);
+    private final LocalDateTime dateTime = LocalDateTime.of(2024, 3, 15, 14, 30, 45);
+    private final String dateText = "2024-03-15";
+    private final String dateTimeText = "2024-03-15 14:30:45";
+    private final byte[] dateTimeBytes = dateTimeText.getBytes(StandardCharsets.US_ASCII);
+
+    private final StringBuilder builder = new StringBuilder(64);
+    private final byte[] buffer = new byte[64];
+
+    @Benchmark
+    public String formatDateTimePerCallFormatter() {
+        return dateTime.format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimePerCallFormatter() {
+        return LocalDateTime.parse(dateTimeText, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+    }
+
+    @Benchmark
+    public String formatDateTimeSharedFormatter() {
+        return DateUtils.DATE_TIME_FORMATTER.format(dateTime);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeSharedFormatter() {
+        return LocalDateTime.parse(dateTimeText, DateUtils.DATE_TIME_FORMATTER);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DateUtils.formatDate(date);
+    }
+
+    @Benchmark
+    public String formatDateTime() {
+        return DateUtils.formatDateTime(dateTime);
+    }
+
+    @Benchmark
+    public LocalDate parseDate() {
+        return DateUtils.parseDate(dateText);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTime() {
+        return DateUtils.parseDateTime(dateTimeText);
+    }
+
+    @Benchmark
+    public StringBuilder appendDateTime() {
+        builder.setLength(0);
+        return DateUtils.appendDateTime(builder, dateTime);
+    }
+
+    @Benchmark
+    public int writeDateTime() {
+        return DateUtils.writeDateTime(dateTime, buffer, 0);
+    }
+
+    @Benchmark
+    public LocalDateTime parseDateTimeBytes() {
+        return DateUtils.parseDateTime(dateTimeBytes, 0);
+    }
+}
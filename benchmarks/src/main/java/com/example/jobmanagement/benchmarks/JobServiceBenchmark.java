@@ -0,0 +1,75 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import com.example.jobmanagement.service.JobService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link JobService} operations behind the job endpoints, including the database round-trips.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class JobServiceBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int jobCount;
+
+    private BenchmarkEnvironment environment;
+    private JobService jobService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(jobCount);
+        jobService = environment.getBean(JobService.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void removeCreatedJobs() {
+        environment.removeCreatedJobs();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public JobResponse createJob() {
+        return jobService.createJob(Job.builder()
+                .description("Benchmark job")
+                .technician(Technician.builder().techId(environment.randomTechId()).build())
+                .build());
+    }
+
+    @Benchmark
+    public JobResponse createJobAutoAssigned() {
+        return jobService.createJob(Job.builder()
+                .description("Benchmark job")
+                .build());
+    }
+
+    @Benchmark
+    public JobResponse getJobById() {
+        return jobService.getJobById(environment.randomJobId());
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public List<JobResponse> getJobsByStatus() {
+        return jobService.getJobsByStatus(Job.JobStatus.PENDING);
+    }
+
+    @Benchmark
+    public List<JobResponse> getJobsByTechnicianId() {
+        return jobService.getJobsByTechnicianId(environment.randomTechId());
+    }
+}
@@ -0,0 +1,195 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test: a fixed number of clients each send a request, wait for the
+ * response and immediately send the next one. Reports throughput and latency percentiles,
+ * and writes them as JSON so runs in different threading modes can be compared.
+ *
+ * <p>Either targets a running instance ({@code --base-url}) or boots the application
+ * in-process against a seeded H2 database ({@code --embedded-jobs}).
+ *
+ * <pre>
+ * mvn package exec:java@load-test \
+ *     -Dload.args="--base-url=http://localhost:8080 --concurrency=1000 --label=virtual-threads"
+ * </pre>
+ */
+public final class LoadTest {
+    private static final String DEFAULT_PATHS = "/api/jobs/{jobId},/api/jobs/technician/{techId},/api/jobs/page?limit=50";
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseOptions(args);
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        String label = options.getOrDefault("label", options.getOrDefault("profile", "default"));
+        List<String> paths = Arrays.asList(options.getOrDefault("paths", DEFAULT_PATHS).split(","));
+        Path output = Path.of(options.getOrDefault("out", "target/load-" + label + ".json"));
+
+        BenchmarkEnvironment environment = null;
+        String baseUrl = options.get("base-url");
+        int jobCount = Integer.parseInt(options.getOrDefault("jobs", "10000"));
+        if (options.containsKey("embedded-jobs")) {
+            jobCount = Integer.parseInt(options.get("embedded-jobs"));
+            environment = BenchmarkEnvironment.startServer(jobCount, options.getOrDefault("profile", "default"));
+            baseUrl = "http://localhost:" + environment.getPort();
+        }
+        if (baseUrl == null) {
+            throw new IllegalArgumentException("Either --base-url or --embedded-jobs is required");
+        }
+
+        try {
+            Target target = new Target(baseUrl, paths, jobCount,
+                    Math.max(1, jobCount / BenchmarkEnvironment.JOBS_PER_TECHNICIAN));
+            System.out.printf("Warming up %s with %d clients for %s%n", baseUrl, concurrency, warmup);
+            run(target, concurrency, warmup);
+            System.out.printf("Measuring for %s%n", duration);
+            Result result = run(target, concurrency, duration);
+
+            Map<String, Object> report = result.toReport(label, concurrency);
+            System.out.println(report);
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output.toFile(), report);
+            System.out.println("Results written to " + output.toAbsolutePath());
+        } finally {
+            if (environment != null) {
+                environment.close();
+            }
+        }
+    }
+
+    private static Result run(Target target, int concurrency, Duration duration) throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong errors = new AtomicLong();
+        List<long[]> latencies = new ArrayList<>();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        long started = System.nanoTime();
+
+        for (int i = 0; i < concurrency; i++) {
+            LatencyRecorder recorder = new LatencyRecorder();
+            Thread worker = new Thread(() -> {
+                try {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = HttpRequest.newBuilder(target.nextUri())
+                                .timeout(Duration.ofSeconds(60))
+                                .GET()
+                                .build();
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) {
+                                errors.incrementAndGet();
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        recorder.record(System.nanoTime() - start);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    synchronized (latencies) {
+                        latencies.add(recorder.toArray());
+                    }
+                    done.countDown();
+                }
+            }, "load-client-" + i);
+            worker.setDaemon(true);
+            worker.start();
+        }
+        done.await();
+        return new Result(latencies, errors.get(), System.nanoTime() - started);
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    /** Builds request URIs, filling {@code {jobId}} and {@code {techId}} with random seeded IDs. */
+    private record Target(String baseUrl, List<String> paths, int jobCount, int technicianCount) {
+        URI nextUri() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String path = paths.get(random.nextInt(paths.size()))
+                    .replace("{jobId}", String.valueOf(random.nextInt(1, jobCount + 1)))
+                    .replace("{techId}", String.valueOf(random.nextInt(1, technicianCount + 1)));
+            return URI.create(baseUrl + path);
+        }
+    }
+
+    /** Growable per-client latency buffer, so recording needs no synchronization. */
+    private static final class LatencyRecorder {
+        private long[] values = new long[1024];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = nanos;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private record Result(List<long[]> latencies, long errors, long elapsedNanos) {
+        Map<String, Object> toReport(String label, int concurrency) {
+            long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("label", label);
+            report.put("javaVersion", Runtime.version().toString());
+            report.put("concurrency", concurrency);
+            report.put("requests", all.length);
+            report.put("errors", errors);
+            report.put("throughputPerSecond", all.length / (elapsedNanos / 1e9));
+            report.put("latencyMillis", Map.of(
+                    "p50", percentile(all, 0.50),
+                    "p90", percentile(all, 0.90),
+                    "p99", percentile(all, 0.99),
+                    "max", all.length == 0 ? 0.0 : all[all.length - 1] / 1e6));
+            return report;
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0.0;
+            }
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, index)] / 1e6;
+        }
+    }
+}
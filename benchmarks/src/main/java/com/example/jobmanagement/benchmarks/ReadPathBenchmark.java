@@ -0,0 +1,104 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.repository.JobSpecifications;
+import com.example.jobmanagement.repository.TechnicianJobRow;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of one read request served from managed entities with the same request served
+ * from record DTOs built by constructor-expression queries. Each operation runs the query in its own
+ * transaction and serializes the result, as a request does; the technician cache is bypassed.
+ *
+ * <p>Run with the GC profiler to see allocations per request, reported as {@code gc.alloc.rate.norm}
+ * in bytes per operation:
+ * <pre>mvn package exec:exec@jmh -Djmh.args="ReadPathBenchmark -prof gc"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ReadPathBenchmark {
+
+    @Param({"10000", "100000"})
+    public int jobCount;
+
+    private BenchmarkEnvironment environment;
+    private JobRepository jobRepository;
+    private TechnicianRepository technicianRepository;
+    private ObjectMapper objectMapper;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(jobCount);
+        jobRepository = environment.getBean(JobRepository.class);
+        technicianRepository = environment.getBean(TechnicianRepository.class);
+        objectMapper = environment.getBean(ObjectMapper.class);
+        PlatformTransactionManager transactionManager = environment.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void jobByIdAsEntity() {
+        long id = environment.randomJobId();
+        readWrite.executeWithoutResult(status -> write(jobRepository.findById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public void jobByIdAsRecord() {
+        long id = environment.randomJobId();
+        readOnly.executeWithoutResult(status -> write(jobRepository.findResponseById(id).orElseThrow()));
+    }
+
+    @Benchmark
+    public void jobsByTechnicianAsEntities() {
+        long techId = environment.randomTechId();
+        readWrite.executeWithoutResult(status -> write(jobRepository.findAll(JobSpecifications.hasTechnician(techId))));
+    }
+
+    @Benchmark
+    public void jobsByTechnicianAsRecords() {
+        long techId = environment.randomTechId();
+        readOnly.executeWithoutResult(status -> write(jobRepository.findResponsesByTechId(techId)));
+    }
+
+    @Benchmark
+    public void technicianWithJobsAsEntity() {
+        long techId = environment.randomTechId();
+        readWrite.executeWithoutResult(status -> write(technicianRepository.findById(techId).orElseThrow()));
+    }
+
+    @Benchmark
+    public void technicianWithJobsAsRecord() {
+        long techId = environment.randomTechId();
+        readOnly.executeWithoutResult(status ->
+                write(TechnicianJobRow.toResponses(technicianRepository.findRowsByTechId(techId)).get(0)));
+    }
+
+    private void write(Object body) {
+        try {
+            objectMapper.writeValue(OutputStream.nullOutputStream(), body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
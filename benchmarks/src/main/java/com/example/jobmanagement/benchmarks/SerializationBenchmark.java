@@ -0,0 +1,65 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.service.JobService;
+import com.example.jobmanagement.service.TechnicianService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures Jackson serialization of the full job list and of the technician graph (technicians with
+ * their jobs embedded), separately and together with loading the data as {@code GET /api/jobs} does.
+ * Output goes to a discarding stream, matching a response body that is written straight to the socket.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SerializationBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int jobCount;
+
+    private BenchmarkEnvironment environment;
+    private JobService jobService;
+    private ObjectMapper objectMapper;
+    private List<JobResponse> jobs;
+    private List<TechnicianResponse> technicians;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(jobCount);
+        jobService = environment.getBean(JobService.class);
+        objectMapper = environment.getBean(ObjectMapper.class);
+        jobs = jobService.getAllJobs();
+        technicians = environment.getBean(TechnicianService.class).getAllTechnicians();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void serializeJobList() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), jobs);
+    }
+
+    @Benchmark
+    public void serializeTechnicianGraph() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), technicians);
+    }
+
+    @Benchmark
+    public void loadAndSerializeAllJobs() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), jobService.getAllJobs());
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.jobmanagement.benchmarks;
+
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the latency distribution of a job and a technician update written as an existence check
+ * followed by a load and a dirty-checked update, which is what the services used to do, with the same
+ * update written as one conditional statement. Each operation runs in its own transaction, as a request does.
+ *
+ * <p>Sampled rather than averaged, so the report includes the p99 of each path:
+ * <pre>mvn package exec:exec@jmh -Djmh.args="WritePathBenchmark -p jobCount=10000"</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class WritePathBenchmark {
+
+    @Param({"10000", "100000"})
+    public int jobCount;
+
+    private BenchmarkEnvironment environment;
+    private JobRepository jobRepository;
+    private TechnicianRepository technicianRepository;
+    private TransactionTemplate transactionTemplate;
+
+    /** Current version of every seeded job, indexed by ID; seeded jobs start at 0. */
+    private long[] jobVersions;
+
+    /** Makes every update change the row, so the dirty-checked path always writes it. */
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        environment = BenchmarkEnvironment.start(jobCount);
+        jobRepository = environment.getBean(JobRepository.class);
+        technicianRepository = environment.getBean(TechnicianRepository.class);
+        transactionTemplate = new TransactionTemplate(environment.getBean(PlatformTransactionManager.class));
+        jobVersions = new long[jobCount + 1];
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        environment.close();
+    }
+
+    @Benchmark
+    public void updateJobWithPreChecks() {
+        long id = environment.randomJobId();
+        long techId = environment.randomTechId();
+        String description = "Updated " + ++sequence;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!jobRepository.existsById(id) || !technicianRepository.existsById(techId)) {
+                throw new IllegalStateException("Job " + id + " or technician " + techId + " not found");
+            }
+            Job job = jobRepository.findById(id).orElseThrow();
+            job.setTechnician(technicianRepository.getReferenceById(techId));
+            job.setDescription(description);
+            job.setStatus(Job.JobStatus.IN_PROGRESS);
+        });
+    }
+
+    @Benchmark
+    public void updateJobConditional() {
+        int id = (int) environment.randomJobId();
+        long techId = environment.randomTechId();
+        String description = "Updated " + ++sequence;
+        int updated = transactionTemplate.execute(status -> jobRepository.updateDetailsAndTechnician((long) id,
+                jobVersions[id], technicianRepository.getReferenceById(techId), description, Job.JobStatus.IN_PROGRESS,
+                LocalDateTime.of(2024, 1, 1, 0, 0), null));
+        if (updated == 0) {
+            throw new IllegalStateException("Job " + id + " not found");
+        }
+        jobVersions[id]++;
+    }
+
+    @Benchmark
+    public void updateTechnicianWithPreCheck() {
+        long id = environment.randomTechId();
+        String name = "Updated " + ++sequence;
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!technicianRepository.existsById(id)) {
+                throw new IllegalStateException("Technician " + id + " not found");
+            }
+            Technician technician = technicianRepository.findById(id).orElseThrow();
+            technician.setTechName(name);
+            technician.setDoj(LocalDate.of(2021, 1, 1));
+        });
+    }
+
+    @Benchmark
+    public void updateTechnicianConditional() {
+        long id = environment.randomTechId();
+        String name = "Updated " + ++sequence;
+        int updated = transactionTemplate.execute(status ->
+                technicianRepository.updateDetails(id, name, LocalDate.of(2021, 1, 1)));
+        if (updated == 0) {
+            throw new IllegalStateException("Technician " + id + " not found");
+        }
+    }
+}
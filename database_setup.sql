@@ -1,28 +1,79 @@
 -- Drop tables if they exist
+DROP TABLE IF EXISTS job_archive;
+DROP TABLE IF EXISTS job_outbox;
 DROP TABLE IF EXISTS job;
 DROP TABLE IF EXISTS technician;
+DROP SEQUENCE IF EXISTS job_job_id_seq;
+DROP SEQUENCE IF EXISTS job_outbox_id_seq;
 
 -- Create technician table
 CREATE TABLE technician (
     tech_id SERIAL PRIMARY KEY,
     tech_name VARCHAR(100) NOT NULL,
-    doj DATE NOT NULL
+    doj DATE NOT NULL,
+    -- Incremented when the technician's details or any of their jobs change; tags their API responses
+    version BIGINT NOT NULL DEFAULT 0
 );
 
+-- Job IDs are allocated by Hibernate in blocks of 50 (pooled-lo optimizer) so inserts can be batched.
+-- Existing databases: ALTER SEQUENCE job_job_id_seq INCREMENT BY 50;
+CREATE SEQUENCE job_job_id_seq INCREMENT BY 50;
+
 -- Create job table
 CREATE TABLE job (
-    job_id SERIAL PRIMARY KEY,
+    job_id BIGINT PRIMARY KEY DEFAULT nextval('job_job_id_seq'),
     description TEXT NOT NULL,
     tech_id INTEGER NOT NULL,
     created_date TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
     completed_date TIMESTAMP,
     status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED')),
+    version BIGINT NOT NULL DEFAULT 0,
     CONSTRAINT fk_technician
         FOREIGN KEY (tech_id)
         REFERENCES technician(tech_id)
         ON DELETE RESTRICT
 );
 
+-- Indexes backing /api/jobs/search. Each composite index ends with job_id so
+-- sorted pages (ORDER BY <column>, job_id) are read straight from the index.
+-- idx_job_status also serves /api/jobs/status/{status}, which is ordered by job_id.
+CREATE INDEX idx_job_status ON job (status, job_id);
+CREATE INDEX idx_job_status_created ON job (status, created_date, job_id);
+CREATE INDEX idx_job_tech_status_created ON job (tech_id, status, created_date, job_id);
+CREATE INDEX idx_job_created ON job (created_date, job_id);
+CREATE INDEX idx_job_completed ON job (completed_date, job_id) WHERE completed_date IS NOT NULL;
+
+-- Job changes waiting to be relayed, written in the same transaction as the change.
+-- IDs are allocated by Hibernate in blocks of 50, so they are unique but not in commit order.
+CREATE SEQUENCE job_outbox_id_seq INCREMENT BY 50;
+CREATE TABLE job_outbox (
+    id BIGINT PRIMARY KEY,
+    type VARCHAR(10) NOT NULL,
+    job_id BIGINT NOT NULL,
+    tech_id BIGINT,
+    status VARCHAR(20),
+    version BIGINT,
+    previous_tech_id BIGINT,
+    previous_status VARCHAR(20),
+    occurred_at TIMESTAMP NOT NULL
+);
+
+-- Completed jobs past the retention window, one partition per completion month.
+-- The archiver creates missing partitions (job_archive_YYYY_MM) before it moves jobs into them.
+CREATE TABLE job_archive (
+    job_id BIGINT NOT NULL,
+    description TEXT NOT NULL,
+    tech_id BIGINT,
+    created_date TIMESTAMP NOT NULL,
+    completed_date TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL,
+    PRIMARY KEY (job_id, completed_date)
+) PARTITION BY RANGE (completed_date);
+CREATE INDEX idx_job_archive_tech_completed ON job_archive (tech_id, completed_date);
+CREATE INDEX idx_job_archive_completed ON job_archive (completed_date, job_id);
+
 -- Insert sample technicians
 INSERT INTO technician (tech_name, doj) VALUES
     ('John Doe', '2024-01-15'),
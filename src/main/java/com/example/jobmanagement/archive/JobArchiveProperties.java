@@ -0,0 +1,22 @@
+package com.example.jobmanagement.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for moving old completed jobs to the archive, bound from {@code jobs.archive.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jobs.archive")
+public class JobArchiveProperties {
+    /** Whether this node runs the archiver */
+    private boolean enabled = true;
+
+    /** How long a job stays in the job table after it is completed */
+    private Duration retention = Duration.ofDays(365);
+
+    /** Jobs moved per transaction */
+    private int batchSize = 1000;
+}
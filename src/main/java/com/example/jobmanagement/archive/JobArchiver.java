@@ -0,0 +1,114 @@
+package com.example.jobmanagement.archive;
+
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.repository.ArchivedJobRepository;
+import com.example.jobmanagement.repository.JobArchivePartitions;
+import com.example.jobmanagement.repository.JobAssignment;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Moves completed jobs older than the retention window from the {@code job} table to {@code job_archive},
+ * so the job table and its indexes only hold open and recently completed jobs.
+ *
+ * <p>Each batch locks the oldest eligible rows, copies them with one {@code INSERT ... SELECT} and deletes
+ * them with one {@code DELETE}, all in one transaction; batches repeat until no eligible job is left.
+ * Archiving is housekeeping rather than a change to a job, so it is not recorded in the job outbox or
+ * published to event stream subscribers. The dashboard counters drop the moved jobs once a batch commits.
+ */
+@Slf4j
+public class JobArchiver {
+    private final JobArchiveProperties properties;
+    private final JobRepository jobRepository;
+    private final ArchivedJobRepository archivedJobRepository;
+    private final JobArchivePartitions partitions;
+    private final JobStatusCounters jobStatusCounters;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter archived;
+
+    public JobArchiver(JobArchiveProperties properties, JobRepository jobRepository,
+                       ArchivedJobRepository archivedJobRepository, JobArchivePartitions partitions,
+                       JobStatusCounters jobStatusCounters, PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.jobRepository = jobRepository;
+        this.archivedJobRepository = archivedJobRepository;
+        this.partitions = partitions;
+        this.jobStatusCounters = jobStatusCounters;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.archived = Counter.builder(MetricNames.JOB_ARCHIVED)
+                .description("Completed jobs moved to the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Archives every completed job older than the retention window.
+     * Runs once at startup and then every {@code jobs.archive.interval}.
+     * A failed batch is rolled back and retried on the next run; batches committed before it stay archived.
+     * Cached technicians embed their jobs, so they are evicted once any job was moved.
+     *
+     * @return the number of jobs archived
+     */
+    @Scheduled(fixedDelayString = "${jobs.archive.interval:PT1H}")
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TECHNICIANS, allEntries = true, condition = "#result > 0"),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true, condition = "#result > 0")
+    })
+    public synchronized int archive() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        int total = 0;
+        try {
+            LocalDateTime oldest = jobRepository.findOldestCompletedDate();
+            if (oldest == null || !oldest.isBefore(cutoff)) {
+                return 0;
+            }
+            partitions.createMonthlyPartitions(YearMonth.from(oldest), YearMonth.from(cutoff));
+            int moved;
+            do {
+                moved = archiveBatch(cutoff);
+                total += moved;
+            } while (moved == properties.getBatchSize() && !Thread.currentThread().isInterrupted());
+            log.info("Archived {} jobs completed before {}", total, cutoff);
+        } catch (RuntimeException e) {
+            // Swallowed so the schedule continues; the failed batch was rolled back and is retried
+            log.warn("Archiving stopped after {} jobs, retrying on the next run: {}", total, e.getMessage());
+        }
+        return total;
+    }
+
+    /**
+     * Moves one batch in a single transaction.
+     *
+     * @param cutoff only jobs completed before this time
+     * @return the number of jobs moved
+     */
+    private int archiveBatch(LocalDateTime cutoff) {
+        Integer moved = transactionTemplate.execute(status -> {
+            List<JobAssignment> jobs = jobRepository.lockCompletedBefore(cutoff, Limit.of(properties.getBatchSize()));
+            if (jobs.isEmpty()) {
+                return 0;
+            }
+            List<Long> ids = jobs.stream().map(JobAssignment::getJobId).toList();
+            archivedJobRepository.copyFromJobs(ids, LocalDateTime.now());
+            jobRepository.deleteJobsByIds(ids);
+            jobs.forEach(job -> jobStatusCounters.recordDeleted(job.getTechId(), job.getStatus()));
+            return jobs.size();
+        });
+        archived.increment(moved);
+        return moved;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.jobmanagement.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Defers borrowing a pooled connection until a transaction runs its first statement.
+ * Transactions answered from caches or in-memory counters never touch the pool, and the
+ * read-only flag and auto-commit setting requested at transaction start are applied to the
+ * physical connection when it is fetched, so read-only transactions reach the database as
+ * {@code BEGIN READ ONLY}.
+ *
+ * <p>Together with {@code spring.jpa.open-in-view=false} a connection is held only for the
+ * span of a transaction, not for the whole request including response rendering.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * Static so wrapping the data source does not force early creation of this configuration class.
+     * Declares the concrete type so the container sees the order before instantiating it.
+     */
+    @Bean
+    static LazyConnectionPostProcessor lazyConnectionDataSourcePostProcessor() {
+        return new LazyConnectionPostProcessor();
+    }
+
+    /**
+     * Applied after the other data source wrappers, so the lazy proxy is outermost and nothing
+     * beneath it runs for a connection that is never used.
+     */
+    static final class LazyConnectionPostProcessor implements BeanPostProcessor, Ordered {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof LazyConnectionDataSourceProxy)) {
+                return new LazyConnectionDataSourceProxy(dataSource);
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.imports.ImportProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds {@code jobs.import.*} for the CSV imports served at {@code /api/imports}.
+ */
+@Configuration
+@EnableConfigurationProperties(ImportProperties.class)
+public class ImportConfig {
+}
@@ -0,0 +1,33 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.archive.JobArchiveProperties;
+import com.example.jobmanagement.archive.JobArchiver;
+import com.example.jobmanagement.repository.ArchivedJobRepository;
+import com.example.jobmanagement.repository.JobArchivePartitions;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Schedules the {@link JobArchiver} unless {@code jobs.archive.enabled} is false.
+ * With several nodes, running it on one of them is enough; concurrent runs wait for each other's row locks.
+ */
+@Configuration
+@EnableConfigurationProperties(JobArchiveProperties.class)
+public class JobArchiveConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jobs.archive", name = "enabled", matchIfMissing = true)
+    public JobArchiver jobArchiver(JobArchiveProperties properties, JobRepository jobRepository,
+                                   ArchivedJobRepository archivedJobRepository, JobArchivePartitions partitions,
+                                   JobStatusCounters jobStatusCounters, PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        return new JobArchiver(properties, jobRepository, archivedJobRepository, partitions, jobStatusCounters,
+                transactionManager, meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.events.JobEventProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds {@code jobs.events.*} for the job change event stream served at {@code /api/jobs/events}.
+ * Subscriptions are asynchronous requests, so the number of open streams is limited by
+ * {@code server.tomcat.max-connections} rather than by the request thread pool.
+ */
+@Configuration
+@EnableConfigurationProperties(JobEventProperties.class)
+public class JobEventsConfig {
+}
@@ -0,0 +1,21 @@
+package com.example.jobmanagement.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables timing of methods and classes annotated with {@link io.micrometer.core.annotation.Timed}.
+ * Together with the repository, Hikari, Hibernate and HTTP metrics that Spring Boot records
+ * automatically, this splits request latency into serialization, service, and SQL time.
+ * Histogram buckets are configured under {@code management.metrics.distribution}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.events.FileOutboxSink;
+import com.example.jobmanagement.events.InMemoryOutboxSink;
+import com.example.jobmanagement.events.OutboxProperties;
+import com.example.jobmanagement.events.OutboxRelay;
+import com.example.jobmanagement.events.OutboxSink;
+import com.example.jobmanagement.repository.JobOutboxRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Relays the job outbox to the sink selected by {@code jobs.outbox.sink}.
+ * The memory and file sinks are meant for local testing; with {@code sink: custom} the application
+ * provides its own {@link OutboxSink} bean, e.g. a message broker producer.
+ * The relay only runs with {@code jobs.outbox.relay-enabled: true}, and then requires a sink: relayed rows are
+ * deleted from the outbox, so delivering them to a sink nobody reads would lose them.
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jobs.outbox", name = "sink", havingValue = "memory")
+    public InMemoryOutboxSink inMemoryOutboxSink(OutboxProperties properties) {
+        return new InMemoryOutboxSink(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "jobs.outbox", name = "sink", havingValue = "file")
+    public FileOutboxSink fileOutboxSink(OutboxProperties properties, ObjectMapper objectMapper) {
+        return new FileOutboxSink(properties.getFile(), objectMapper);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "jobs.outbox", name = "relay-enabled")
+    public OutboxRelay outboxRelay(OutboxProperties properties, JobOutboxRepository repository, OutboxSink sink,
+                                   PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        OutboxRelay relay = new OutboxRelay(properties, repository, sink, transactionManager, meterRegistry);
+        relay.start();
+        return relay;
+    }
+}
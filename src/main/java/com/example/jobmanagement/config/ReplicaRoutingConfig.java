@@ -0,0 +1,93 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.datasource.ReadYourWritesFilter;
+import com.example.jobmanagement.datasource.ReplicaRoutingDataSource;
+import com.example.jobmanagement.datasource.ReplicaRoutingProperties;
+import com.example.jobmanagement.datasource.ReplicaSet;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+
+/**
+ * Sends read-only transactions to the replicas listed under {@code datasource.routing.replicas}
+ * and everything else to the primary. Replicas are used in round-robin order while they pass
+ * their health checks; when none is available, reads go to the primary. After a client writes,
+ * its reads stay on the primary for {@code datasource.routing.read-your-writes-window}.
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaRoutingProperties.class)
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled")
+public class ReplicaRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaSet replicaSet(ReplicaRoutingProperties properties, DataSourceProperties primary,
+                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        ReplicaSet replicas = ReplicaSet.create(properties, primary);
+        meterRegistry.ifAvailable(registry -> {
+            // Pools are not beans, so Spring Boot does not bind their metrics; they must be set before the pools start
+            replicas.getDataSources().values().forEach(dataSource -> {
+                if (dataSource instanceof HikariDataSource pool) {
+                    pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+                }
+            });
+            Gauge.builder(MetricNames.REPLICAS_HEALTHY, replicas, ReplicaSet::getHealthyCount)
+                    .description("Number of read replicas in rotation")
+                    .register(registry);
+        });
+        replicas.start(properties.getHealthCheckInterval());
+        return replicas;
+    }
+
+    /**
+     * Static so wrapping the data source does not force early creation of this configuration class.
+     * Declares the concrete type so the container sees the order before instantiating it.
+     */
+    @Bean
+    static RoutingPostProcessor replicaRoutingDataSourcePostProcessor(ObjectProvider<ReplicaSet> replicas) {
+        return new RoutingPostProcessor(replicas);
+    }
+
+    /** Applied first, so the router sits directly on the primary pool beneath the other wrappers. */
+    static final class RoutingPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<ReplicaSet> replicas;
+
+        RoutingPostProcessor(ObjectProvider<ReplicaSet> replicas) {
+            this.replicas = replicas;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ReplicaRoutingDataSource)) {
+                return new ReplicaRoutingDataSource(dataSource, replicas.getObject());
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(ReplicaRoutingProperties properties) {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(properties.getReadYourWritesWindow(), Clock.systemUTC()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registration;
+    }
+}
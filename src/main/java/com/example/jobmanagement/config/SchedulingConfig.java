@@ -0,0 +1,13 @@
+package com.example.jobmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables {@code @Scheduled} background tasks, such as reconciling the job status counters.
+ * Tasks run on the scheduler configured through {@code spring.task.scheduling.*}.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,73 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.monitoring.MonitoringDataSource;
+import com.example.jobmanagement.monitoring.SlowStatementLogger;
+import com.example.jobmanagement.monitoring.SqlMonitoringProperties;
+import com.example.jobmanagement.monitoring.StatementCountFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+
+/**
+ * Replaces per-statement SQL echo logging with two cheaper signals: statements slower than
+ * {@code sql.monitoring.slow-threshold} are logged as JSON to the {@code sql.slow} logger, and
+ * the number of statements each endpoint runs is published as {@code http.server.requests.statements}.
+ */
+@Configuration
+@EnableConfigurationProperties(SqlMonitoringProperties.class)
+@ConditionalOnProperty(prefix = "sql.monitoring", name = "enabled", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    /**
+     * Static so wrapping the data source does not force early creation of this configuration class.
+     * Declares the concrete type so the container sees the order before instantiating it.
+     */
+    @Bean
+    static MonitoringPostProcessor monitoringDataSourcePostProcessor(ObjectProvider<SqlMonitoringProperties> properties) {
+        return new MonitoringPostProcessor(properties);
+    }
+
+    /**
+     * Applied right after replica routing, if any, so the monitor sits directly on the pools and only
+     * sees physical connections, whether from the primary or a replica.
+     */
+    static final class MonitoringPostProcessor implements BeanPostProcessor, Ordered {
+        private final ObjectProvider<SqlMonitoringProperties> properties;
+
+        MonitoringPostProcessor(ObjectProvider<SqlMonitoringProperties> properties) {
+            this.properties = properties;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return MonitoringDataSource.wrap(dataSource, properties.getObject(),
+                        new SlowStatementLogger(new ObjectMapper()));
+            }
+            return bean;
+        }
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE + 1;
+        }
+    }
+
+    @Bean
+    public FilterRegistrationBean<StatementCountFilter> statementCountFilter(MeterRegistry meterRegistry,
+                                                                             SqlMonitoringProperties properties) {
+        FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<>(
+                new StatementCountFilter(meterRegistry, properties.getRequestStatementWarnThreshold()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+}
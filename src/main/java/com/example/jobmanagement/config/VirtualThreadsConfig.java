@@ -0,0 +1,35 @@
+package com.example.jobmanagement.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Reports whether the {@code virtual-threads} profile actually took effect.
+ * Spring Boot only switches to virtual threads on Java 21 or later and silently keeps
+ * platform threads otherwise, so a misconfigured deployment is logged as a warning.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual-threads")
+public class VirtualThreadsConfig {
+    private static final int MIN_JAVA_VERSION = 21;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int maximumPoolSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportThreadingMode() {
+        int javaVersion = Runtime.version().feature();
+        if (javaVersion < MIN_JAVA_VERSION) {
+            log.warn("Profile 'virtual-threads' is active but Java {} does not support virtual threads; "
+                    + "requests are served by platform threads. Run on Java {} or later.", javaVersion, MIN_JAVA_VERSION);
+        } else {
+            log.info("Serving requests on virtual threads; database concurrency is capped by a pool of {} connections",
+                    maximumPoolSize);
+        }
+    }
+}
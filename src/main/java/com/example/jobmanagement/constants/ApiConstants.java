@@ -8,6 +8,13 @@ public final class ApiConstants {
     public static final String TECHNICIANS_PATH = API_BASE_PATH + "/technicians";
     public static final String JOBS_PATH = API_BASE_PATH + "/jobs";
 
+    // Pagination
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+
+    // Bulk Operations
+    public static final int MAX_BATCH_SIZE = 10000;
+
     // Error Messages
     public static final String TECHNICIAN_NOT_FOUND = "Technician not found with id: %d";
     public static final String JOB_NOT_FOUND = "Job not found with id: %d";
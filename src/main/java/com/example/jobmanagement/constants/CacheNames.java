@@ -0,0 +1,10 @@
+package com.example.jobmanagement.constants;
+
+public final class CacheNames {
+    private CacheNames() {}
+
+    // Technician Caches
+    public static final String TECHNICIANS = "technicians";
+    public static final String TECHNICIAN_LIST = "technicianList";
+    public static final String TECHNICIAN_EXISTS = "technicianExists";
+}
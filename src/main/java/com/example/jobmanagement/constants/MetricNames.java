@@ -0,0 +1,25 @@
+package com.example.jobmanagement.constants;
+
+public final class MetricNames {
+    private MetricNames() {}
+
+    // Service Timers (tagged with class, method and exception)
+    public static final String JOB_SERVICE = "job.service";
+    public static final String TECHNICIAN_SERVICE = "technician.service";
+
+    // Read replica routing
+    public static final String REPLICAS_HEALTHY = "datasource.replicas.healthy";
+
+    // Job change event stream
+    public static final String JOB_EVENT_SUBSCRIBERS = "jobs.events.subscribers";
+
+    // Job outbox relay
+    public static final String JOB_OUTBOX_RELAYED = "jobs.outbox.relayed";
+    public static final String JOB_OUTBOX_FAILURES = "jobs.outbox.failures";
+
+    // CSV imports (tagged with type and outcome)
+    public static final String IMPORT_ROWS = "jobs.import.rows";
+
+    // Completed jobs moved to job_archive
+    public static final String JOB_ARCHIVED = "jobs.archive.archived";
+}
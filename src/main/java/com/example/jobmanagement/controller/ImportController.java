@@ -0,0 +1,97 @@
+package com.example.jobmanagement.controller;
+
+import com.example.jobmanagement.dto.ImportReport;
+import com.example.jobmanagement.service.ImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Bulk loads technicians and jobs from CSV.
+ * The CSV is the raw request body rather than a multipart upload, so it is read as it arrives
+ * instead of being spooled to disk first.
+ */
+@RestController
+@RequestMapping("/api/imports")
+@RequiredArgsConstructor
+@Tag(name = "Imports", description = "APIs for loading technicians and jobs from CSV")
+public class ImportController {
+    private static final String TEXT_CSV = "text/csv";
+
+    private final ImportService importService;
+
+    /**
+     * Imports technicians from a CSV request body.
+     *
+     * @param csv the request body
+     * @return the import report
+     * @response 200 Import finished; rejected rows are listed in the report
+     * @response 400 Missing or invalid header row
+     * @response 500 A batch could not be written; earlier batches stay imported
+     */
+    @PostMapping(value = "/technicians", consumes = TEXT_CSV)
+    @Operation(summary = "Import technicians from CSV with the columns tech_name and doj")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the report",
+                    content = @Content(schema = @Schema(implementation = ImportReport.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid header row"),
+        @ApiResponse(responseCode = "500", description = "A batch could not be written; earlier batches stay imported")
+    })
+    public ResponseEntity<ImportReport> importTechnicians(InputStream csv) {
+        return respond(importService.importTechnicians(csv));
+    }
+
+    /**
+     * Imports jobs from a CSV request body.
+     *
+     * @param csv the request body
+     * @return the import report
+     * @response 200 Import finished; rejected rows are listed in the report
+     * @response 400 Missing or invalid header row
+     * @response 500 A batch could not be written; earlier batches stay imported
+     */
+    @PostMapping(value = "/jobs", consumes = TEXT_CSV)
+    @Operation(summary = "Import jobs from CSV with the columns description, tech_id, status, created_date "
+            + "and completed_date")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished; rejected rows are listed in the report",
+                    content = @Content(schema = @Schema(implementation = ImportReport.class))),
+        @ApiResponse(responseCode = "400", description = "Missing or invalid header row"),
+        @ApiResponse(responseCode = "500", description = "A batch could not be written; earlier batches stay imported")
+    })
+    public ResponseEntity<ImportReport> importJobs(InputStream csv) {
+        return respond(importService.importJobs(csv));
+    }
+
+    /**
+     * Returns the progress of the imports running on this instance.
+     *
+     * @return a report per running import
+     * @response 200 Progress returned
+     */
+    @GetMapping
+    @Operation(summary = "Get the progress of running imports")
+    public ResponseEntity<List<ImportReport>> getRunningImports() {
+        return ResponseEntity.ok(importService.getRunningImports());
+    }
+
+    private static ResponseEntity<ImportReport> respond(ImportReport report) {
+        HttpStatus status = report.getStatus() == ImportReport.Status.FAILED
+                ? HttpStatus.INTERNAL_SERVER_ERROR
+                : HttpStatus.OK;
+        return ResponseEntity.status(status).body(report);
+    }
+}
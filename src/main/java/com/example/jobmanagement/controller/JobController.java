@@ -1,7 +1,25 @@
 package com.example.jobmanagement.controller;
 
+import com.example.jobmanagement.constants.ApiConstants;
+import com.example.jobmanagement.dto.BatchJobResponse;
+import com.example.jobmanagement.dto.CreateJobRequest;
+import com.example.jobmanagement.dto.CursorPage;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.dto.JobStatusResponse;
+import com.example.jobmanagement.dto.PageResponse;
+import com.example.jobmanagement.dto.StatusTransitionRequest;
+import com.example.jobmanagement.dto.StatusTransitionResponse;
+import com.example.jobmanagement.dto.UpdateJobStatusRequest;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.export.JobExportFormat;
+import com.example.jobmanagement.export.JobExportWriter;
 import com.example.jobmanagement.service.JobService;
+import com.example.jobmanagement.utils.ETags;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,11 +29,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * REST controller for managing jobs in the system.
@@ -27,7 +59,12 @@ import java.util.List;
 @RequiredArgsConstructor
 @Tag(name = "Job Management", description = "APIs for managing jobs")
 public class JobController {
+    private static final MediaType GZIP = new MediaType("application", "gzip");
+    private static final int EXPORT_GZIP_BUFFER_SIZE = 64 * 1024;
+
     private final JobService jobService;
+    private final ObjectMapper objectMapper;
+    private final JobEventBroadcaster jobEventBroadcaster;
 
     /**
      * Retrieves all jobs in the system.
@@ -37,36 +74,167 @@ public class JobController {
      */
     @GetMapping
     @Operation(summary = "Get all jobs")
-    public ResponseEntity<List<Job>> getAllJobs() {
+    public ResponseEntity<List<JobResponse>> getAllJobs() {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
 
+    /**
+     * Retrieves a page of jobs using keyset pagination.
+     *
+     * @param after the ID of the last job from the previous page; omit for the first page
+     * @param limit the maximum number of jobs to return
+     * @return ResponseEntity containing the page of jobs and the cursor for the next page
+     * @response 200 Page of jobs retrieved successfully
+     */
+    @GetMapping("/page")
+    @Operation(summary = "Get a page of jobs using keyset pagination")
+    public ResponseEntity<CursorPage<JobResponse>> getJobsPage(
+            @Parameter(description = "ID of the last job from the previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Maximum number of jobs to return") @RequestParam(defaultValue = "" + ApiConstants.DEFAULT_PAGE_SIZE) int limit) {
+        return ResponseEntity.ok(jobService.getJobsPage(after, limit));
+    }
+
+    /**
+     * Streams all jobs as newline-delimited JSON.
+     * Each job is written as soon as it is read from the database,
+     * so the response size does not affect server memory use.
+     *
+     * @return ResponseEntity streaming one JSON job per line
+     * @response 200 Jobs streamed successfully
+     */
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream all jobs as newline-delimited JSON")
+    public ResponseEntity<StreamingResponseBody> streamAllJobs() {
+        StreamingResponseBody body = outputStream -> {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+            jobService.streamAllJobs(job -> {
+                try {
+                    generator.writeObject(job);
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Exports the jobs matching the filters, with their technicians' names, for reporting.
+     * Rows are read from a database cursor and encoded onto the response as they arrive,
+     * so exports of any size run in constant memory. All filters are applied in SQL.
+     * The filters are checked before the response starts, so an invalid range gets a 400 rather than
+     * a 200 that is cut off.
+     *
+     * @param criteria the filters; date ranges are half-open
+     * @param format CSV, or COLUMNAR for the compact binary format
+     * @param gzip whether to compress the download
+     * @return ResponseEntity streaming the export as an attachment
+     * @response 200 Export streamed successfully
+     * @response 400 Invalid filter or format provided
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export jobs with technician names as CSV or columnar binary")
+    public ResponseEntity<StreamingResponseBody> exportJobs(
+            @ParameterObject JobSearchCriteria criteria,
+            @Parameter(description = "CSV or COLUMNAR") @RequestParam(defaultValue = "CSV") JobExportFormat format,
+            @Parameter(description = "Compress the export with gzip") @RequestParam(defaultValue = "false") boolean gzip) {
+        criteria.validateRanges();
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, EXPORT_GZIP_BUFFER_SIZE) : outputStream;
+            JobExportWriter writer = format.newWriter(target);
+            jobService.exportJobs(criteria, row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.finish();
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+        };
+        String filename = "jobs." + format.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(gzip ? GZIP : format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
     /**
      * Retrieves a specific job by ID.
+     * The response carries an ETag; a request whose {@code If-None-Match} still matches is
+     * answered from the job's version alone. Archived jobs are only found with {@code includeArchived};
+     * their ETag is checked after the job is read.
      *
      * @param id the ID of the job to retrieve
-     * @return ResponseEntity containing the requested job
+     * @param includeArchived whether to look in the job archive if the job is no longer in the job table
+     * @param request the request, to evaluate {@code If-None-Match}
+     * @return ResponseEntity containing the requested job, or null once a 304 has been sent
      * @response 200 Job found and returned successfully
+     * @response 304 Job unchanged since the client's copy
      * @response 404 Job not found with the given ID
      */
     @GetMapping("/{id}")
     @Operation(summary = "Get a job by ID")
-    public ResponseEntity<Job> getJobById(@PathVariable Long id) {
-        return ResponseEntity.ok(jobService.getJobById(id));
+    public ResponseEntity<JobResponse> getJobById(@PathVariable Long id,
+                                                  @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                  WebRequest request) {
+        if (includeArchived) {
+            JobResponse job = jobService.getJobByIdIncludingArchived(id);
+            if (request.checkNotModified(ETags.job(job.version()))) {
+                return null;
+            }
+            return ResponseEntity.ok()
+                    .eTag(ETags.job(job.version()))
+                    .cacheControl(ETags.REVALIDATE)
+                    .body(job);
+        }
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(ETags.job(jobService.getJobVersion(id)))) {
+            return null;
+        }
+        JobResponse job = jobService.getJobById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.job(job.version()))
+                .cacheControl(ETags.REVALIDATE)
+                .body(job);
     }
 
     /**
      * Retrieves all jobs assigned to a specific technician.
+     * The response carries an ETag digested from the IDs and versions of the jobs returned; a request whose
+     * {@code If-None-Match} still matches is answered without a body. The jobs are read from the query cache
+     * when possible. With {@code includeArchived} the technician's archived jobs follow the live ones.
      *
      * @param techId the ID of the technician
-     * @return ResponseEntity containing a list of jobs assigned to the technician
+     * @param includeArchived whether to append the technician's archived jobs
+     * @param request the request, to evaluate {@code If-None-Match}
+     * @return ResponseEntity containing a list of jobs assigned to the technician, or null once a 304 has been sent
      * @response 200 Jobs retrieved successfully
+     * @response 304 Jobs unchanged since the client's copy
      * @response 404 Technician not found with the given ID
      */
     @GetMapping("/technician/{techId}")
     @Operation(summary = "Get jobs by technician ID")
-    public ResponseEntity<List<Job>> getJobsByTechnicianId(@PathVariable Long techId) {
-        return ResponseEntity.ok(jobService.getJobsByTechnicianId(techId));
+    public ResponseEntity<List<JobResponse>> getJobsByTechnicianId(@PathVariable Long techId,
+                                                                   @RequestParam(defaultValue = "false") boolean includeArchived,
+                                                                   WebRequest request) {
+        List<JobResponse> jobs = includeArchived
+                ? jobService.getJobsByTechnicianIdIncludingArchived(techId)
+                : jobService.getJobsByTechnicianId(techId);
+        String eTag = ETags.jobs(jobs);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(ETags.REVALIDATE)
+                .body(jobs);
     }
 
     /**
@@ -79,10 +247,70 @@ public class JobController {
      */
     @GetMapping("/status/{status}")
     @Operation(summary = "Get jobs by status")
-    public ResponseEntity<List<Job>> getJobsByStatus(@PathVariable Job.JobStatus status) {
+    public ResponseEntity<List<JobResponse>> getJobsByStatus(@PathVariable Job.JobStatus status) {
         return ResponseEntity.ok(jobService.getJobsByStatus(status));
     }
 
+    /**
+     * Searches jobs by any combination of status, technician and created/completed date ranges.
+     * Sorting is limited to indexed columns: jobId, createdDate, completedDate and status.
+     *
+     * @param criteria the filters to apply
+     * @param pageable the page number, page size and sort order
+     * @return ResponseEntity containing the requested page of matching jobs
+     * @response 200 Jobs retrieved successfully
+     * @response 400 Invalid filter or sort property provided
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Search jobs by status, technician and date ranges")
+    public ResponseEntity<PageResponse<JobResponse>> searchJobs(
+            @ParameterObject JobSearchCriteria criteria,
+            @ParameterObject @PageableDefault(size = ApiConstants.DEFAULT_PAGE_SIZE, sort = "createdDate",
+                    direction = Sort.Direction.DESC) Pageable pageable) {
+        return ResponseEntity.ok(jobService.searchJobs(criteria, pageable));
+    }
+
+    /**
+     * Streams committed job changes as server-sent events, replacing polling of the job lists.
+     * Each change is sent as a {@code job} event whose ID a reconnecting client passes back in
+     * {@code Last-Event-ID} to receive the changes it missed; if they are no longer available,
+     * a {@code reset} event tells it to reload its state. A comment is sent periodically to keep
+     * idle connections open.
+     *
+     * @param techId only changes to this technician's jobs
+     * @param status only changes to jobs entering or leaving this status
+     * @param lastEventId the ID of the last event the client received
+     * @return the event stream
+     * @response 200 Event stream opened
+     */
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream job changes as server-sent events")
+    public SseEmitter streamJobEvents(
+            @Parameter(description = "Only changes to this technician's jobs") @RequestParam(required = false) Long techId,
+            @Parameter(description = "Only changes to jobs entering or leaving this status")
+            @RequestParam(required = false) Job.JobStatus status,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return jobEventBroadcaster.subscribe(techId, status, lastEventId);
+    }
+
+    /**
+     * Retrieves the number of jobs in each status, overall and per technician.
+     * Intended for dashboards; replaces fetching and counting the per-status job lists.
+     * The counts are kept in memory and reconciled with the database every
+     * {@code jobs.stats.reconcile-interval}, at {@code reconciledAt}. Writes that commit during a
+     * reconciliation can be counted twice or missed until the next one, so the figures are approximate.
+     *
+     * @return ResponseEntity containing the job status summary
+     * @response 200 Summary retrieved successfully
+     */
+    @GetMapping("/stats")
+    @Operation(summary = "Get job counts per status, overall and per technician",
+            description = "Approximate: writes committing during a reconciliation can be counted twice or missed "
+                    + "until the next one, every jobs.stats.reconcile-interval")
+    public ResponseEntity<JobStatsResponse> getJobStats() {
+        return ResponseEntity.ok(jobService.getJobStats());
+    }
+
     /**
      * Creates a new job in the system.
      *
@@ -94,10 +322,26 @@ public class JobController {
      */
     @PostMapping
     @Operation(summary = "Create a new job")
-    public ResponseEntity<Job> createJob(@Valid @RequestBody Job job) {
+    public ResponseEntity<JobResponse> createJob(@Valid @RequestBody Job job) {
         return new ResponseEntity<>(jobService.createJob(job), HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many jobs in one request.
+     * Each item is validated on its own; the response reports which items were created
+     * and why the others were rejected.
+     *
+     * @param requests the jobs to create
+     * @return ResponseEntity containing the per-item outcome
+     * @response 200 Batch processed; see the per-item results
+     * @response 400 Batch exceeds the maximum size
+     */
+    @PostMapping("/batch")
+    @Operation(summary = "Create jobs in bulk")
+    public ResponseEntity<BatchJobResponse> createJobs(@RequestBody List<CreateJobRequest> requests) {
+        return ResponseEntity.ok(jobService.createJobs(requests));
+    }
+
     /**
      * Updates an existing job.
      *
@@ -105,15 +349,54 @@ public class JobController {
      * @param job the updated job data
      * @return ResponseEntity containing the updated job
      * @response 200 Job updated successfully
-     * @response 400 Invalid job data provided
+     * @response 400 Invalid job data or status transition
      * @response 404 Job not found with the given ID
+     * @response 409 The job was modified since the version in the request
      */
     @PutMapping("/{id}")
     @Operation(summary = "Update a job")
-    public ResponseEntity<Job> updateJob(@PathVariable Long id, @Valid @RequestBody Job job) {
+    public ResponseEntity<JobResponse> updateJob(@PathVariable Long id, @Valid @RequestBody Job job) {
         return ResponseEntity.ok(jobService.updateJob(id, job));
     }
 
+    /**
+     * Changes the status of a job if it is still in the expected status.
+     * The check and the change happen in one statement, so two concurrent
+     * transitions of the same job cannot both succeed.
+     *
+     * @param id the ID of the job to update
+     * @param request the expected and the new status
+     * @return ResponseEntity containing the status change and the job's new version
+     * @response 200 Status changed successfully
+     * @response 400 The transition is not allowed
+     * @response 404 Job not found with the given ID
+     * @response 409 The job is no longer in the expected status
+     */
+    @PatchMapping("/{id}/status")
+    @Operation(summary = "Change the status of a job")
+    public ResponseEntity<JobStatusResponse> updateJobStatus(@PathVariable Long id,
+                                                             @Valid @RequestBody UpdateJobStatusRequest request) {
+        return ResponseEntity.ok(jobService.updateJobStatus(id, request.getExpectedStatus(), request.getStatus()));
+    }
+
+    /**
+     * Moves many jobs to one status, e.g. to close a technician's jobs at the end of a shift.
+     * Jobs are selected by ID or by technician, optionally only those in {@code currentStatus}.
+     * All jobs that can move are changed with one UPDATE; the others are reported and left as they are.
+     *
+     * @param request the jobs to change and the target status
+     * @return ResponseEntity containing the per-job outcomes
+     * @response 200 Request processed; see the per-job results
+     * @response 400 Missing or ambiguous selection, or too many jobs selected
+     * @response 404 Technician not found with the given ID
+     */
+    @PostMapping("/status-transitions")
+    @Operation(summary = "Change the status of many jobs")
+    public ResponseEntity<StatusTransitionResponse> transitionStatuses(
+            @Valid @RequestBody StatusTransitionRequest request) {
+        return ResponseEntity.ok(jobService.transitionStatuses(request));
+    }
+
     /**
      * Deletes a job from the system.
      *
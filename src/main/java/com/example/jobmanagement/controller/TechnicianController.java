@@ -1,8 +1,10 @@
 package com.example.jobmanagement.controller;
 
 import com.example.jobmanagement.dto.CreateTechnicianRequest;
+import com.example.jobmanagement.dto.TechnicianResponse;
 import com.example.jobmanagement.entity.Technician;
 import com.example.jobmanagement.service.TechnicianService;
+import com.example.jobmanagement.utils.ETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,11 +31,11 @@ public class TechnicianController {
     @Operation(summary = "Create a new technician")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Technician created successfully",
-                    content = @Content(schema = @Schema(implementation = Technician.class))),
+                    content = @Content(schema = @Schema(implementation = TechnicianResponse.class))),
         @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     @PostMapping
-    public ResponseEntity<Technician> createTechnician(
+    public ResponseEntity<TechnicianResponse> createTechnician(
             @Parameter(description = "Technician details to create", 
                       schema = @Schema(implementation = CreateTechnicianRequest.class))
             @Valid @RequestBody CreateTechnicianRequest request) {
@@ -43,32 +45,38 @@ public class TechnicianController {
     @Operation(summary = "Get a technician by ID")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Found the technician",
-                    content = @Content(schema = @Schema(implementation = Technician.class))),
+                    content = @Content(schema = @Schema(implementation = TechnicianResponse.class))),
+        @ApiResponse(responseCode = "304", description = "Technician unchanged since the client's copy"),
         @ApiResponse(responseCode = "404", description = "Technician not found")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<Technician> getTechnicianById(
+    public ResponseEntity<TechnicianResponse> getTechnicianById(
             @Parameter(description = "ID of technician to fetch") @PathVariable Long id) {
-        return ResponseEntity.ok(technicianService.getTechnicianById(id));
+        // Usually served from the cache; a matching If-None-Match gets a 304 without serializing it
+        TechnicianResponse technician = technicianService.getTechnicianById(id);
+        return ResponseEntity.ok()
+                .eTag(ETags.technician(technician))
+                .cacheControl(ETags.REVALIDATE)
+                .body(technician);
     }
 
     @Operation(summary = "Get all technicians")
     @ApiResponse(responseCode = "200", description = "List of all technicians",
-                content = @Content(schema = @Schema(implementation = Technician.class)))
+                content = @Content(schema = @Schema(implementation = TechnicianResponse.class)))
     @GetMapping
-    public ResponseEntity<List<Technician>> getAllTechnicians() {
+    public ResponseEntity<List<TechnicianResponse>> getAllTechnicians() {
         return ResponseEntity.ok(technicianService.getAllTechnicians());
     }
 
     @Operation(summary = "Update a technician")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Technician updated successfully",
-                    content = @Content(schema = @Schema(implementation = Technician.class))),
+                    content = @Content(schema = @Schema(implementation = TechnicianResponse.class))),
         @ApiResponse(responseCode = "404", description = "Technician not found"),
         @ApiResponse(responseCode = "400", description = "Invalid input")
     })
     @PutMapping("/{id}")
-    public ResponseEntity<Technician> updateTechnician(
+    public ResponseEntity<TechnicianResponse> updateTechnician(
             @Parameter(description = "ID of technician to update") @PathVariable Long id,
             @Parameter(description = "Updated technician details") @Valid @RequestBody Technician technician) {
         return ResponseEntity.ok(technicianService.updateTechnician(id, technician));
@@ -0,0 +1,52 @@
+package com.example.jobmanagement.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Lets code on the current thread keep read-only transactions on the primary.
+ *
+ * <p>The decision is made when a transaction fetches its connection, i.e. at its first statement,
+ * so the pin must be in place before the transaction runs any SQL.
+ */
+public final class DataSourceRouting {
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private DataSourceRouting() {}
+
+    /**
+     * Runs an action with every connection it fetches taken from the primary.
+     * Use it for reads that must not lag behind writes, such as rebuilding in-memory state or filling a cache.
+     *
+     * @param action the action to run
+     * @param <T> the result type
+     * @return the result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        boolean pinned = pin();
+        try {
+            return action.get();
+        } finally {
+            if (pinned) {
+                unpin();
+            }
+        }
+    }
+
+    /** @return whether connections fetched on this thread must come from the primary */
+    public static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    /** Pins the current thread to the primary; returns false if it already was, so nested calls leave it pinned. */
+    static boolean pin() {
+        if (isPinnedToPrimary()) {
+            return false;
+        }
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return true;
+    }
+
+    static void unpin() {
+        PINNED_TO_PRIMARY.remove();
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.jobmanagement.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Keeps a client's reads on the primary for a short window after it writes, so it does not
+ * read a replica that has not caught up with its own change yet.
+ *
+ * <p>Any request other than GET, HEAD or OPTIONS sets a cookie holding the end of the window;
+ * requests carrying an unexpired cookie are pinned to the primary. Clients that do not keep
+ * cookies get no stickiness.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    /** Cookie holding the time, in epoch milliseconds, until which the client reads from the primary. */
+    public static final String COOKIE_NAME = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = clock.millis();
+        boolean stick;
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            stick = stickyUntil(request) > now;
+        } else {
+            // Set before the chain runs, while the response headers can still be written
+            Cookie cookie = new Cookie(COOKIE_NAME, Long.toString(now + window.toMillis()));
+            cookie.setPath("/");
+            cookie.setHttpOnly(true);
+            cookie.setMaxAge((int) Math.max(1, (window.toMillis() + 999) / 1000));
+            response.addCookie(cookie);
+            stick = true;
+        }
+
+        boolean pinned = stick && DataSourceRouting.pin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                DataSourceRouting.unpin();
+            }
+        }
+    }
+
+    private static long stickyUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
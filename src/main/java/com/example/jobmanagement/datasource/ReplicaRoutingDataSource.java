@@ -0,0 +1,65 @@
+package com.example.jobmanagement.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Sends read-only transactions to a healthy replica and everything else to the primary.
+ *
+ * <p>The route is chosen when a connection is fetched, so this data source must sit beneath a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the proxy delays the
+ * fetch until the first statement, by which time the transaction's read-only flag is known.
+ * Reads fall back to the primary when no replica is healthy, when a replica cannot hand out a
+ * connection, and while the thread is pinned through {@link DataSourceRouting}.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+    private final DataSource primary;
+    private final ReplicaSet replicas;
+
+    /**
+     * @param primary the data source for writes and pinned reads
+     * @param replicas the replicas for read-only transactions
+     */
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicas) {
+        this.primary = primary;
+        this.replicas = replicas;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || DataSourceRouting.isPinnedToPrimary()) {
+            return primary.getConnection();
+        }
+        ReplicaSet.Replica replica = replicas.next();
+        if (replica == null) {
+            return primary.getConnection();
+        }
+        try {
+            return replica.dataSource.getConnection();
+        } catch (SQLException e) {
+            replicas.markDown(replica, e);
+            return primary.getConnection();
+        }
+    }
+
+    /** Connections for explicit credentials always come from the primary. */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /** Unwraps to the primary, so its pool metrics and health indicator keep working. */
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jobmanagement.datasource;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration for routing read-only transactions to replicas, bound from {@code datasource.routing.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "datasource.routing")
+public class ReplicaRoutingProperties {
+    /** Whether read-only transactions are routed to the replicas at all */
+    private boolean enabled = false;
+
+    /** Read replicas, used in round-robin order */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /** Maximum number of connections in each replica's pool */
+    private int maximumPoolSize = 10;
+
+    /** How often each replica is checked */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /** How long a health check or a replica connection attempt may take before the replica is marked down */
+    private Duration healthCheckTimeout = Duration.ofSeconds(1);
+
+    /** How long a client's reads stay on the primary after it writes, so it sees its own changes */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Connection settings of one replica. Username and password default to {@code spring.datasource.*}.
+     */
+    @Data
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
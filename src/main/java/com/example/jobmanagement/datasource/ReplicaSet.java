@@ -0,0 +1,173 @@
+package com.example.jobmanagement.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The read replicas, handed out in round-robin order while they pass their health checks.
+ *
+ * <p>Each replica is checked every {@code health-check-interval} with {@link Connection#isValid}.
+ * A replica that fails a check, or fails to hand out a connection to a request, is skipped until
+ * a later check succeeds again.
+ */
+@Slf4j
+public class ReplicaSet implements AutoCloseable {
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final int healthCheckTimeoutSeconds;
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * @param replicas the replica data sources by name, in round-robin order
+     * @param healthCheckTimeout how long a health check may take
+     */
+    public ReplicaSet(Map<String, DataSource> replicas, Duration healthCheckTimeout) {
+        this.replicas = new ArrayList<>();
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creates a Hikari pool per configured replica. Pools start lazily and do not fail startup
+     * when a replica is unreachable; such a replica is simply marked down by its first check.
+     *
+     * @param properties the replica settings
+     * @param primary the primary's settings, supplying the default username and password
+     * @return the replica set, not yet started
+     */
+    public static ReplicaSet create(ReplicaRoutingProperties properties, DataSourceProperties primary) {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        int index = 1;
+        for (ReplicaRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + index);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(StringUtils.hasText(replica.getUsername()) ? replica.getUsername() : primary.determineUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.determinePassword());
+            pool.setMaximumPoolSize(properties.getMaximumPoolSize());
+            pool.setConnectionTimeout(Math.max(250, properties.getHealthCheckTimeout().toMillis()));
+            pool.setInitializationFailTimeout(-1);
+            pool.setReadOnly(true);
+            dataSources.put(pool.getPoolName(), pool);
+            index++;
+        }
+        return new ReplicaSet(dataSources, properties.getHealthCheckTimeout());
+    }
+
+    /**
+     * Checks every replica once, then keeps checking them in the background.
+     *
+     * @param interval the delay between checks
+     */
+    public void start(Duration interval) {
+        checkHealth();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, interval.toMillis(), interval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Picks the next healthy replica in round-robin order.
+     *
+     * @return the replica, or null if none is healthy
+     */
+    Replica next() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /** Takes a replica out of rotation until its next successful health check. */
+    void markDown(Replica replica, Exception cause) {
+        if (replica.healthy || !replica.checked) {
+            replica.healthy = false;
+            log.warn("Replica {} marked down: {}", replica.name, cause.getMessage());
+        }
+    }
+
+    /** Runs one health check of every replica. */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(healthCheckTimeoutSeconds)) {
+                    if (!replica.healthy) {
+                        replica.healthy = true;
+                        log.info("Replica {} is healthy", replica.name);
+                    }
+                } else {
+                    markDown(replica, new SQLException("connection is not valid"));
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e);
+            }
+            replica.checked = true;
+        }
+    }
+
+    /** @return the replica data sources by name, e.g. to publish their pool metrics */
+    public Map<String, DataSource> getDataSources() {
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    /** @return the number of replicas currently in rotation */
+    public long getHealthyCount() {
+        return replicas.stream().filter(replica -> replica.healthy).count();
+    }
+
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    /** A replica and its last known health. Replicas start out of rotation until their first check. */
+    static final class Replica {
+        final String name;
+        final DataSource dataSource;
+        volatile boolean healthy;
+        volatile boolean checked;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the response of a bulk job creation request.
+ */
+@Data
+@Builder
+public class BatchJobResponse {
+    /** Number of items in the request */
+    private int requested;
+
+    /** Number of jobs created */
+    private int created;
+
+    /** Number of items rejected */
+    private int failed;
+
+    /** Per-item outcomes, in request order */
+    private List<BatchJobResult> results;
+}
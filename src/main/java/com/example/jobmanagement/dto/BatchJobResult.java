@@ -0,0 +1,23 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object describing the outcome of one item in a bulk job creation request.
+ */
+@Data
+@Builder
+public class BatchJobResult {
+    /** Zero-based position of the item in the request */
+    private int index;
+
+    /** Whether the job was created */
+    private boolean success;
+
+    /** ID of the created job. Null if the item failed. */
+    private Long jobId;
+
+    /** Reason the item failed. Null if the job was created. */
+    private String error;
+}
@@ -0,0 +1,29 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a single job in a bulk creation request.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CreateJobRequest {
+    @NotBlank(message = "Job description is required")
+    @Size(max = Job.DESCRIPTION_LENGTH, message = "Job description must be at most 255 characters")
+    private String description;
+
+    @NotNull(message = "Technician ID is required")
+    private Long techId;
+
+    /** Initial status of the job. Defaults to PENDING when not provided. */
+    private Job.JobStatus status;
+}
@@ -1,8 +1,10 @@
 package com.example.jobmanagement.dto;
 
+import com.example.jobmanagement.entity.Technician;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
 import lombok.Data;
 
 import java.time.LocalDate;
@@ -10,6 +12,7 @@ import java.time.LocalDate;
 @Data
 public class CreateTechnicianRequest {
     @NotBlank(message = "Technician name is required")
+    @Size(max = Technician.NAME_LENGTH, message = "Technician name must be at most 100 characters")
     private String techName;
 
     @NotNull(message = "Date of joining is required")
@@ -0,0 +1,23 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for keyset-paginated responses.
+ * The cursor is the id of the last item returned, so the next page can be
+ * fetched with an index range scan instead of an OFFSET.
+ *
+ * @param <T> the type of the items in the page
+ */
+@Data
+@Builder
+public class CursorPage<T> {
+    /** Items in this page, ordered by ascending id */
+    private List<T> items;
+
+    /** Cursor to pass as {@code after} to fetch the next page. Null if this is the last page. */
+    private Long nextCursor;
+}
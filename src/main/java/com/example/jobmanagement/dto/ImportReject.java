@@ -0,0 +1,13 @@
+package com.example.jobmanagement.dto;
+
+import java.util.List;
+
+/**
+ * A CSV row that was not imported.
+ *
+ * @param line the line of the upload the row starts on, counting the header as line 1
+ * @param error why the row was rejected
+ * @param values the row's fields as read
+ */
+public record ImportReject(long line, String error, List<String> values) {
+}
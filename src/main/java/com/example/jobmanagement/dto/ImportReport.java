@@ -0,0 +1,71 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Data Transfer Object describing a CSV import, while it runs or once it has finished.
+ */
+@Data
+@Builder
+public class ImportReport {
+    /** Identifies the import in progress reports and logs */
+    private long id;
+
+    /** What is being imported */
+    private Type type;
+
+    /** Whether the import is still running, finished, or stopped by an error */
+    private Status status;
+
+    /** How rows are written to the database. Null until the first batch is written. */
+    private Method method;
+
+    /** When the import started */
+    private LocalDateTime startedAt;
+
+    /** Time spent so far, or in total once finished */
+    private long elapsedMillis;
+
+    /** Data rows read from the upload, excluding the header */
+    private long rowsRead;
+
+    /** Rows written and committed */
+    private long imported;
+
+    /** Rows skipped because they failed validation */
+    private long rejected;
+
+    /** Rows read per second of elapsed time */
+    private double rowsPerSecond;
+
+    /** Why the import stopped. Null unless the status is FAILED. */
+    private String error;
+
+    /** The rejected rows, up to {@code jobs.import.max-reported-rejects} of them, in upload order */
+    private List<ImportReject> rejects;
+
+    public enum Type {
+        TECHNICIANS,
+        JOBS
+    }
+
+    public enum Status {
+        /** Rows are still being read */
+        RUNNING,
+        /** Every row was imported or rejected */
+        COMPLETED,
+        /** A batch could not be written; batches committed before it stay imported */
+        FAILED
+    }
+
+    public enum Method {
+        /** PostgreSQL's COPY protocol */
+        COPY,
+        /** Batched INSERT statements */
+        BATCH
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * A committed change to a job, pushed to clients subscribed to {@code /api/jobs/events}.
+ * Carries what a client needs to decide whether to refetch the job, not the whole job.
+ *
+ * @param type what happened to the job
+ * @param jobId ID of the job
+ * @param techId technician assigned after the change, null if unassigned or deleted
+ * @param status status after the change, null if deleted
+ * @param version version after the change, null if deleted
+ * @param previousTechId technician assigned before the change, null if unassigned or created
+ * @param previousStatus status before the change, null if created
+ * @param occurredAt when the change was made
+ */
+public record JobChangeEvent(
+        Type type,
+        Long jobId,
+        Long techId,
+        Job.JobStatus status,
+        Long version,
+        Long previousTechId,
+        Job.JobStatus previousStatus,
+        LocalDateTime occurredAt) {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    public static JobChangeEvent created(Long jobId, Long techId, Job.JobStatus status, Long version) {
+        return new JobChangeEvent(Type.CREATED, jobId, techId, status, version, null, null, LocalDateTime.now());
+    }
+
+    public static JobChangeEvent updated(Long jobId, Long previousTechId, Job.JobStatus previousStatus,
+                                         Long techId, Job.JobStatus status, Long version) {
+        return new JobChangeEvent(Type.UPDATED, jobId, techId, status, version, previousTechId, previousStatus,
+                LocalDateTime.now());
+    }
+
+    public static JobChangeEvent deleted(Long jobId, Long previousTechId, Job.JobStatus previousStatus) {
+        return new JobChangeEvent(Type.DELETED, jobId, null, null, null, previousTechId, previousStatus,
+                LocalDateTime.now());
+    }
+
+    /**
+     * Whether a subscriber filtering on a technician and status should see this change.
+     * The state before the change counts too, so a subscriber learns when a job leaves its filter.
+     *
+     * @param techId the technician to filter on, null for any
+     * @param status the status to filter on, null for any
+     * @return true if the change concerns the filter
+     */
+    public boolean matches(Long techId, Job.JobStatus status) {
+        return (techId == null || techId.equals(this.techId) || techId.equals(previousTechId))
+                && (status == null || status == this.status || status == previousStatus);
+    }
+}
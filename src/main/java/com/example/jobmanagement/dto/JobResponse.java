@@ -0,0 +1,40 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * Read model of a job returned by the API.
+ * Read queries build it directly with a constructor expression, so no managed entity,
+ * Hibernate proxy or dirty-checking snapshot is created for it.
+ *
+ * @param jobId unique identifier of the job
+ * @param description description of the job task
+ * @param techId ID of the assigned technician, null if unassigned
+ * @param createdDate date and time when the job was created
+ * @param completedDate date and time when the job was completed, null if not completed
+ * @param status current status of the job
+ * @param version current version, to send back with a full update
+ */
+public record JobResponse(
+        Long jobId,
+        String description,
+        Long techId,
+        LocalDateTime createdDate,
+        LocalDateTime completedDate,
+        Job.JobStatus status,
+        Long version) {
+
+    /**
+     * Creates a response from an entity that was just written.
+     *
+     * @param job the job entity
+     * @return the job response
+     */
+    public static JobResponse from(Job job) {
+        return new JobResponse(job.getJobId(), job.getDescription(),
+                job.getTechnician() != null ? job.getTechnician().getTechId() : null,
+                job.getCreatedDate(), job.getCompletedDate(), job.getStatus(), job.getVersion());
+    }
+}
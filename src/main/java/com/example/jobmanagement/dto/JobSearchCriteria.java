@@ -0,0 +1,60 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.exception.InvalidSearchCriteriaException;
+import io.swagger.v3.oas.annotations.Parameter;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object holding the optional filters of a job search.
+ * Every filter that is set is combined with AND; unset filters are ignored.
+ */
+@Data
+public class JobSearchCriteria {
+    /** Only return jobs with this status */
+    @Parameter(description = "Only return jobs with this status")
+    private Job.JobStatus status;
+
+    /** Only return jobs assigned to this technician */
+    @Parameter(description = "Only return jobs assigned to this technician")
+    private Long techId;
+
+    /** Only return jobs created at or after this time */
+    @Parameter(description = "Only return jobs created at or after this time (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    /** Only return jobs created before this time */
+    @Parameter(description = "Only return jobs created before this time (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+
+    /** Only return jobs completed at or after this time */
+    @Parameter(description = "Only return jobs completed at or after this time (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime completedFrom;
+
+    /** Only return jobs completed before this time */
+    @Parameter(description = "Only return jobs completed before this time (ISO date-time)")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime completedTo;
+
+    /**
+     * Checks that every date range that has both ends starts no later than it ends.
+     *
+     * @throws InvalidSearchCriteriaException if a date range ends before it starts
+     */
+    public void validateRanges() {
+        validateRange("created", createdFrom, createdTo);
+        validateRange("completed", completedFrom, completedTo);
+    }
+
+    private static void validateRange(String name, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidSearchCriteriaException("Invalid " + name + " date range: " + from + " is after " + to);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the job dashboard summary.
+ * Every status is always present in the count maps, with zero if no job has it.
+ */
+@Data
+@Builder
+public class JobStatsResponse {
+    /** Total number of jobs */
+    private long total;
+
+    /** Number of jobs in each status */
+    private Map<Job.JobStatus, Long> byStatus;
+
+    /** Number of jobs in each status, keyed by technician ID. Unassigned jobs are not included. */
+    private Map<Long, Map<Job.JobStatus, Long>> byTechnician;
+
+    /** When the counters were last reconciled against the database. Null before the first run. */
+    private LocalDateTime reconciledAt;
+}
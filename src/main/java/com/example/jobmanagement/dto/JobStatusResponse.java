@@ -0,0 +1,24 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for the outcome of a status change.
+ */
+@Data
+@Builder
+public class JobStatusResponse {
+    /** ID of the job */
+    private Long jobId;
+
+    /** Status before the change */
+    private Job.JobStatus previousStatus;
+
+    /** Status after the change */
+    private Job.JobStatus status;
+
+    /** Version after the change, to send with a subsequent full update */
+    private Long version;
+}
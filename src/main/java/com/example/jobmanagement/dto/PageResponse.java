@@ -0,0 +1,49 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for offset-paginated responses.
+ * Keeps the JSON shape stable instead of serializing Spring's Page implementation.
+ *
+ * @param <T> the type of the items in the page
+ */
+@Data
+@Builder
+public class PageResponse<T> {
+    /** Items in this page */
+    private List<T> content;
+
+    /** Zero-based index of this page */
+    private int page;
+
+    /** Requested page size */
+    private int size;
+
+    /** Total number of items matching the query */
+    private long totalElements;
+
+    /** Total number of pages */
+    private int totalPages;
+
+    /**
+     * Creates a response from a Spring Data page.
+     *
+     * @param page the page to convert
+     * @param <T> the type of the items in the page
+     * @return the page response
+     */
+    public static <T> PageResponse<T> from(Page<T> page) {
+        return PageResponse.<T>builder()
+                .content(page.getContent())
+                .page(page.getNumber())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .build();
+    }
+}
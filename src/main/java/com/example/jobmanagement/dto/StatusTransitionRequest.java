@@ -0,0 +1,32 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for moving many jobs to one status.
+ * Jobs are selected either by ID or by technician, optionally narrowed to a current status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionRequest {
+    /** IDs of the jobs to change; leave empty to select by technician */
+    private List<Long> jobIds;
+
+    /** Technician whose jobs to change; leave null to select by ID */
+    private Long techId;
+
+    /** Only change jobs currently in this status; jobs selected by ID in another status are reported as conflicts */
+    private Job.JobStatus currentStatus;
+
+    @NotNull(message = "Status is required")
+    private Job.JobStatus status;
+}
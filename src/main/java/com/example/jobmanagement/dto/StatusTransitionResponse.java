@@ -0,0 +1,25 @@
+package com.example.jobmanagement.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the response of a bulk status change.
+ */
+@Data
+@Builder
+public class StatusTransitionResponse {
+    /** Number of jobs selected by the request */
+    private int requested;
+
+    /** Number of jobs moved to the target status */
+    private int updated;
+
+    /** Number of jobs that could not be changed */
+    private int failed;
+
+    /** Per-job outcomes, in request order for IDs and in ID order for a technician */
+    private List<StatusTransitionResult> results;
+}
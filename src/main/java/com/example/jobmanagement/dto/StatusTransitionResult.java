@@ -0,0 +1,40 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Data Transfer Object describing what a bulk status change did to one job.
+ */
+@Data
+@Builder
+public class StatusTransitionResult {
+    /** ID of the job */
+    private Long jobId;
+
+    /** What happened to the job */
+    private Outcome outcome;
+
+    /** Status before the request. Null if the job was not found. */
+    private Job.JobStatus previousStatus;
+
+    /** Version after the request. Null if the job was not found. */
+    private Long version;
+
+    /** Reason the job was not changed. Null if it was updated or already in the target status. */
+    private String error;
+
+    public enum Outcome {
+        /** The job moved to the target status */
+        UPDATED,
+        /** The job was already in the target status and was left as it is */
+        UNCHANGED,
+        /** No job has the ID */
+        NOT_FOUND,
+        /** The job is not in the requested current status */
+        CONFLICT,
+        /** The job's status may not move to the target status */
+        INVALID_TRANSITION
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jobmanagement.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Read model of a technician and their jobs returned by the API.
+ * Immutable, so it can be cached and shared between requests.
+ *
+ * @param techId unique identifier of the technician
+ * @param techName name of the technician
+ * @param doj date when the technician joined the organization
+ * @param version current version of the technician's details
+ * @param jobs jobs assigned to the technician, ordered by ID
+ */
+public record TechnicianResponse(
+        Long techId,
+        String techName,
+        LocalDate doj,
+        Long version,
+        List<JobResponse> jobs) {
+
+    public TechnicianResponse {
+        jobs = List.copyOf(jobs);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.jobmanagement.dto;
+
+import com.example.jobmanagement.entity.Job;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a compare-and-set status change.
+ * The change only applies if the job is still in {@code expectedStatus}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateJobStatusRequest {
+    @NotNull(message = "Expected status is required")
+    private Job.JobStatus expectedStatus;
+
+    @NotNull(message = "Status is required")
+    private Job.JobStatus status;
+}
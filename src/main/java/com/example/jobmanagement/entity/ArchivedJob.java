@@ -0,0 +1,55 @@
+package com.example.jobmanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/**
+ * A completed job moved out of the {@code job} table once it is older than the retention window.
+ * Archived jobs are read-only: they keep the ID, technician and version they had when they were moved,
+ * and are only returned by reads that explicitly ask for archived data.
+ * The technician is kept as a plain ID, so archived rows do not prevent deleting a technician.
+ * On PostgreSQL the table is partitioned by month of {@code completed_date}; see the README.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "job_archive", indexes = {
+    @Index(name = "idx_job_archive_tech_completed", columnList = "techId, completedDate"),
+    @Index(name = "idx_job_archive_completed", columnList = "completedDate, jobId")
+})
+public class ArchivedJob {
+    /** ID the job had in the job table */
+    @Id
+    private Long jobId;
+
+    /** Description of the job task */
+    @Column(nullable = false, length = Job.DESCRIPTION_LENGTH)
+    private String description;
+
+    /** ID of the technician the job was assigned to */
+    private Long techId;
+
+    /** Date and time when the job was created */
+    @Column(nullable = false)
+    private LocalDateTime createdDate;
+
+    /** Date and time when the job was completed; the archive is partitioned by this column */
+    @Column(nullable = false)
+    private LocalDateTime completedDate;
+
+    /** Status of the job, always COMPLETED */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Job.JobStatus status;
+
+    /** Version of the job when it was archived */
+    @Column(nullable = false)
+    private Long version;
+
+    /** Date and time when the job was moved to the archive */
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
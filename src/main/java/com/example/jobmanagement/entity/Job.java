@@ -4,28 +4,49 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.time.LocalDateTime;
 
 /**
  * Entity class representing a job in the system.
  * This class maintains information about individual jobs and their assignments to technicians.
  * Jobs can be in one of three states: PENDING, IN_PROGRESS, or COMPLETED.
+ * Kept in the "job" second-level cache region; the technician is cached as its ID.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "job")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "job")
+@Table(name = "job", indexes = {
+    @Index(name = "idx_job_status", columnList = "status, job_id"),
+    @Index(name = "idx_job_status_created", columnList = "status, created_date, job_id"),
+    @Index(name = "idx_job_tech_status_created", columnList = "tech_id, status, created_date, job_id"),
+    @Index(name = "idx_job_created", columnList = "created_date, job_id"),
+    @Index(name = "idx_job_completed", columnList = "completed_date, job_id")
+})
 public class Job {
-    /** Unique identifier for the job */
+    /** Length of the description column; longer descriptions are rejected before they reach the database. */
+    public static final int DESCRIPTION_LENGTH = 255;
+
+    /**
+     * Unique identifier for the job.
+     * Drawn from a sequence in blocks of 50 so inserts can be sent as JDBC batches.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_seq")
+    @SequenceGenerator(name = "job_seq", sequenceName = "job_job_id_seq", allocationSize = 50)
     private Long jobId;
 
     /** Description of the job task */
     @NotBlank(message = "Job description is required")
+    @Size(max = DESCRIPTION_LENGTH, message = "Job description must be at most 255 characters")
+    @Column(length = DESCRIPTION_LENGTH)
     private String description;
 
     /** Technician assigned to this job */
@@ -46,6 +67,15 @@ public class Job {
     @NotNull(message = "Job status is required")
     private JobStatus status;
 
+    /**
+     * Incremented on every update. A full update only applies if the version still matches,
+     * so concurrent writers get a conflict instead of overwriting each other.
+     * Existing rows start at 0 when the column is added.
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     /**
      * Enumeration representing the possible states of a job.
      * A job progresses through these states during its lifecycle.
@@ -56,6 +86,27 @@ public class Job {
         /** Job is currently being worked on */
         IN_PROGRESS,
         /** Job has been finished */
-        COMPLETED
+        COMPLETED;
+
+        /**
+         * Whether a job may move from this status to the given one.
+         * Open jobs may move between PENDING and IN_PROGRESS or be completed; completed jobs are final.
+         * Keeping the current status is always allowed.
+         *
+         * @param target the requested status
+         * @return true if the transition is allowed
+         */
+        public boolean canTransitionTo(JobStatus target) {
+            return target == this || isOpen();
+        }
+
+        /**
+         * Whether a job in this status still counts towards its technician's workload.
+         *
+         * @return true for PENDING and IN_PROGRESS
+         */
+        public boolean isOpen() {
+            return this != COMPLETED;
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.example.jobmanagement.entity;
+
+import com.example.jobmanagement.dto.JobChangeEvent;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A job change waiting to be relayed to external consumers.
+ * Rows are inserted in the same transaction as the change they describe, so a change is recorded
+ * if and only if it commits, and deleted by the relay once a sink has accepted them.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "job_outbox")
+public class JobOutboxEvent {
+    /**
+     * Unique ID of the event; the relay claims rows in ID order.
+     * Drawn from a sequence in blocks of 50 so inserts can be sent in the same JDBC batch as the job.
+     * Each node draws its own blocks before commit, so IDs are not in commit order.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "job_outbox_seq")
+    @SequenceGenerator(name = "job_outbox_seq", sequenceName = "job_outbox_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private JobChangeEvent.Type type;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    private Long techId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Job.JobStatus status;
+
+    private Long version;
+
+    private Long previousTechId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Job.JobStatus previousStatus;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    /**
+     * Creates the outbox row for a change.
+     *
+     * @param event the change
+     * @return a new, unsaved outbox row
+     */
+    public static JobOutboxEvent from(JobChangeEvent event) {
+        return JobOutboxEvent.builder()
+                .type(event.type())
+                .jobId(event.jobId())
+                .techId(event.techId())
+                .status(event.status())
+                .version(event.version())
+                .previousTechId(event.previousTechId())
+                .previousStatus(event.previousStatus())
+                .occurredAt(event.occurredAt())
+                .build();
+    }
+
+    /** @return the change this row records */
+    public JobChangeEvent toEvent() {
+        return new JobChangeEvent(type, jobId, techId, status, version, previousTechId, previousStatus, occurredAt);
+    }
+}
@@ -6,7 +6,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
+import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -16,8 +19,11 @@ import java.util.List;
  * Entity class representing a technician in the job management system.
  * This class maintains the technician's basic information and their assigned jobs.
  * Each technician can have multiple jobs assigned to them at any given time.
+ * Kept in the "technician" second-level cache region; the job collection is not cached.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "technician")
 @Table(name = "technician")
 @Data
 @NoArgsConstructor
@@ -25,6 +31,9 @@ import java.util.List;
 @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer"})
 public class Technician {
+    /** Length of the name column, as in database_setup.sql; longer names are rejected before they reach the database. */
+    public static final int NAME_LENGTH = 100;
+
     /** Unique identifier for the technician */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -32,6 +41,8 @@ public class Technician {
 
     /** Name of the technician */
     @NotBlank(message = "Technician name is required")
+    @Size(max = NAME_LENGTH, message = "Technician name must be at most 100 characters")
+    @Column(length = NAME_LENGTH)
     private String techName;
 
     /** Date when the technician joined the organization */
@@ -39,6 +50,14 @@ public class Technician {
     @PastOrPresent(message = "Date of joining cannot be in the future")
     private LocalDate doj;
 
+    /**
+     * Incremented whenever the technician's details change; clients use it to revalidate cached copies.
+     * Existing rows start at 0 when the column is added.
+     */
+    @Version
+    @Column(columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     /** List of jobs assigned to this technician. Managed bidirectionally. */
     @OneToMany(mappedBy = "technician", cascade = CascadeType.ALL)
     @JsonManagedReference
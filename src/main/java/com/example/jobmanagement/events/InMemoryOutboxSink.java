@@ -0,0 +1,37 @@
+package com.example.jobmanagement.events;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the most recently relayed changes in memory, for local testing.
+ * Older changes are dropped once {@code capacity} is reached.
+ */
+public class InMemoryOutboxSink implements OutboxSink {
+    private final int capacity;
+    private final ArrayDeque<OutboxMessage> messages = new ArrayDeque<>();
+
+    public InMemoryOutboxSink(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void deliver(List<OutboxMessage> batch) {
+        for (OutboxMessage message : batch) {
+            if (messages.size() == capacity) {
+                messages.removeFirst();
+            }
+            messages.addLast(message);
+        }
+    }
+
+    /** @return the retained changes, oldest first */
+    public synchronized List<OutboxMessage> getMessages() {
+        return new ArrayList<>(messages);
+    }
+
+    public synchronized void clear() {
+        messages.clear();
+    }
+}
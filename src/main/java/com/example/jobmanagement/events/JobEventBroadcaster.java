@@ -0,0 +1,375 @@
+package com.example.jobmanagement.events;
+
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.entity.Job;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans committed job changes out to server-sent event subscribers.
+ *
+ * <p>Subscriptions are asynchronous requests, so an idle subscriber holds a connection but no thread.
+ * Each subscriber has a bounded queue drained by a small pool of dispatch threads; publishing never
+ * blocks on a client. A subscriber whose queue fills up is disconnected and resumes from its last
+ * event ID when it reconnects. Each event is serialized once, however many subscribers receive it.
+ *
+ * <p>Writes to a client block while its connection is not draining. A subscriber whose write takes
+ * longer than the send timeout is disconnected, and the pool gets a spare thread until that write
+ * returns, so a stalled client cannot hold up delivery to the others. Spare threads are capped; past
+ * the cap stalled subscribers are still disconnected, but their threads stay blocked until the
+ * writes fail.
+ *
+ * <p>Event IDs increase monotonically and start from a time-based value, so IDs issued before a
+ * restart are never reused. A client resuming from an ID that is no longer in the history, or was
+ * issued by another instance, gets a {@value #RESET_EVENT} event and should reload its state.
+ */
+@Slf4j
+@Component
+public class JobEventBroadcaster {
+    /** Name of the event carrying a {@link JobChangeEvent} */
+    public static final String CHANGE_EVENT = "job";
+
+    /** Name of the event telling a client that events were missed and it should reload its state */
+    public static final String RESET_EVENT = "reset";
+
+    private static final Set<DataWithMediaType> CONNECTED = SseEmitter.event().comment("connected").build();
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("heartbeat").build();
+    private static final Set<DataWithMediaType> RESET = SseEmitter.event().name(RESET_EVENT).data("{}").build();
+
+    private final JobEventProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final Object lock = new Object();
+    /** Recent events, oldest first. Guarded by lock. */
+    private final ArrayDeque<Entry> history = new ArrayDeque<>();
+    /** ID of the last event published. Guarded by lock. */
+    private long lastEventId = System.currentTimeMillis() * 1000;
+    /** Spare dispatch threads currently standing in for stalled writes. Guarded by dispatcher. */
+    private int spareThreads;
+
+    @Autowired
+    public JobEventBroadcaster(JobEventProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this(properties, objectMapper, newDispatcher(properties.getDispatchThreads()));
+        Gauge.builder(MetricNames.JOB_EVENT_SUBSCRIBERS, subscribers, Set::size)
+                .description("Number of open job event subscriptions")
+                .register(meterRegistry);
+    }
+
+    JobEventBroadcaster(JobEventProperties properties, ObjectMapper objectMapper, Executor dispatcher) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Publishes a change once the current transaction commits; immediately if there is none.
+     * Nothing is published for a transaction that rolls back.
+     *
+     * @param event the change
+     */
+    public void publish(JobChangeEvent event) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(event);
+                }
+            });
+        } else {
+            broadcast(event);
+        }
+    }
+
+    /**
+     * Opens a subscription to job changes matching the filters.
+     *
+     * @param techId only changes to this technician's jobs, null for all
+     * @param status only changes to jobs entering or leaving this status, null for all
+     * @param lastEventId the ID of the last event the client received, to resume after it; null for a new stream
+     * @return the emitter to return from the request handler
+     */
+    public SseEmitter subscribe(Long techId, Job.JobStatus status, Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(properties.getTimeout().toMillis());
+        subscribe(emitter, techId, status, lastEventId);
+        return emitter;
+    }
+
+    void subscribe(SseEmitter emitter, Long techId, Job.JobStatus status, Long lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter, techId, status);
+        emitter.onCompletion(subscriber::remove);
+        emitter.onError(error -> subscriber.remove());
+        subscriber.offer(CONNECTED);
+        synchronized (lock) {
+            if (lastEventId != null) {
+                List<Entry> missed = missedSince(lastEventId, subscriber);
+                if (missed == null || missed.size() >= properties.getSubscriberBufferSize()) {
+                    subscriber.offer(RESET);
+                } else {
+                    missed.forEach(entry -> subscriber.offer(entry.event()));
+                }
+            }
+            subscribers.add(subscriber);
+        }
+    }
+
+    /** Returns the matching events after the given ID, or null if some of them are no longer known. */
+    private List<Entry> missedSince(long eventId, Subscriber subscriber) {
+        if (eventId > lastEventId) {
+            return null;
+        }
+        if (eventId < lastEventId && (history.isEmpty() || eventId < history.getFirst().id() - 1)) {
+            return null;
+        }
+        List<Entry> missed = new ArrayList<>();
+        for (Entry entry : history) {
+            if (entry.id() > eventId && entry.change().matches(subscriber.techId, subscriber.status)) {
+                missed.add(entry);
+            }
+        }
+        return missed;
+    }
+
+    void broadcast(JobChangeEvent change) {
+        String json = toJson(change);
+        synchronized (lock) {
+            long id = ++lastEventId;
+            Entry entry = new Entry(id, change, SseEmitter.event()
+                    .id(Long.toString(id))
+                    .name(CHANGE_EVENT)
+                    .data(json)
+                    .build());
+            history.addLast(entry);
+            if (history.size() > properties.getHistorySize()) {
+                history.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                if (change.matches(subscriber.techId, subscriber.status)) {
+                    subscriber.offer(entry.event());
+                }
+            }
+        }
+    }
+
+    /**
+     * Sends a comment to every subscriber, so proxies keep idle connections open and
+     * connections closed by clients are detected.
+     */
+    @Scheduled(fixedDelayString = "${jobs.events.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    /** Disconnects subscribers whose current write has blocked for longer than the send timeout. */
+    @Scheduled(fixedDelayString = "${jobs.events.stall-check-interval:PT1S}")
+    public void disconnectStalled() {
+        disconnectStalled(System.nanoTime());
+    }
+
+    void disconnectStalled(long now) {
+        long timeout = properties.getSendTimeout().toNanos();
+        subscribers.forEach(subscriber -> subscriber.disconnectIfStalled(now, timeout));
+    }
+
+    /** @return the number of open subscriptions */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /** Ends every subscription, so shutdown does not wait for them to time out. */
+    @PreDestroy
+    public void close() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Adds a dispatch thread while a stalled write holds one, unless the spare threads are at their cap.
+     * Only the broadcaster's own pool is resized.
+     *
+     * @return whether a thread was added, to be removed with {@link #removeSpareThread()}
+     */
+    private boolean addSpareThread() {
+        if (!(dispatcher instanceof ThreadPoolExecutor pool)) {
+            return false;
+        }
+        synchronized (dispatcher) {
+            if (spareThreads >= properties.getMaxSpareDispatchThreads()) {
+                return false;
+            }
+            spareThreads++;
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() + 1);
+            pool.setCorePoolSize(pool.getCorePoolSize() + 1);
+            return true;
+        }
+    }
+
+    /** Removes a thread added by {@link #addSpareThread()} once the stalled write has returned. */
+    private void removeSpareThread() {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) dispatcher;
+        synchronized (dispatcher) {
+            spareThreads--;
+            pool.setCorePoolSize(pool.getCorePoolSize() - 1);
+            pool.setMaximumPoolSize(pool.getMaximumPoolSize() - 1);
+        }
+    }
+
+    private String toJson(JobChangeEvent change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ExecutorService newDispatcher(int threads) {
+        AtomicInteger count = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "job-events-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /** A published change and its serialized form. */
+    private record Entry(long id, JobChangeEvent change, Set<DataWithMediaType> event) {}
+
+    /** One open subscription and the events queued for it. */
+    private final class Subscriber {
+        final SseEmitter emitter;
+        final Long techId;
+        final Job.JobStatus status;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        /** When the write in progress started, 0 if none. Guarded by this. */
+        private long sendStartedAt;
+        /** Whether the write in progress was declared stalled. Guarded by this. */
+        private boolean stalled;
+        /** Whether a spare thread was added for the stalled write, to remove when it returns. Guarded by this. */
+        private boolean holdsSpareThread;
+
+        Subscriber(SseEmitter emitter, Long techId, Job.JobStatus status) {
+            this.emitter = emitter;
+            this.techId = techId;
+            this.status = status;
+            this.queue = new ArrayBlockingQueue<>(properties.getSubscriberBufferSize());
+        }
+
+        /** Queues an event without blocking; disconnects the subscriber if its queue is full. */
+        void offer(Set<DataWithMediaType> event) {
+            if (!queue.offer(event)) {
+                log.debug("Disconnecting job event subscriber that fell {} events behind", queue.size());
+                remove();
+                emitter.complete();
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down; the subscription is being closed anyway
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> event;
+                while ((event = queue.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away or the emitter completed; the container reports the rest
+                remove();
+                queue.clear();
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private void send(Set<DataWithMediaType> event) throws IOException {
+            synchronized (this) {
+                sendStartedAt = System.nanoTime();
+            }
+            try {
+                emitter.send(event);
+            } finally {
+                boolean heldSpareThread;
+                synchronized (this) {
+                    sendStartedAt = 0;
+                    stalled = false;
+                    heldSpareThread = holdsSpareThread;
+                    holdsSpareThread = false;
+                }
+                if (heldSpareThread) {
+                    removeSpareThread();
+                }
+            }
+        }
+
+        /** Disconnects the subscriber if its write in progress started more than {@code timeout} before {@code now}. */
+        void disconnectIfStalled(long now, long timeout) {
+            synchronized (this) {
+                if (sendStartedAt == 0 || stalled || now - sendStartedAt <= timeout) {
+                    return;
+                }
+                stalled = true;
+                holdsSpareThread = addSpareThread();
+                if (!holdsSpareThread) {
+                    log.warn("No spare job event dispatch thread left; a stalled write holds one until it fails");
+                }
+            }
+            log.debug("Disconnecting job event subscriber whose write has blocked for over {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(timeout));
+            remove();
+            queue.clear();
+            emitter.completeWithError(new IOException("Write to job event subscriber timed out"));
+        }
+
+        void remove() {
+            subscribers.remove(this);
+        }
+    }
+}
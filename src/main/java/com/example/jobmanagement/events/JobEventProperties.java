@@ -0,0 +1,37 @@
+package com.example.jobmanagement.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for the job change event stream, bound from {@code jobs.events.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jobs.events")
+public class JobEventProperties {
+    /** Number of recent events kept so reconnecting clients can resume from their last event ID */
+    private int historySize = 10_000;
+
+    /** Events queued for one subscriber before it is disconnected as too slow */
+    private int subscriberBufferSize = 256;
+
+    /** How long a subscription stays open; clients reconnect with their last event ID afterwards */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /** Threads writing queued events to subscribers */
+    private int dispatchThreads = 2;
+
+    /**
+     * How long one write to a subscriber may block before the subscriber is disconnected as stalled.
+     * Its dispatch thread is replaced until the write returns, so other subscribers are not held up.
+     */
+    private Duration sendTimeout = Duration.ofSeconds(5);
+
+    /**
+     * Spare threads that may stand in for dispatch threads blocked in stalled writes at the same time.
+     * Further stalled subscribers are still disconnected, but their threads are not replaced.
+     */
+    private int maxSpareDispatchThreads = 2;
+}
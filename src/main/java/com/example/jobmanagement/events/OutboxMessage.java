@@ -0,0 +1,14 @@
+package com.example.jobmanagement.events;
+
+import com.example.jobmanagement.dto.JobChangeEvent;
+
+/**
+ * A job change handed to an {@link OutboxSink}.
+ *
+ * @param id the outbox ID, unique per change. IDs are allocated per node in blocks and before commit, so they are
+ *           not in commit order: deduplicate redeliveries on the exact ID (or on job ID and version), never on
+ *           the highest ID seen so far, which would drop changes that commit later with a lower ID
+ * @param event the change
+ */
+public record OutboxMessage(long id, JobChangeEvent event) {
+}
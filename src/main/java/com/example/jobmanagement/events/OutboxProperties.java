@@ -0,0 +1,41 @@
+package com.example.jobmanagement.events;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration for the job outbox relay, bound from {@code jobs.outbox.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jobs.outbox")
+public class OutboxProperties {
+    /**
+     * Whether this node relays the outbox. Off by default: relayed rows are deleted, so the relay should only
+     * run once {@link #sink} names where changes are kept. Until then rows accumulate in the outbox table.
+     */
+    private boolean relayEnabled = false;
+
+    /** Concurrent relay workers on this node, each claiming its own batches */
+    private int workers = 2;
+
+    /** Outbox rows claimed, delivered and deleted per transaction */
+    private int batchSize = 500;
+
+    /** How long a worker waits before polling again once the outbox is drained */
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /**
+     * Where changes are delivered: custom for an application-provided {@link OutboxSink} bean, or memory and file
+     * for local testing. Has no default; enabling the relay without a sink fails at startup.
+     */
+    private String sink;
+
+    /** Changes kept by the memory sink */
+    private int memoryCapacity = 10_000;
+
+    /** File the file sink appends to */
+    private Path file = Path.of("job-outbox.jsonl");
+}
@@ -0,0 +1,120 @@
+package com.example.jobmanagement.events;
+
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import com.example.jobmanagement.repository.JobOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Moves job changes from the outbox table to an {@link OutboxSink}.
+ *
+ * <p>Each worker repeatedly claims the oldest unclaimed batch with {@code SELECT ... FOR UPDATE SKIP LOCKED},
+ * delivers it and deletes it in the same transaction, until the outbox is empty; then it waits for
+ * the poll interval. Workers never wait for each other's locks, so throughput grows with the number
+ * of workers across all nodes until the sink or the database is saturated. A batch whose delivery
+ * fails is rolled back, stays in the outbox and is retried on the next poll.
+ */
+@Slf4j
+public class OutboxRelay implements AutoCloseable {
+    private final OutboxProperties properties;
+    private final JobOutboxRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayed;
+    private final Counter failures;
+    private ScheduledExecutorService workers;
+
+    public OutboxRelay(OutboxProperties properties, JobOutboxRepository repository, OutboxSink sink,
+                       PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.repository = repository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.relayed = Counter.builder(MetricNames.JOB_OUTBOX_RELAYED)
+                .description("Job changes delivered from the outbox")
+                .register(meterRegistry);
+        this.failures = Counter.builder(MetricNames.JOB_OUTBOX_FAILURES)
+                .description("Outbox batches that could not be delivered and will be retried")
+                .register(meterRegistry);
+    }
+
+    /** Starts the configured number of workers. */
+    public void start() {
+        AtomicInteger count = new AtomicInteger();
+        workers = Executors.newScheduledThreadPool(properties.getWorkers(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = properties.getPollInterval().toMillis();
+        for (int i = 0; i < properties.getWorkers(); i++) {
+            workers.scheduleWithFixedDelay(this::drain, 0, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /** Relays batches until the outbox is empty or a delivery fails. */
+    void drain() {
+        try {
+            while (relayBatch() == properties.getBatchSize() && !Thread.currentThread().isInterrupted()) {
+                // Keep going while full batches are available
+            }
+        } catch (RuntimeException e) {
+            // Swallowed so the worker keeps its schedule; the batch was rolled back and is retried
+            failures.increment();
+            log.warn("Outbox relay failed, retrying in {}: {}", properties.getPollInterval(), e.getMessage());
+        }
+    }
+
+    /**
+     * Claims, delivers and deletes one batch in a single transaction.
+     *
+     * @return the number of changes relayed; 0 if no unclaimed rows are left
+     */
+    int relayBatch() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<JobOutboxEvent> batch = repository.lockNextBatch(properties.getBatchSize());
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            List<Long> ids = new ArrayList<>(batch.size());
+            for (JobOutboxEvent row : batch) {
+                messages.add(new OutboxMessage(row.getId(), row.toEvent()));
+                ids.add(row.getId());
+            }
+            deliver(messages);
+            repository.deleteByIds(ids);
+            return batch.size();
+        });
+        relayed.increment(count);
+        return count;
+    }
+
+    private void deliver(List<OutboxMessage> messages) {
+        try {
+            sink.deliver(messages);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Outbox sink rejected " + messages.size() + " changes", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jobmanagement.events;
+
+import java.util.List;
+
+/**
+ * Destination the {@link OutboxRelay} delivers job changes to, e.g. a message broker.
+ *
+ * <p>Delivery is at least once: a batch is removed from the outbox only after {@link #deliver}
+ * returns, and is delivered again if it throws or the node stops in between. Batches claimed by
+ * different relay workers may be delivered concurrently and out of order with each other, so
+ * consumers should order changes to the same job by {@link com.example.jobmanagement.dto.JobChangeEvent#version()}.
+ */
+public interface OutboxSink {
+    /**
+     * Delivers a batch of changes.
+     *
+     * @param messages the changes in outbox order
+     * @throws Exception if the batch could not be delivered; it is retried on the next poll
+     */
+    void deliver(List<OutboxMessage> messages) throws Exception;
+}
@@ -4,9 +4,12 @@ import com.example.jobmanagement.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
@@ -99,6 +102,46 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Handles search criteria that cannot be applied, such as unsupported sort properties or inverted date ranges.
+     *
+     * @param ex the InvalidSearchCriteriaException that was thrown
+     * @param request the request in which the exception occurred
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler(InvalidSearchCriteriaException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidSearchCriteriaException(
+            InvalidSearchCriteriaException ex,
+            HttpServletRequest request) {
+        log.warn("Invalid search criteria: {}", ex.getMessage());
+        return createErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                request.getRequestURI(),
+                "Bad Request"
+        );
+    }
+
+    /**
+     * Handles requests that cannot be processed as sent, such as oversized batches or unreadable uploads.
+     *
+     * @param ex the InvalidRequestException that was thrown
+     * @param request the request in which the exception occurred
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequestException(
+            InvalidRequestException ex,
+            HttpServletRequest request) {
+        log.warn("Invalid request: {}", ex.getMessage());
+        return createErrorResponse(
+                HttpStatus.BAD_REQUEST,
+                ex.getMessage(),
+                request.getRequestURI(),
+                "Bad Request"
+        );
+    }
+
     @ExceptionHandler(JobNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleJobNotFoundException(
             JobNotFoundException ex,
@@ -125,6 +168,26 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles updates that lost a race with a concurrent change to the same job.
+     *
+     * @param ex the exception that was thrown
+     * @param request the request in which the exception occurred
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler({JobConflictException.class, OptimisticLockingFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConflictException(
+            RuntimeException ex,
+            HttpServletRequest request) {
+        log.warn("Concurrent modification: {}", ex.getMessage());
+        return createErrorResponse(
+                HttpStatus.CONFLICT,
+                ex.getMessage(),
+                request.getRequestURI(),
+                "Conflict"
+        );
+    }
+
     @ExceptionHandler(DataIntegrityViolationException.class)
     public ResponseEntity<ErrorResponse> handleDataIntegrityViolationException(
             DataIntegrityViolationException ex,
@@ -138,6 +201,27 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * Handles failures to obtain a database connection, typically a connection pool timeout under load.
+     * Connections are fetched lazily, so the timeout can surface at transaction start or at the first statement.
+     *
+     * @param ex the exception that was thrown
+     * @param request the request in which the exception occurred
+     * @return ResponseEntity containing error details
+     */
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ErrorResponse> handleConnectionUnavailable(
+            RuntimeException ex,
+            HttpServletRequest request) {
+        log.warn("Could not obtain a database connection: {}", ex.getMessage());
+        return createErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "The service is temporarily overloaded, please retry",
+                request.getRequestURI(),
+                "Service Unavailable"
+        );
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(
             ConstraintViolationException ex,
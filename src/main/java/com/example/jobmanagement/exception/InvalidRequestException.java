@@ -0,0 +1,30 @@
+package com.example.jobmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a request is well-formed but cannot be processed as sent,
+ * such as a batch over the size limit or an upload without a usable header row.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidRequestException extends RuntimeException {
+    /**
+     * Constructs a new InvalidRequestException with a detailed message.
+     *
+     * @param message description of what is wrong with the request
+     */
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new InvalidRequestException with a detailed message and its cause.
+     *
+     * @param message description of what is wrong with the request
+     * @param cause the exception that made the request unusable
+     */
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
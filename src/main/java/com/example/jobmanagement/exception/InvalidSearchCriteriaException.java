@@ -0,0 +1,20 @@
+package com.example.jobmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when job search or export criteria cannot be applied,
+ * such as a date range that ends before it starts or an unsupported sort property.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidSearchCriteriaException extends RuntimeException {
+    /**
+     * Constructs a new InvalidSearchCriteriaException with a detailed message.
+     *
+     * @param message description of the invalid criteria
+     */
+    public InvalidSearchCriteriaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.jobmanagement.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a job was changed by someone else between reading and updating it,
+ * so a conditional update did not apply. The client should re-read the job and retry.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class JobConflictException extends RuntimeException {
+    /**
+     * Constructs a new JobConflictException with a detailed message.
+     *
+     * @param message description of the conflicting change
+     */
+    public JobConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.jobmanagement.export;
+
+import com.example.jobmanagement.repository.JobExportRow;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes jobs in a compact columnar binary format, in row groups of {@value #ROW_GROUP_SIZE} rows.
+ * Only one row group is held in memory, so the size of the export does not matter.
+ *
+ * <p>Layout. A varint is an unsigned LEB128 integer; a zigzag varint encodes a signed value as
+ * {@code (n << 1) ^ (n >> 63)}; a string is a varint byte length followed by UTF-8 bytes.
+ * <pre>
+ * file      := "JOBC" version:byte(1) columnCount:varint name:string{columnCount} group* end:varint(0)
+ * group     := rowCount:varint(&gt;0) job_id description tech_id tech_name created_date completed_date status version
+ * job_id    := zigzag varint per row, the difference from the previous row's ID (the first row's from 0)
+ * description := per row varint (byte length + 1) and UTF-8 bytes; 0 means null
+ * tech_id   := per row varint (ID + 1); 0 means null
+ * tech_name, status := dictionary: entryCount:varint entry:string{entryCount}, then per row varint (index + 1); 0 means null
+ * created_date, completed_date := per row varint; 0 means null, otherwise zigzag of the difference in
+ *                  microseconds since the epoch (the date-time read as UTC) from the previous non-null value, plus 1
+ * version   := varint per row
+ * </pre>
+ * Every value restarts at the beginning of a row group, so groups can be decoded on their own.
+ */
+public class ColumnarJobExportWriter implements JobExportWriter {
+    static final byte[] MAGIC = {'J', 'O', 'B', 'C'};
+    static final int FORMAT_VERSION = 1;
+    static final List<String> COLUMNS = List.of(
+            "job_id", "description", "tech_id", "tech_name", "created_date", "completed_date", "status", "version");
+    static final int ROW_GROUP_SIZE = 8192;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private final long[] jobIds = new long[ROW_GROUP_SIZE];
+    private final String[] descriptions = new String[ROW_GROUP_SIZE];
+    private final Long[] techIds = new Long[ROW_GROUP_SIZE];
+    private final String[] techNames = new String[ROW_GROUP_SIZE];
+    private final LocalDateTime[] createdDates = new LocalDateTime[ROW_GROUP_SIZE];
+    private final LocalDateTime[] completedDates = new LocalDateTime[ROW_GROUP_SIZE];
+    private final String[] statuses = new String[ROW_GROUP_SIZE];
+    private final long[] versions = new long[ROW_GROUP_SIZE];
+    private int rows;
+
+    public ColumnarJobExportWriter(OutputStream outputStream) throws IOException {
+        this.out = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        out.write(MAGIC);
+        out.write(FORMAT_VERSION);
+        writeVarint(COLUMNS.size());
+        for (String column : COLUMNS) {
+            writeString(column);
+        }
+    }
+
+    @Override
+    public void write(JobExportRow row) throws IOException {
+        jobIds[rows] = row.jobId();
+        descriptions[rows] = row.description();
+        techIds[rows] = row.techId();
+        techNames[rows] = row.techName();
+        createdDates[rows] = row.createdDate();
+        completedDates[rows] = row.completedDate();
+        statuses[rows] = row.status().name();
+        versions[rows] = row.version();
+        if (++rows == ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        writeVarint(0);
+        out.flush();
+    }
+
+    private void writeRowGroup() throws IOException {
+        writeVarint(rows);
+        long previousId = 0;
+        for (int i = 0; i < rows; i++) {
+            writeVarint(zigzag(jobIds[i] - previousId));
+            previousId = jobIds[i];
+        }
+        for (int i = 0; i < rows; i++) {
+            if (descriptions[i] == null) {
+                writeVarint(0);
+            } else {
+                byte[] bytes = descriptions[i].getBytes(StandardCharsets.UTF_8);
+                writeVarint(bytes.length + 1L);
+                out.write(bytes);
+            }
+        }
+        for (int i = 0; i < rows; i++) {
+            writeVarint(techIds[i] == null ? 0 : techIds[i] + 1);
+        }
+        writeDictionary(techNames);
+        writeDates(createdDates);
+        writeDates(completedDates);
+        writeDictionary(statuses);
+        for (int i = 0; i < rows; i++) {
+            writeVarint(versions[i]);
+        }
+        Arrays.fill(descriptions, 0, rows, null);
+        Arrays.fill(techNames, 0, rows, null);
+        rows = 0;
+    }
+
+    private void writeDictionary(String[] values) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        int[] indexes = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            indexes[i] = values[i] == null ? 0 : dictionary.computeIfAbsent(values[i], value -> dictionary.size()) + 1;
+        }
+        String[] entries = new String[dictionary.size()];
+        dictionary.forEach((value, index) -> entries[index] = value);
+        writeVarint(entries.length);
+        for (String entry : entries) {
+            writeString(entry);
+        }
+        for (int index : indexes) {
+            writeVarint(index);
+        }
+    }
+
+    private void writeDates(LocalDateTime[] values) throws IOException {
+        long previous = 0;
+        for (int i = 0; i < rows; i++) {
+            if (values[i] == null) {
+                writeVarint(0);
+                continue;
+            }
+            long micros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), values[i]);
+            writeVarint(zigzag(micros - previous) + 1);
+            previous = micros;
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(bytes.length);
+        out.write(bytes);
+    }
+
+    private void writeVarint(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.jobmanagement.export;
+
+import com.example.jobmanagement.repository.JobExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Writes jobs as RFC 4180 CSV with a header row, UTF-8 encoded and CRLF-terminated.
+ * Fields containing a comma, quote or line break are quoted; empty fields are nulls.
+ */
+public class CsvJobExportWriter implements JobExportWriter {
+    static final String HEADER = "job_id,description,tech_id,tech_name,created_date,completed_date,status,version";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public CsvJobExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(JobExportRow row) throws IOException {
+        writer.write(Long.toString(row.jobId()));
+        writer.write(',');
+        writeText(row.description());
+        writer.write(',');
+        if (row.techId() != null) {
+            writer.write(row.techId().toString());
+        }
+        writer.write(',');
+        writeText(row.techName());
+        writer.write(',');
+        writeDate(row.createdDate());
+        writer.write(',');
+        writeDate(row.completedDate());
+        writer.write(',');
+        writer.write(row.status().name());
+        writer.write(',');
+        writer.write(Long.toString(row.version()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        writer.flush();
+    }
+
+    private void writeText(String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeDate(LocalDateTime value) throws IOException {
+        if (value != null) {
+            writer.write(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jobmanagement.export;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Formats jobs can be exported in.
+ */
+public enum JobExportFormat {
+    /** RFC 4180 CSV with a header row */
+    CSV(new MediaType("text", "csv"), "csv"),
+    /** Compact columnar binary, described in {@link ColumnarJobExportWriter} */
+    COLUMNAR(MediaType.APPLICATION_OCTET_STREAM, "jobc");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    JobExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Starts an export onto the given stream, writing any header immediately.
+     *
+     * @param outputStream the stream to write to
+     * @return the writer
+     * @throws IOException if the header cannot be written
+     */
+    public JobExportWriter newWriter(OutputStream outputStream) throws IOException {
+        return this == CSV ? new CsvJobExportWriter(outputStream) : new ColumnarJobExportWriter(outputStream);
+    }
+}
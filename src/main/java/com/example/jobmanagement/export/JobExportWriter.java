@@ -0,0 +1,25 @@
+package com.example.jobmanagement.export;
+
+import com.example.jobmanagement.repository.JobExportRow;
+
+import java.io.IOException;
+
+/**
+ * Encodes exported jobs onto an output stream as they are read.
+ */
+public interface JobExportWriter {
+    /**
+     * Encodes one job. Writers buffer a bounded amount of output before writing it.
+     *
+     * @param row the job
+     * @throws IOException if the output stream fails
+     */
+    void write(JobExportRow row) throws IOException;
+
+    /**
+     * Writes everything still buffered and any trailer, then flushes. Does not close the stream.
+     *
+     * @throws IOException if the output stream fails
+     */
+    void finish() throws IOException;
+}
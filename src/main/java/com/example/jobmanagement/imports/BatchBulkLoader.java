@@ -0,0 +1,44 @@
+package com.example.jobmanagement.imports;
+
+import com.example.jobmanagement.dto.ImportReport;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Inserts rows with a prepared {@code INSERT} sent in JDBC batches of {@value #JDBC_BATCH_SIZE}.
+ * Used for databases without a {@code COPY} API, such as H2 in tests.
+ */
+public class BatchBulkLoader implements BulkLoader {
+    private static final int JDBC_BATCH_SIZE = 1000;
+
+    @Override
+    public ImportReport.Method method() {
+        return ImportReport.Method.BATCH;
+    }
+
+    @Override
+    public void load(Connection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(columns.size(), "?")) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int batched = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    statement.setObject(i + 1, row[i] instanceof Enum<?> constant ? constant.name() : row[i]);
+                }
+                statement.addBatch();
+                if (++batched % JDBC_BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                }
+            }
+            if (batched % JDBC_BATCH_SIZE != 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
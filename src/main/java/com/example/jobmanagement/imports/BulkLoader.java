@@ -0,0 +1,39 @@
+package com.example.jobmanagement.imports;
+
+import com.example.jobmanagement.dto.ImportReport;
+import org.postgresql.PGConnection;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Inserts many rows into one table over a connection taking part in the current transaction.
+ */
+public interface BulkLoader {
+
+    /**
+     * Picks the fastest loader the connection supports: {@code COPY} on PostgreSQL, JDBC batches elsewhere.
+     *
+     * @param connection the connection the rows will be loaded over
+     * @return the loader to use
+     * @throws SQLException if the connection cannot be inspected
+     */
+    static BulkLoader forConnection(Connection connection) throws SQLException {
+        return connection.isWrapperFor(PGConnection.class) ? new CopyBulkLoader() : new BatchBulkLoader();
+    }
+
+    /** @return how this loader sends rows, for the import report */
+    ImportReport.Method method();
+
+    /**
+     * Inserts rows. Values may be null, strings, numbers, enums, {@code LocalDate}s and {@code LocalDateTime}s.
+     *
+     * @param connection the connection to insert over
+     * @param table the table name
+     * @param columns the columns to fill, in the order of each row's values
+     * @param rows the rows to insert
+     * @throws SQLException if any row is rejected by the database; none are then visible once the transaction rolls back
+     */
+    void load(Connection connection, String table, List<String> columns, List<Object[]> rows) throws SQLException;
+}
@@ -0,0 +1,77 @@
+package com.example.jobmanagement.imports;
+
+import com.example.jobmanagement.dto.ImportReport;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Streams rows to PostgreSQL with {@code COPY ... FROM STDIN}, which skips per-statement parsing,
+ * planning and round-trips and is typically several times faster than batched {@code INSERT}s.
+ * Rows are encoded as CSV and sent in chunks of about {@value #CHUNK_SIZE} characters.
+ */
+public class CopyBulkLoader implements BulkLoader {
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    @Override
+    public ImportReport.Method method() {
+        return ImportReport.Method.COPY;
+    }
+
+    @Override
+    public void load(Connection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException {
+        CopyIn copy = connection.unwrap(PGConnection.class).getCopyAPI()
+                .copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)");
+        try {
+            StringBuilder chunk = new StringBuilder(CHUNK_SIZE + 1024);
+            for (Object[] row : rows) {
+                appendRow(chunk, row);
+                if (chunk.length() >= CHUNK_SIZE) {
+                    write(copy, chunk);
+                }
+            }
+            write(copy, chunk);
+            copy.endCopy();
+        } finally {
+            if (copy.isActive()) {
+                copy.cancelCopy();
+            }
+        }
+    }
+
+    /**
+     * Appends one row in {@code COPY}'s CSV format: nulls are empty and unquoted,
+     * strings are always quoted so an empty string stays distinct from null.
+     */
+    static void appendRow(StringBuilder out, Object[] row) {
+        for (int i = 0; i < row.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            Object value = row[i];
+            if (value instanceof String string) {
+                out.append('"').append(string.replace("\"", "\"\"")).append('"');
+            } else if (value instanceof Enum<?> constant) {
+                out.append(constant.name());
+            } else if (value instanceof LocalDateTime dateTime) {
+                out.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime));
+            } else if (value != null) {
+                out.append(value);
+            }
+        }
+        out.append('\n');
+    }
+
+    private static void write(CopyIn copy, StringBuilder chunk) throws SQLException {
+        byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+        copy.writeToCopy(bytes, 0, bytes.length);
+        chunk.setLength(0);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.jobmanagement.imports;
+
+import com.example.jobmanagement.dto.ImportReject;
+import com.example.jobmanagement.dto.ImportReport;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts of one running import. Updated by the importing thread and read by progress requests.
+ */
+public class ImportProgress {
+    private final long id;
+    private final ImportReport.Type type;
+    private final int maxReportedRejects;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+    private final long startNanos = System.nanoTime();
+    private final AtomicLong rowsRead = new AtomicLong();
+    private final AtomicLong imported = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final List<ImportReject> rejects = new ArrayList<>();
+    private volatile ImportReport.Method method;
+    private volatile ImportReport.Status status = ImportReport.Status.RUNNING;
+    private volatile String error;
+    private volatile long endNanos;
+
+    public ImportProgress(long id, ImportReport.Type type, int maxReportedRejects) {
+        this.id = id;
+        this.type = type;
+        this.maxReportedRejects = maxReportedRejects;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public ImportReport.Type getType() {
+        return type;
+    }
+
+    public void rowRead() {
+        rowsRead.incrementAndGet();
+    }
+
+    public void imported(int rows, ImportReport.Method method) {
+        imported.addAndGet(rows);
+        this.method = method;
+    }
+
+    /**
+     * Counts a rejected row, keeping its details if fewer than the reporting limit are kept.
+     *
+     * @param reject the row and the reason
+     */
+    public void rejected(ImportReject reject) {
+        rejected.incrementAndGet();
+        synchronized (rejects) {
+            if (rejects.size() < maxReportedRejects) {
+                rejects.add(reject);
+            }
+        }
+    }
+
+    public void completed() {
+        endNanos = System.nanoTime();
+        status = ImportReport.Status.COMPLETED;
+    }
+
+    public void failed(String error) {
+        endNanos = System.nanoTime();
+        this.error = error;
+        status = ImportReport.Status.FAILED;
+    }
+
+    /** @return the current state of the import */
+    public ImportReport snapshot() {
+        long elapsedNanos = (status == ImportReport.Status.RUNNING ? System.nanoTime() : endNanos) - startNanos;
+        long read = rowsRead.get();
+        List<ImportReject> reported;
+        synchronized (rejects) {
+            reported = List.copyOf(rejects);
+        }
+        return ImportReport.builder()
+                .id(id)
+                .type(type)
+                .status(status)
+                .method(method)
+                .startedAt(startedAt)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(elapsedNanos))
+                .rowsRead(read)
+                .imported(imported.get())
+                .rejected(rejected.get())
+                .rowsPerSecond(elapsedNanos > 0 ? read * 1e9 / elapsedNanos : 0)
+                .error(error)
+                .rejects(reported)
+                .build();
+    }
+}
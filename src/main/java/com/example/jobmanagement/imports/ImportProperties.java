@@ -0,0 +1,22 @@
+package com.example.jobmanagement.imports;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for CSV imports, bound from {@code jobs.import.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "jobs.import")
+public class ImportProperties {
+    /** Valid rows written and committed per transaction */
+    private int batchSize = 5000;
+
+    /** Rejected rows listed in the import report; further rejects are only counted */
+    private int maxReportedRejects = 1000;
+
+    /** How often a running import logs its progress */
+    private Duration progressInterval = Duration.ofSeconds(10);
+}
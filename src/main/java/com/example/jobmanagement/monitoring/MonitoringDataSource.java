@@ -0,0 +1,282 @@
+package com.example.jobmanagement.monitoring;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Wraps a {@link DataSource} so every statement execution is counted for the current request
+ * and statements slower than a threshold are reported with their row count and calling method.
+ *
+ * <p>The fast path only reads the clock and increments a counter. Result sets are only wrapped,
+ * and the stack only walked, once a statement is already known to be slow.
+ */
+public final class MonitoringDataSource {
+    private static final String APPLICATION_PACKAGE = "com.example.jobmanagement.";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final long slowThresholdNanos;
+    private final int maxSqlLength;
+    private final Consumer<SlowStatement> slowStatementListener;
+
+    private MonitoringDataSource(SqlMonitoringProperties properties, Consumer<SlowStatement> slowStatementListener) {
+        this.slowThresholdNanos = properties.getSlowThreshold().toNanos();
+        this.maxSqlLength = properties.getMaxSqlLength();
+        this.slowStatementListener = slowStatementListener;
+    }
+
+    /**
+     * Wraps a data source for monitoring.
+     *
+     * @param target the data source to wrap
+     * @param properties the slow statement threshold and SQL length limit
+     * @param slowStatementListener receives every slow statement
+     * @return a data source that delegates to {@code target}; {@code unwrap} still reaches the pool
+     */
+    public static DataSource wrap(DataSource target, SqlMonitoringProperties properties,
+                                  Consumer<SlowStatement> slowStatementListener) {
+        MonitoringDataSource monitor = new MonitoringDataSource(properties, slowStatementListener);
+        return proxy(DataSource.class, target, (proxy, method, args) -> {
+            Object result = invoke(target, method, args, proxy);
+            if (result instanceof Connection connection) {
+                return monitor.wrapConnection(connection);
+            }
+            return result;
+        });
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args, proxy);
+            if (result instanceof CallableStatement statement) {
+                return wrapStatement(CallableStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return wrapStatement(PreparedStatement.class, statement, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        });
+    }
+
+    private <S extends Statement> S wrapStatement(Class<S> type, S statement, String preparedSql) {
+        StatementState state = new StatementState(preparedSql);
+        return proxy(type, statement, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.equals("addBatch")) {
+                state.batchSize++;
+                if (args != null && args.length == 1 && state.sql == null) {
+                    state.sql = (String) args[0];
+                }
+            } else if (name.equals("clearBatch")) {
+                state.batchSize = 0;
+            } else if (name.equals("close")) {
+                state.finish();
+            } else if (EXECUTE_METHODS.contains(name)) {
+                return execute(state, statement, method, args, proxy);
+            } else if (name.equals("getResultSet") && state.pending != null) {
+                return state.pending.wrap((ResultSet) invoke(statement, method, args, proxy));
+            }
+            return invoke(statement, method, args, proxy);
+        });
+    }
+
+    private Object execute(StatementState state, Statement statement, Method method, Object[] args, Object proxy)
+            throws Throwable {
+        RequestStatementCounter.increment();
+        String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : state.sql;
+        long start = System.nanoTime();
+        Object result = invoke(statement, method, args, proxy);
+        long elapsed = System.nanoTime() - start;
+        int batchSize = state.batchSize;
+        state.batchSize = 0;
+        if (elapsed < slowThresholdNanos) {
+            return result;
+        }
+
+        PendingStatement pending = new PendingStatement(sql, elapsed, batchSize, findCaller(), currentEndpoint());
+        if (result instanceof ResultSet resultSet) {
+            state.pending = pending;
+            return pending.wrap(resultSet);
+        }
+        if (result instanceof Boolean hasResultSet) {
+            if (hasResultSet) {
+                state.pending = pending;
+                return result;
+            }
+            pending.rows = statement.getLargeUpdateCount();
+        } else if (result instanceof Number count) {
+            pending.rows = count.longValue();
+        } else if (result instanceof int[] counts) {
+            pending.rows = sum(counts);
+        } else if (result instanceof long[] counts) {
+            pending.rows = sum(counts);
+        }
+        pending.report();
+        return result;
+    }
+
+    /** Per-statement bookkeeping; a statement is only used by one thread at a time. */
+    private final class StatementState {
+        private String sql;
+        private int batchSize;
+        private PendingStatement pending;
+
+        StatementState(String sql) {
+            this.sql = sql;
+        }
+
+        void finish() {
+            if (pending != null) {
+                pending.report();
+                pending = null;
+            }
+        }
+    }
+
+    /** A slow statement whose rows are still being read. Reported once, when its result set or statement closes. */
+    private final class PendingStatement {
+        private final String sql;
+        private final long elapsedNanos;
+        private final int batchSize;
+        private final String caller;
+        private final String endpoint;
+        private long rows = -1;
+        private boolean reported;
+
+        PendingStatement(String sql, long elapsedNanos, int batchSize, String caller, String endpoint) {
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+            this.batchSize = batchSize;
+            this.caller = caller;
+            this.endpoint = endpoint;
+        }
+
+        ResultSet wrap(ResultSet resultSet) {
+            rows = 0;
+            return proxy(ResultSet.class, resultSet, (proxy, method, args) -> {
+                Object result = invoke(resultSet, method, args, proxy);
+                if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                    rows++;
+                } else if (method.getName().equals("close")) {
+                    report();
+                }
+                return result;
+            });
+        }
+
+        void report() {
+            if (reported) {
+                return;
+            }
+            reported = true;
+            String text = sql == null ? null : sql.length() > maxSqlLength ? sql.substring(0, maxSqlLength) + "..." : sql;
+            slowStatementListener.accept(new SlowStatement(text, elapsedNanos / 1_000_000.0,
+                    countParameters(sql), Math.max(1, batchSize), rows, caller, endpoint));
+        }
+    }
+
+    /** Finds the first application frame outside this class, e.g. the service method that ran the query. */
+    private static String findCaller() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && frame.getDeclaringClass().getNestHost() != MonitoringDataSource.class
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse(null));
+    }
+
+    private static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes instanceof ServletRequestAttributes servletAttributes
+                ? RequestStatementCounter.endpoint(servletAttributes.getRequest())
+                : null;
+    }
+
+    /** Counts {@code ?} placeholders outside quoted literals and identifiers. */
+    static int countParameters(String sql) {
+        if (sql == null) {
+            return 0;
+        }
+        int count = 0;
+        char quote = 0;
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '?') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static long sum(int[] counts) {
+        long total = 0;
+        for (int count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    private static long sum(long[] counts) {
+        long total = 0;
+        for (long count : counts) {
+            total += Math.max(count, 0);
+        }
+        return total;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Object target, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(MonitoringDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    /**
+     * Calls the target, answering {@code unwrap}/{@code isWrapperFor} for the proxy's own interface
+     * and rethrowing the target's exception unchanged.
+     */
+    private static Object invoke(Object target, Method method, Object[] args, Object proxy) throws Throwable {
+        if (method.getName().equals("unwrap") && args != null && ((Class<?>) args[0]).isInstance(target)) {
+            return target;
+        }
+        if (method.getName().equals("isWrapperFor") && args != null && ((Class<?>) args[0]).isInstance(target)) {
+            return true;
+        }
+        if (method.getName().equals("equals") && args != null && args.length == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && (args == null || args.length == 0)) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.jobmanagement.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Counts the JDBC statements executed by the request running on the current thread.
+ * Statements executed outside a request (scheduled jobs, startup) are not counted.
+ */
+public final class RequestStatementCounter {
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    private RequestStatementCounter() {}
+
+    /** Starts counting for the current thread. */
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** Stops counting for the current thread and returns the number of statements executed since {@link #start()}. */
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+
+    static void increment() {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    /**
+     * Formats the endpoint of a request as {@code METHOD pattern}, e.g. {@code GET /api/jobs/{id}},
+     * so requests for different IDs are grouped together.
+     */
+    static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "UNKNOWN");
+    }
+}
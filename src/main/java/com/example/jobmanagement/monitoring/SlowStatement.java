@@ -0,0 +1,22 @@
+package com.example.jobmanagement.monitoring;
+
+/**
+ * A statement that took longer than the configured threshold.
+ *
+ * @param sql the statement text, possibly truncated
+ * @param elapsedMillis time spent executing the statement
+ * @param parameterCount number of bind parameters per execution
+ * @param batchSize number of parameter sets sent in a batch, 1 if not batched
+ * @param rows rows returned by a query or affected by an update; -1 if unknown
+ * @param caller the application method that issued the statement, e.g. {@code JobServiceImpl.getAllJobs}
+ * @param endpoint the request mapping being served, e.g. {@code GET /api/jobs/{id}}; null outside a request
+ */
+public record SlowStatement(
+        String sql,
+        double elapsedMillis,
+        int parameterCount,
+        int batchSize,
+        long rows,
+        String caller,
+        String endpoint) {
+}
@@ -0,0 +1,34 @@
+package com.example.jobmanagement.monitoring;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.Consumer;
+
+/**
+ * Writes slow statements as one JSON object per line to the {@code sql.slow} logger,
+ * so they can be filtered and aggregated by a log pipeline without parsing free text.
+ */
+public class SlowStatementLogger implements Consumer<SlowStatement> {
+    private static final Logger log = LoggerFactory.getLogger("sql.slow");
+
+    private final ObjectMapper objectMapper;
+
+    public SlowStatementLogger(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void accept(SlowStatement statement) {
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        try {
+            log.warn(objectMapper.writeValueAsString(statement));
+        } catch (JsonProcessingException e) {
+            log.warn("Slow statement ({} ms): {}", statement.elapsedMillis(), statement.sql());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.jobmanagement.monitoring;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration for SQL statement monitoring, bound from {@code sql.monitoring.*}.
+ */
+@Data
+@ConfigurationProperties(prefix = "sql.monitoring")
+public class SqlMonitoringProperties {
+    /** Whether the data source is wrapped for monitoring at all */
+    private boolean enabled = true;
+
+    /** Statements whose execution takes at least this long are logged */
+    private Duration slowThreshold = Duration.ofMillis(200);
+
+    /** Logged SQL is truncated to this many characters */
+    private int maxSqlLength = 2000;
+
+    /** Requests that run more statements than this are logged as a possible N+1 */
+    private int requestStatementWarnThreshold = 25;
+}
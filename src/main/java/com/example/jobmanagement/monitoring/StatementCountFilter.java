@@ -0,0 +1,61 @@
+package com.example.jobmanagement.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Records how many SQL statements each request executed as the {@code http.server.requests.statements}
+ * summary, tagged with the method and URI pattern, so an N+1 regression shows up as a jump in
+ * the statement count of one endpoint. Requests above the configured threshold are also logged.
+ */
+@Slf4j
+public class StatementCountFilter extends OncePerRequestFilter {
+    public static final String METRIC_NAME = "http.server.requests.statements";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+
+    public StatementCountFilter(MeterRegistry meterRegistry, int warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = RequestStatementCounter.stop();
+            if (!request.isAsyncStarted()) {
+                record(request, statements);
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder(METRIC_NAME)
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statements);
+        if (statements > warnThreshold) {
+            log.warn("{} executed {} SQL statements (threshold {}), possible N+1 query",
+                    RequestStatementCounter.endpoint(request), statements, warnThreshold);
+        }
+    }
+}
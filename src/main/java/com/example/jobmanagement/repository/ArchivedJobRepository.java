@@ -0,0 +1,62 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.ArchivedJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository for jobs moved to the {@code job_archive} table.
+ */
+@Repository
+public interface ArchivedJobRepository extends JpaRepository<ArchivedJob, Long> {
+    /**
+     * Constructor expression selecting a {@link JobResponse} from an archived job aliased {@code a}.
+     */
+    String JOB_RESPONSE = """
+            new com.example.jobmanagement.dto.JobResponse(
+                a.jobId, a.description, a.techId, a.createdDate, a.completedDate, a.status, a.version)""";
+
+    /**
+     * Reads an archived job as a response DTO.
+     * The lookup does not know the completion month, so on a partitioned archive it probes every partition.
+     *
+     * @param id the ID of the job
+     * @return the archived job, empty if no job with this ID was archived
+     */
+    @Query("select " + JOB_RESPONSE + " from ArchivedJob a where a.jobId = :id")
+    Optional<JobResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Reads the archived jobs of a technician as response DTOs.
+     *
+     * @param techId the ID of the technician
+     * @return the technician's archived jobs ordered by completion date and ID
+     */
+    @Query("select " + JOB_RESPONSE + " from ArchivedJob a where a.techId = :techId order by a.completedDate, a.jobId")
+    List<JobResponse> findResponsesByTechId(@Param("techId") Long techId);
+
+    /**
+     * Copies jobs from the job table into the archive in a single statement.
+     * The caller deletes them from the job table in the same transaction.
+     *
+     * @param ids the IDs of the jobs to copy
+     * @param archivedAt the archive timestamp recorded on every copied row
+     * @return the number of rows copied
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            insert into ArchivedJob (jobId, description, techId, createdDate, completedDate, status, version, archivedAt)
+            select j.jobId, j.description, j.technician.techId, j.createdDate, j.completedDate, j.status, j.version,
+                   :archivedAt
+            from Job j where j.jobId in :ids""")
+    int copyFromJobs(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,91 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.ImportReport;
+import com.example.jobmanagement.imports.BulkLoader;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.Generator;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Writes large numbers of rows without creating entities, for CSV imports.
+ * Must be called inside a transaction; rows are written over its connection.
+ */
+@Repository
+public class BulkInsertRepository {
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public BulkInsertRepository(DataSource dataSource, EntityManager entityManager) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Inserts rows with the fastest method the database supports, see {@link BulkLoader#forConnection}.
+     * Hibernate does not see these rows being written, so cached query results are dropped after commit.
+     *
+     * @param table the table name
+     * @param columns the columns to fill, in the order of each row's values
+     * @param rows the rows to insert
+     * @return how the rows were written
+     */
+    public ImportReport.Method insert(String table, List<String> columns, List<Object[]> rows) {
+        evictCachedQueriesAfterCommit();
+        return jdbcTemplate.execute((ConnectionCallback<ImportReport.Method>) connection -> {
+            BulkLoader loader = BulkLoader.forConnection(connection);
+            loader.load(connection, table, columns, rows);
+            return loader.method();
+        });
+    }
+
+    /**
+     * Draws IDs from an entity's own Hibernate generator, so rows inserted here never collide with
+     * entities saved through JPA. For sequence generators one round-trip covers a whole allocation block.
+     *
+     * @param entityClass the entity whose generator to use
+     * @param count the number of IDs
+     * @return new IDs
+     */
+    public long[] nextIds(Class<?> entityClass, int count) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        Generator generator = session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityClass).getGenerator();
+        if (!(generator instanceof IdentifierGenerator identifierGenerator)) {
+            throw new IllegalStateException(entityClass.getSimpleName() + " IDs are not generated before insert");
+        }
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            ids[i] = ((Number) identifierGenerator.generate(session, null)).longValue();
+        }
+        return ids;
+    }
+
+    /**
+     * Drops cached query results once the transaction commits, so queries over the loaded table see the new rows.
+     * Hibernate does not know which cached queries read the table, so all of them are dropped; imports are rare.
+     */
+    private void evictCachedQueriesAfterCommit() {
+        Cache cache = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getCache();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.evictQueryRegions();
+                }
+            });
+        } else {
+            cache.evictQueryRegions();
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.jobmanagement.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates the monthly partitions of {@code job_archive} before jobs are moved into them.
+ * Only applies on PostgreSQL when the table was created {@code PARTITION BY RANGE (completed_date)};
+ * on any other table it does nothing, and the archive is a single table.
+ */
+@Slf4j
+@Repository
+public class JobArchivePartitions {
+    private static final String PARTITIONED_QUERY = """
+            select count(*) from pg_partitioned_table p join pg_class c on c.oid = p.partrelid
+            where c.relname = 'job_archive' and pg_table_is_visible(c.oid)""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Months whose partition is known to exist. */
+    private final Set<YearMonth> created = ConcurrentHashMap.newKeySet();
+
+    private volatile Boolean partitioned;
+
+    public JobArchivePartitions(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Ensures a partition exists for every month in a range, creating missing ones.
+     * Each partition is created in its own statement, outside of any archive batch.
+     *
+     * @param from the first month
+     * @param to the last month, inclusive
+     */
+    public void createMonthlyPartitions(YearMonth from, YearMonth to) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            if (created.contains(month)) {
+                continue;
+            }
+            jdbcTemplate.execute("create table if not exists %s partition of job_archive for values from ('%s') to ('%s')"
+                    .formatted(partitionName(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+            created.add(month);
+        }
+    }
+
+    /**
+     * Whether {@code job_archive} is a partitioned PostgreSQL table. Checked once.
+     *
+     * @return true if partitions have to be created before rows are archived
+     */
+    public boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            result = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+            if (result) {
+                result = jdbcTemplate.queryForObject(PARTITIONED_QUERY, Long.class) > 0;
+                log.info("job_archive is {}partitioned by completion month", result ? "" : "not ");
+            }
+            partitioned = result;
+        }
+        return result;
+    }
+
+    /**
+     * Name of the partition holding a month, e.g. {@code job_archive_2024_03}.
+     *
+     * @param month the month
+     * @return the table name
+     */
+    static String partitionName(YearMonth month) {
+        return "job_archive_%d_%02d".formatted(month.getYear(), month.getMonthValue());
+    }
+}
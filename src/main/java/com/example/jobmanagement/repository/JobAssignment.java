@@ -0,0 +1,21 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.entity.Job;
+
+/**
+ * Projection of the columns that decide which status counters a job contributes to,
+ * and the version a conditional update is checked against.
+ */
+public interface JobAssignment {
+    /** ID of the job */
+    Long getJobId();
+
+    /** ID of the assigned technician, null if the job is unassigned */
+    Long getTechId();
+
+    /** Current status of the job */
+    Job.JobStatus getStatus();
+
+    /** Current version of the job */
+    Long getVersion();
+}
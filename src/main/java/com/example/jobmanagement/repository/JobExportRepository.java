@@ -0,0 +1,93 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.entity.Job;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Reads jobs for export with plain JDBC, bypassing the persistence context entirely.
+ * Rows come from a forward-only cursor fetched {@code jobs.export.fetch-size} rows per round-trip
+ * and are handed to the consumer one at a time, so memory use does not depend on the number of rows.
+ * The PostgreSQL driver only uses a cursor inside a transaction; callers must run in one.
+ */
+@Repository
+public class JobExportRepository {
+    private static final String SELECT = """
+            select j.job_id, j.description, j.tech_id, t.tech_name, j.created_date, j.completed_date,
+                   j.status, j.version
+            from job j left join technician t on t.tech_id = j.tech_id""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JobExportRepository(DataSource dataSource, @Value("${jobs.export.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * Reads every job matching the criteria, ordered by ID. Every filter is part of the SQL,
+     * so rows that do not match are never transferred.
+     *
+     * @param criteria the filters; date ranges are half-open, {@code [from, to)}
+     * @param consumer callback invoked once per row
+     */
+    public void forEach(JobSearchCriteria criteria, Consumer<JobExportRow> consumer) {
+        StringBuilder sql = new StringBuilder(SELECT);
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            conditions.add("j.status = ?");
+            args.add(criteria.getStatus().name());
+        }
+        if (criteria.getTechId() != null) {
+            conditions.add("j.tech_id = ?");
+            args.add(criteria.getTechId());
+        }
+        addRange(conditions, args, "j.created_date", criteria.getCreatedFrom(), criteria.getCreatedTo());
+        addRange(conditions, args, "j.completed_date", criteria.getCompletedFrom(), criteria.getCompletedTo());
+        if (!conditions.isEmpty()) {
+            sql.append("\nwhere ").append(String.join(" and ", conditions));
+        }
+        sql.append("\norder by j.job_id");
+
+        jdbcTemplate.query(sql.toString(), resultSet -> {
+            consumer.accept(toRow(resultSet));
+        }, args.toArray());
+    }
+
+    private static void addRange(List<String> conditions, List<Object> args, String column,
+                                 LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            conditions.add(column + " >= ?");
+            args.add(from);
+        }
+        if (to != null) {
+            conditions.add(column + " < ?");
+            args.add(to);
+        }
+    }
+
+    private static JobExportRow toRow(ResultSet resultSet) throws SQLException {
+        long techId = resultSet.getLong(3);
+        Long techIdOrNull = resultSet.wasNull() ? null : techId;
+        return new JobExportRow(
+                resultSet.getLong(1),
+                resultSet.getString(2),
+                techIdOrNull,
+                resultSet.getString(4),
+                resultSet.getObject(5, LocalDateTime.class),
+                resultSet.getObject(6, LocalDateTime.class),
+                Job.JobStatus.valueOf(resultSet.getString(7)),
+                resultSet.getLong(8));
+    }
+}
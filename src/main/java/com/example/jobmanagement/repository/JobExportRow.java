@@ -0,0 +1,28 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.entity.Job;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of a job export: a job and the name of its technician.
+ *
+ * @param jobId ID of the job
+ * @param description description of the job
+ * @param techId ID of the assigned technician, null if unassigned
+ * @param techName name of the assigned technician, null if unassigned
+ * @param createdDate when the job was created
+ * @param completedDate when the job was completed, null if it is open
+ * @param status current status of the job
+ * @param version current version of the job
+ */
+public record JobExportRow(
+        long jobId,
+        String description,
+        Long techId,
+        String techName,
+        LocalDateTime createdDate,
+        LocalDateTime completedDate,
+        Job.JobStatus status,
+        long version) {
+}
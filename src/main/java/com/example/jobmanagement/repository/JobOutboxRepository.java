@@ -0,0 +1,40 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository for the job outbox.
+ * Rows are appended by the job service and consumed in ID order by the outbox relay.
+ */
+@Repository
+public interface JobOutboxRepository extends JpaRepository<JobOutboxEvent, Long> {
+    /**
+     * Locks the oldest outbox rows not already locked by another transaction.
+     * Rows held by a concurrent relay are skipped rather than waited for, so several relay
+     * workers, on this node or others, each claim a different batch.
+     * Native because Hibernate only renders {@code SKIP LOCKED} for some dialects.
+     *
+     * @param limit the maximum number of rows to claim
+     * @return the claimed rows in ID order, locked until the transaction ends
+     */
+    @Query(value = "select * from job_outbox order by id limit :limit for update skip locked", nativeQuery = true)
+    List<JobOutboxEvent> lockNextBatch(@Param("limit") int limit);
+
+    /**
+     * Deletes relayed rows in a single statement without loading them again.
+     *
+     * @param ids the IDs of the rows
+     * @return the number of rows deleted
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from JobOutboxEvent e where e.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
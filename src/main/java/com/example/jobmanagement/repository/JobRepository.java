@@ -1,29 +1,310 @@
 package com.example.jobmanagement.repository;
 
+import com.example.jobmanagement.dto.JobResponse;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Job entity.
  * Provides data access methods for jobs in the database.
+ * Dynamic searches are built with {@link JobSpecifications}.
+ * Methods returning {@link JobResponse} read straight into DTOs for the API; the entity
+ * methods remain for writes and for code that needs managed jobs.
  */
 @Repository
-public interface JobRepository extends JpaRepository<Job, Long> {
+public interface JobRepository extends JpaRepository<Job, Long>, JpaSpecificationExecutor<Job>, JobSearchRepository {
     /**
-     * Finds all jobs assigned to a specific technician.
+     * Number of rows the JDBC driver fetches per round-trip when streaming jobs.
+     */
+    String STREAM_FETCH_SIZE = "500";
+
+    /**
+     * Constructor expression selecting a {@link JobResponse} from a job aliased {@code j}.
+     */
+    String JOB_RESPONSE = """
+            new com.example.jobmanagement.dto.JobResponse(
+                j.jobId, j.description, j.technician.techId, j.createdDate, j.completedDate, j.status, j.version)""";
+
+    /**
+     * Query hint storing a query's result in the query cache.
+     * Cached results are dropped whenever the job table changes through Hibernate.
+     */
+    String CACHEABLE = HibernateHints.HINT_CACHEABLE;
+
+    /**
+     * Reads a job as a response DTO without creating an entity.
+     *
+     * @param id the ID of the job
+     * @return the job, empty if it does not exist
+     */
+    @Query("select " + JOB_RESPONSE + " from Job j where j.jobId = :id")
+    Optional<JobResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * Reads all jobs as response DTOs without creating entities.
+     *
+     * @return all jobs ordered by ID
+     */
+    @Query("select " + JOB_RESPONSE + " from Job j order by j.jobId")
+    List<JobResponse> findAllResponses();
+
+    /**
+     * Reads the jobs assigned to a technician as response DTOs without creating entities.
+     * The result is query cached.
      *
      * @param techId the ID of the technician
-     * @return list of jobs assigned to the technician
+     * @return the technician's jobs ordered by ID
      */
-    List<Job> findByTechnicianTechId(Long techId);
+    @Query("select " + JOB_RESPONSE + " from Job j where j.technician.techId = :techId order by j.jobId")
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<JobResponse> findResponsesByTechId(@Param("techId") Long techId);
 
     /**
-     * Finds all jobs with a specific status.
+     * Reads the jobs with a status as response DTOs without creating entities.
+     * The result is query cached.
      *
      * @param status the status to filter by
-     * @return list of jobs with the specified status
+     * @return the matching jobs ordered by ID
+     */
+    @Query("select " + JOB_RESPONSE + " from Job j where j.status = :status order by j.jobId")
+    @QueryHints(@QueryHint(name = CACHEABLE, value = "true"))
+    List<JobResponse> findResponsesByStatus(@Param("status") Job.JobStatus status);
+
+    /**
+     * Reads the next page of jobs after the given cursor as response DTOs, ordered by ID.
+     *
+     * @param jobId the ID of the last job already returned (exclusive)
+     * @param limit the maximum number of jobs to return
+     * @return jobs with an ID greater than the cursor, in ascending ID order
+     */
+    @Query("select " + JOB_RESPONSE + " from Job j where j.jobId > :jobId order by j.jobId")
+    List<JobResponse> findResponsesAfter(@Param("jobId") Long jobId, Limit limit);
+
+    /**
+     * Streams all jobs as response DTOs ordered by ID from a forward-only JDBC cursor.
+     * Must be consumed inside a transaction and closed after use. Nothing is added to the
+     * persistence context, so memory use does not grow with the number of rows.
+     *
+     * @return a stream of all jobs
+     */
+    @Query("select " + JOB_RESPONSE + " from Job j order by j.jobId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<JobResponse> streamAllResponses();
+
+    /**
+     * Finds the technician, status and version of a job without loading the entity.
+     *
+     * @param id the ID of the job
+     * @return the job's technician, status and version, empty if the job does not exist
+     */
+    @Query("""
+            select j.jobId as jobId, j.technician.techId as techId, j.status as status, j.version as version
+            from Job j where j.jobId = :id""")
+    Optional<JobAssignment> findAssignmentById(@Param("id") Long id);
+
+    /**
+     * Reads the technician, status and version of the given jobs and locks their rows until the
+     * transaction ends, so a following bulk update changes exactly the state that was read.
+     * Rows are locked in ID order, so concurrent bulk changes cannot deadlock each other.
+     *
+     * @param ids the IDs of the jobs
+     * @return the jobs that exist, in ID order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select j.jobId as jobId, j.technician.techId as techId, j.status as status, j.version as version
+            from Job j where j.jobId in :ids order by j.jobId""")
+    List<JobAssignment> lockAssignmentsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads the technician, status and version of a technician's jobs and locks their rows
+     * until the transaction ends. Rows are locked in ID order.
+     *
+     * @param techId the ID of the technician
+     * @param status only jobs in this status, null for all of the technician's jobs
+     * @param limit the maximum number of jobs to return
+     * @return the matching jobs, in ID order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select j.jobId as jobId, j.technician.techId as techId, j.status as status, j.version as version
+            from Job j
+            where j.technician.techId = :techId and (:status is null or j.status = :status)
+            order by j.jobId""")
+    List<JobAssignment> lockAssignmentsByTechnician(@Param("techId") Long techId,
+                                                    @Param("status") Job.JobStatus status,
+                                                    Limit limit);
+
+    /**
+     * Reads the oldest completed jobs finished before a cutoff and locks their rows until the
+     * transaction ends, so they can be moved to the archive.
+     *
+     * @param cutoff only jobs completed before this time
+     * @param limit the maximum number of jobs to return
+     * @return the matching jobs, oldest completion first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            select j.jobId as jobId, j.technician.techId as techId, j.status as status, j.version as version
+            from Job j
+            where j.status = COMPLETED and j.completedDate < :cutoff
+            order by j.completedDate, j.jobId""")
+    List<JobAssignment> lockCompletedBefore(@Param("cutoff") LocalDateTime cutoff, Limit limit);
+
+    /**
+     * Finds the completion date of the oldest completed job.
+     *
+     * @return the earliest completion date, null if no job is completed
+     */
+    @Query("""
+            select min(j.completedDate) from Job j
+            where j.status = COMPLETED""")
+    LocalDateTime findOldestCompletedDate();
+
+    /**
+     * Counts jobs grouped by technician and status.
+     * Unassigned jobs are reported with a null technician ID.
+     *
+     * @return one row per technician and status that has at least one job
+     */
+    @Query("""
+            select j.technician.techId as techId, j.status as status, count(j) as count
+            from Job j
+            group by j.technician.techId, j.status""")
+    List<JobStatusCount> countByTechnicianAndStatus();
+
+    /**
+     * Updates the details of a job in a single statement, keeping its technician assignment.
+     * The row is only updated if its version still matches, and the version is incremented.
+     *
+     * @param id the ID of the job to update
+     * @param version the version the update is based on
+     * @param description the new description
+     * @param status the new status
+     * @param createdDate the new creation date
+     * @param completedDate the new completion date, may be null
+     * @return the number of rows updated; 0 if the job does not exist or was changed concurrently
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Job j
+            set j.description = :description, j.status = :status,
+                j.createdDate = :createdDate, j.completedDate = :completedDate,
+                j.version = j.version + 1
+            where j.jobId = :id and j.version = :version""")
+    int updateDetails(@Param("id") Long id,
+                      @Param("version") Long version,
+                      @Param("description") String description,
+                      @Param("status") Job.JobStatus status,
+                      @Param("createdDate") LocalDateTime createdDate,
+                      @Param("completedDate") LocalDateTime completedDate);
+
+    /**
+     * Updates the details and technician of a job in a single statement.
+     * The row is only updated if its version still matches and the technician exists,
+     * and the version is incremented.
+     *
+     * @param id the ID of the job to update
+     * @param version the version the update is based on
+     * @param technician reference to the technician to assign
+     * @param description the new description
+     * @param status the new status
+     * @param createdDate the new creation date
+     * @param completedDate the new completion date, may be null
+     * @return the number of rows updated; 0 if the job or the technician does not exist,
+     *         or the job was changed concurrently
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Job j
+            set j.technician = :technician, j.description = :description, j.status = :status,
+                j.createdDate = :createdDate, j.completedDate = :completedDate,
+                j.version = j.version + 1
+            where j.jobId = :id and j.version = :version
+              and exists (select t.techId from Technician t where t = :technician)""")
+    int updateDetailsAndTechnician(@Param("id") Long id,
+                                   @Param("version") Long version,
+                                   @Param("technician") Technician technician,
+                                   @Param("description") String description,
+                                   @Param("status") Job.JobStatus status,
+                                   @Param("createdDate") LocalDateTime createdDate,
+                                   @Param("completedDate") LocalDateTime completedDate);
+
+    /**
+     * Moves a job to a new status in a single statement, only if it is still in the expected status.
+     * The completion date is set when the job is first completed and the version is incremented.
+     *
+     * @param id the ID of the job to update
+     * @param expectedStatus the status the job must currently have
+     * @param status the new status
+     * @param completedDate the completion date to set if the job has none, may be null
+     * @return the number of rows updated; 0 if the job does not exist or is no longer in the expected status
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Job j
+            set j.status = :status, j.completedDate = coalesce(j.completedDate, :completedDate),
+                j.version = j.version + 1
+            where j.jobId = :id and j.status = :expectedStatus""")
+    int compareAndSetStatus(@Param("id") Long id,
+                            @Param("expectedStatus") Job.JobStatus expectedStatus,
+                            @Param("status") Job.JobStatus status,
+                            @Param("completedDate") LocalDateTime completedDate);
+
+    /**
+     * Moves many jobs to a new status in a single statement.
+     * The completion date is set on jobs completed for the first time and every version is incremented.
+     * Callers lock the rows first, so the update applies to the state they read.
+     *
+     * @param ids the IDs of the jobs to update
+     * @param status the new status
+     * @param completedDate the completion date to set on jobs that have none, may be null
+     * @return the number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("""
+            update Job j
+            set j.status = :status, j.completedDate = coalesce(j.completedDate, :completedDate),
+                j.version = j.version + 1
+            where j.jobId in :ids""")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") Job.JobStatus status,
+                          @Param("completedDate") LocalDateTime completedDate);
+
+    /**
+     * Deletes a job in a single statement without loading it first.
+     *
+     * @param id the ID of the job to delete
+     * @return the number of rows deleted; 0 if the job does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Job j where j.jobId = :id")
+    int deleteJobById(@Param("id") Long id);
+
+    /**
+     * Deletes many jobs in a single statement without loading them first.
+     *
+     * @param ids the IDs of the jobs to delete
+     * @return the number of rows deleted
      */
-    List<Job> findByStatus(Job.JobStatus status);
-} 
\ No newline at end of file
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Job j where j.jobId in :ids")
+    int deleteJobsByIds(@Param("ids") Collection<Long> ids);
+}
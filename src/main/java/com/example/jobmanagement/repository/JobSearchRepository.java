@@ -0,0 +1,21 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Dynamic job searches that read straight into response DTOs.
+ */
+public interface JobSearchRepository {
+    /**
+     * Finds a page of jobs matching a specification, selected with a constructor expression.
+     *
+     * @param specification the filters to apply
+     * @param pageable the page number, page size and sort order; sort properties must be attributes of {@link Job}
+     * @return the requested page of matching jobs
+     */
+    Page<JobResponse> findResponses(Specification<Job> specification, Pageable pageable);
+}
@@ -0,0 +1,65 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Criteria-based implementation of {@link JobSearchRepository}.
+ * The count query only runs when the page size does not already tell the total.
+ */
+@RequiredArgsConstructor
+class JobSearchRepositoryImpl implements JobSearchRepository {
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<JobResponse> findResponses(Specification<Job> specification, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<JobResponse> query = cb.createQuery(JobResponse.class);
+        Root<Job> root = query.from(Job.class);
+        query.select(cb.construct(JobResponse.class,
+                root.get("jobId"), root.get("description"), root.get("technician").get("techId"),
+                root.get("createdDate"), root.get("completedDate"), root.get("status"), root.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : pageable.getSort()) {
+            orders.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+        }
+        query.orderBy(orders);
+
+        List<JobResponse> content = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+    }
+
+    private long count(Specification<Job> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Job> root = query.from(Job.class);
+        query.select(cb.count(root));
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
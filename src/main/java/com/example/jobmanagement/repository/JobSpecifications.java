@@ -0,0 +1,54 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.entity.Job;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Specifications used to build dynamic job searches.
+ * Each predicate returns null when its filter is not set, so it is skipped when combined.
+ */
+public final class JobSpecifications {
+    private JobSpecifications() {}
+
+    /**
+     * Builds a specification that combines every filter set on the criteria.
+     *
+     * @param criteria the search filters
+     * @return the combined specification
+     */
+    public static Specification<Job> matching(JobSearchCriteria criteria) {
+        return Specification.where(hasStatus(criteria.getStatus()))
+                .and(hasTechnician(criteria.getTechId()))
+                .and(between("createdDate", criteria.getCreatedFrom(), criteria.getCreatedTo()))
+                .and(between("completedDate", criteria.getCompletedFrom(), criteria.getCompletedTo()));
+    }
+
+    public static Specification<Job> hasStatus(Job.JobStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Job> hasTechnician(Long techId) {
+        return techId == null ? null : (root, query, cb) -> cb.equal(root.get("technician").get("techId"), techId);
+    }
+
+    /**
+     * Matches a half-open range {@code [from, to)} on a date-time attribute.
+     */
+    public static Specification<Job> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            if (from == null) {
+                return cb.lessThan(root.get(attribute), to);
+            }
+            if (to == null) {
+                return cb.greaterThanOrEqualTo(root.get(attribute), from);
+            }
+            return cb.and(cb.greaterThanOrEqualTo(root.get(attribute), from), cb.lessThan(root.get(attribute), to));
+        };
+    }
+}
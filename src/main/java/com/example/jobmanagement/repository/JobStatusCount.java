@@ -0,0 +1,17 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.entity.Job;
+
+/**
+ * Projection of the number of jobs a technician has in one status.
+ */
+public interface JobStatusCount {
+    /** ID of the technician, null for unassigned jobs */
+    Long getTechId();
+
+    /** Status being counted */
+    Job.JobStatus getStatus();
+
+    /** Number of jobs with this technician and status */
+    long getCount();
+}
@@ -0,0 +1,53 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.entity.Job;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One row of a technician left-joined with one of their jobs, built by a constructor expression.
+ * The job columns are null for a technician without jobs.
+ */
+public record TechnicianJobRow(
+        Long techId,
+        String techName,
+        LocalDate doj,
+        Long techVersion,
+        Long jobId,
+        String description,
+        LocalDateTime createdDate,
+        LocalDateTime completedDate,
+        Job.JobStatus status,
+        Long version) {
+
+    /**
+     * Groups rows ordered by technician ID into one response per technician.
+     *
+     * @param rows rows ordered by technician ID, then job ID
+     * @return one response per technician, in the order of the rows
+     */
+    public static List<TechnicianResponse> toResponses(List<TechnicianJobRow> rows) {
+        List<TechnicianResponse> technicians = new ArrayList<>();
+        int start = 0;
+        while (start < rows.size()) {
+            TechnicianJobRow first = rows.get(start);
+            List<JobResponse> jobs = new ArrayList<>();
+            int end = start;
+            for (; end < rows.size() && rows.get(end).techId().equals(first.techId()); end++) {
+                TechnicianJobRow row = rows.get(end);
+                if (row.jobId() != null) {
+                    jobs.add(new JobResponse(row.jobId(), row.description(), row.techId(),
+                            row.createdDate(), row.completedDate(), row.status(), row.version()));
+                }
+            }
+            technicians.add(new TechnicianResponse(first.techId(), first.techName(), first.doj(), first.techVersion(), jobs));
+            start = end;
+        }
+        return technicians;
+    }
+}
@@ -1,10 +1,112 @@
 package com.example.jobmanagement.repository;
 
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.entity.Job;
 import com.example.jobmanagement.entity.Technician;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Repository interface for Technician entity.
+ * The API reads technicians through the row queries, which fetch each technician's jobs in the
+ * same statement and skip entities altogether, so no lazy load of {@code Technician.jobs} runs.
+ */
 @Repository
 public interface TechnicianRepository extends JpaRepository<Technician, Long> {
-    // Add custom query methods if needed
-} 
\ No newline at end of file
+    /**
+     * Checks whether a technician exists.
+     * Only positive answers are cached, so a newly created technician is visible immediately;
+     * the entry is evicted when the technician is deleted.
+     *
+     * @param id the ID of the technician
+     * @return true if the technician exists
+     */
+    @Override
+    @Cacheable(cacheNames = CacheNames.TECHNICIAN_EXISTS, unless = "!#result")
+    boolean existsById(Long id);
+
+    /**
+     * Reads every technician with their jobs as flat rows, without creating entities.
+     * Group the rows with {@link TechnicianJobRow#toResponses}.
+     *
+     * @return one row per job, and one row with null job columns per technician without jobs,
+     *         ordered by technician ID and job ID
+     */
+    @Query("""
+            select new com.example.jobmanagement.repository.TechnicianJobRow(
+                t.techId, t.techName, t.doj, t.version,
+                j.jobId, j.description, j.createdDate, j.completedDate, j.status, j.version)
+            from Technician t left join t.jobs j
+            order by t.techId, j.jobId""")
+    List<TechnicianJobRow> findAllRows();
+
+    /**
+     * Reads a technician with their jobs as flat rows, without creating entities.
+     *
+     * @param techId the ID of the technician
+     * @return the technician's rows ordered by job ID; empty if the technician does not exist
+     */
+    @Query("""
+            select new com.example.jobmanagement.repository.TechnicianJobRow(
+                t.techId, t.techName, t.doj, t.version,
+                j.jobId, j.description, j.createdDate, j.completedDate, j.status, j.version)
+            from Technician t left join t.jobs j
+            where t.techId = :techId
+            order by j.jobId""")
+    List<TechnicianJobRow> findRowsByTechId(@Param("techId") Long techId);
+
+    /**
+     * Finds which of the given technician IDs exist, in a single query.
+     *
+     * @param techIds the technician IDs to check
+     * @return the subset of the given IDs that belong to existing technicians
+     */
+    @Query("select t.techId from Technician t where t.techId in :techIds")
+    Set<Long> findExistingIds(@Param("techIds") Collection<Long> techIds);
+
+    /**
+     * Counts the jobs in the given statuses for every technician, including technicians without any.
+     *
+     * @param statuses the statuses that count towards a technician's workload
+     * @return one row per technician
+     */
+    @Query("""
+            select t.techId as techId, count(j) as openJobs
+            from Technician t left join t.jobs j on j.status in :statuses
+            group by t.techId""")
+    List<TechnicianWorkload> findWorkloads(@Param("statuses") Collection<Job.JobStatus> statuses);
+
+    /**
+     * Updates the details of a technician in a single statement and increments its version.
+     *
+     * @param techId the ID of the technician to update
+     * @param techName the new name
+     * @param doj the new date of joining
+     * @return the number of rows updated; 0 if the technician does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Technician t set t.techName = :techName, t.doj = :doj, t.version = t.version + 1 where t.techId = :techId")
+    int updateDetails(@Param("techId") Long techId,
+                      @Param("techName") String techName,
+                      @Param("doj") LocalDate doj);
+
+    /**
+     * Deletes a technician in a single statement without loading it or its jobs.
+     * Fails with a constraint violation if jobs are still assigned to the technician, so callers delete them first.
+     *
+     * @param techId the ID of the technician to delete
+     * @return the number of rows deleted; 0 if the technician does not exist
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Technician t where t.techId = :techId")
+    int deleteTechnicianById(@Param("techId") Long techId);
+}
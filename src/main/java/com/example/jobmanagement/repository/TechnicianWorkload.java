@@ -0,0 +1,12 @@
+package com.example.jobmanagement.repository;
+
+/**
+ * Projection of the number of open jobs assigned to a technician.
+ */
+public interface TechnicianWorkload {
+    /** ID of the technician */
+    Long getTechId();
+
+    /** Number of PENDING and IN_PROGRESS jobs assigned to the technician */
+    long getOpenJobs();
+}
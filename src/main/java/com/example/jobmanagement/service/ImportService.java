@@ -0,0 +1,45 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.dto.ImportReport;
+
+import java.io.InputStream;
+import java.util.List;
+
+/**
+ * Loads technicians and jobs from CSV uploads.
+ * Rows are read, validated and written in batches as the upload streams in; each batch is
+ * committed on its own, so a failed import keeps the batches written before the failure.
+ * Invalid rows are skipped and listed in the report instead of failing the import.
+ */
+public interface ImportService {
+    /**
+     * Imports technicians from CSV with the columns {@code tech_name} and {@code doj} ({@code yyyy-MM-dd}).
+     *
+     * @param csv the upload, starting with a header row naming the columns in any order
+     * @return the report of the finished import
+     * @throws InvalidRequestException if the header is missing, names an unknown or repeated column,
+     *                                 or lacks a required one; nothing is imported then
+     */
+    ImportReport importTechnicians(InputStream csv);
+
+    /**
+     * Imports jobs from CSV with the columns {@code description} and {@code tech_id}, and optionally
+     * {@code status} (PENDING if empty), {@code created_date} (now if empty) and {@code completed_date}
+     * (now if empty for a completed job). Date-times are {@code yyyy-MM-dd HH:mm:ss} or ISO-8601,
+     * as written by the job export.
+     * Every imported job is counted, recorded in the job outbox and published like a created job.
+     *
+     * @param csv the upload, starting with a header row naming the columns in any order
+     * @return the report of the finished import
+     * @throws InvalidRequestException if the header is missing, names an unknown or repeated column,
+     *                                 or lacks a required one; nothing is imported then
+     */
+    ImportReport importJobs(InputStream csv);
+
+    /**
+     * Returns the progress of the imports running on this instance.
+     *
+     * @return a report per running import, oldest first
+     */
+    List<ImportReport> getRunningImports();
+}
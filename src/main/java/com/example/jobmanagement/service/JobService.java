@@ -1,23 +1,50 @@
 package com.example.jobmanagement.service;
 
+import com.example.jobmanagement.dto.BatchJobResponse;
+import com.example.jobmanagement.dto.CreateJobRequest;
+import com.example.jobmanagement.dto.CursorPage;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.dto.JobStatusResponse;
+import com.example.jobmanagement.dto.PageResponse;
+import com.example.jobmanagement.dto.StatusTransitionRequest;
+import com.example.jobmanagement.dto.StatusTransitionResponse;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.repository.JobExportRow;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * Service interface for managing jobs in the system.
  * This interface defines the core business operations available for job management.
+ * Jobs are returned as immutable {@link JobResponse} records rather than entities.
  */
 public interface JobService {
     /**
      * Creates a new job in the system.
+     * A PENDING or IN_PROGRESS job without a technician is assigned to the technician
+     * with the fewest open jobs; it stays unassigned only if there are no technicians.
      *
      * @param job the job to create, must not be null
      * @return the created job with assigned ID and metadata
      * @throws TechnicianNotFoundException if the assigned technician doesn't exist
      * @throws IllegalArgumentException if the job data is invalid
      */
-    Job createJob(Job job);
+    JobResponse createJob(Job job);
+
+    /**
+     * Creates many jobs in one call.
+     * All referenced technicians are validated with a single query and valid jobs are
+     * inserted through JDBC batches. Invalid items are reported without failing the whole request.
+     *
+     * @param requests the jobs to create
+     * @return the per-item outcome of the request
+     * @throws InvalidRequestException if the request contains more items than the maximum batch size
+     */
+    BatchJobResponse createJobs(List<CreateJobRequest> requests);
 
     /**
      * Retrieves a job by its ID.
@@ -26,14 +53,43 @@ public interface JobService {
      * @return the job with the specified ID
      * @throws JobNotFoundException if no job is found with the given ID
      */
-    Job getJobById(Long id);
+    JobResponse getJobById(Long id);
 
     /**
      * Retrieves all jobs in the system.
      *
      * @return a list of all jobs, empty list if no jobs exist
      */
-    List<Job> getAllJobs();
+    List<JobResponse> getAllJobs();
+
+    /**
+     * Retrieves a page of jobs using keyset pagination on the job ID.
+     *
+     * @param afterId the ID of the last job from the previous page, or null for the first page
+     * @param limit the maximum number of jobs to return, clamped to the configured maximum page size
+     * @return the page of jobs and the cursor for the next page
+     */
+    CursorPage<JobResponse> getJobsPage(Long afterId, int limit);
+
+    /**
+     * Streams every job in ID order to the given consumer.
+     * Jobs are read from a database cursor straight into response DTOs,
+     * so memory use does not grow with the size of the table.
+     *
+     * @param consumer callback invoked once per job
+     */
+    void streamAllJobs(Consumer<JobResponse> consumer);
+
+    /**
+     * Streams the jobs matching the criteria, with their technicians' names, in ID order.
+     * Rows are read from a database cursor with the filters applied in SQL,
+     * so memory use does not grow with the number of rows.
+     *
+     * @param criteria the filters; unset filters are ignored
+     * @param consumer callback invoked once per job
+     * @throws InvalidSearchCriteriaException if a date range ends before it starts
+     */
+    void exportJobs(JobSearchCriteria criteria, Consumer<JobExportRow> consumer);
 
     /**
      * Retrieves all jobs assigned to a specific technician.
@@ -42,7 +98,34 @@ public interface JobService {
      * @return a list of jobs assigned to the technician, empty list if no jobs are assigned
      * @throws TechnicianNotFoundException if no technician is found with the given ID
      */
-    List<Job> getJobsByTechnicianId(Long techId);
+    List<JobResponse> getJobsByTechnicianId(Long techId);
+
+    /**
+     * Retrieves a job by its ID, looking in the job archive if it is no longer in the job table.
+     *
+     * @param id the ID of the job to retrieve
+     * @return the job with the specified ID
+     * @throws JobNotFoundException if no job or archived job is found with the given ID
+     */
+    JobResponse getJobByIdIncludingArchived(Long id);
+
+    /**
+     * Retrieves all jobs assigned to a specific technician, including archived ones.
+     *
+     * @param techId the ID of the technician
+     * @return the technician's jobs ordered by ID, followed by the archived ones ordered by completion date
+     * @throws TechnicianNotFoundException if the technician has no jobs and does not exist
+     */
+    List<JobResponse> getJobsByTechnicianIdIncludingArchived(Long techId);
+
+    /**
+     * Retrieves the current version of a job without reading the rest of it.
+     *
+     * @param id the ID of the job
+     * @return the job's version
+     * @throws JobNotFoundException if no job is found with the given ID
+     */
+    long getJobVersion(Long id);
 
     /**
      * Retrieves all jobs with a specific status.
@@ -50,19 +133,58 @@ public interface JobService {
      * @param status the status to filter by
      * @return a list of jobs with the specified status, empty list if no jobs match
      */
-    List<Job> getJobsByStatus(Job.JobStatus status);
+    List<JobResponse> getJobsByStatus(Job.JobStatus status);
+
+    /**
+     * Searches jobs by any combination of status, technician and date ranges.
+     * Results can only be sorted by indexed columns so every search is served by an index.
+     *
+     * @param criteria the filters to apply; unset filters are ignored
+     * @param pageable the page to return and its sort order
+     * @return the requested page of matching jobs
+     * @throws InvalidSearchCriteriaException if a date range is inverted or the sort property is not supported
+     */
+    PageResponse<JobResponse> searchJobs(JobSearchCriteria criteria, Pageable pageable);
 
     /**
      * Updates an existing job.
+     * If the job data does not name a technician, the current assignment is kept.
+     * If the job data carries a version, the update only applies if the job still has that version.
      *
      * @param id the ID of the job to update
      * @param job the updated job data
-     * @return the updated job
+     * @return the updated job, with its new version
      * @throws JobNotFoundException if no job is found with the given ID
      * @throws TechnicianNotFoundException if the assigned technician doesn't exist
+     * @throws InvalidJobStatusException if the job may not move to the requested status
+     * @throws JobConflictException if the job was modified concurrently
      * @throws IllegalArgumentException if the job data is invalid
      */
-    Job updateJob(Long id, Job job);
+    JobResponse updateJob(Long id, Job job);
+
+    /**
+     * Moves a job to a new status if it is still in the expected status.
+     *
+     * @param id the ID of the job to update
+     * @param expectedStatus the status the caller believes the job has
+     * @param status the new status
+     * @return the status change and the job's new version
+     * @throws JobNotFoundException if no job is found with the given ID
+     * @throws InvalidJobStatusException if the job may not move from the expected to the new status
+     * @throws JobConflictException if the job is no longer in the expected status
+     */
+    JobStatusResponse updateJobStatus(Long id, Job.JobStatus expectedStatus, Job.JobStatus status);
+
+    /**
+     * Moves many jobs to one status. Jobs that cannot be moved are reported and left unchanged;
+     * the others are changed together.
+     *
+     * @param request the jobs to change, by ID or by technician, and the target status
+     * @return the per-job outcomes
+     * @throws TechnicianNotFoundException if jobs are selected by a technician that does not exist
+     * @throws InvalidRequestException if the selection is missing, ambiguous or too large
+     */
+    StatusTransitionResponse transitionStatuses(StatusTransitionRequest request);
 
     /**
      * Deletes a job from the system.
@@ -71,4 +193,20 @@ public interface JobService {
      * @throws JobNotFoundException if no job is found with the given ID
      */
     void deleteJob(Long id);
+
+    /**
+     * Deletes every job assigned to a technician, before the technician itself is deleted.
+     *
+     * @param techId the ID of the technician
+     * @return the number of jobs deleted; 0 if the technician has none or does not exist
+     */
+    int deleteJobsByTechnicianId(Long techId);
+
+    /**
+     * Retrieves the number of jobs in each status, overall and per technician.
+     * Served from in-memory counters, so the cost does not grow with the number of jobs.
+     *
+     * @return the job status summary
+     */
+    JobStatsResponse getJobStats();
 }
\ No newline at end of file
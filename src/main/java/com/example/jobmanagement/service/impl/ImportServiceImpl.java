@@ -0,0 +1,386 @@
+package com.example.jobmanagement.service.impl;
+
+import com.example.jobmanagement.constants.ApiConstants;
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.dto.ImportReject;
+import com.example.jobmanagement.dto.ImportReport;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import com.example.jobmanagement.entity.Technician;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.exception.InvalidRequestException;
+import com.example.jobmanagement.imports.CsvRecordReader;
+import com.example.jobmanagement.imports.ImportProgress;
+import com.example.jobmanagement.imports.ImportProperties;
+import com.example.jobmanagement.repository.BulkInsertRepository;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.service.ImportService;
+import com.example.jobmanagement.utils.DateUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ImportService interface.
+ * An import runs as a pipeline on the request thread: {@link CsvRecordReader} parses one record at a
+ * time, each record is validated against the entity's constraints, and valid rows are collected into
+ * batches of {@code jobs.import.batch-size} that are written with {@link BulkInsertRepository}
+ * ({@code COPY} on PostgreSQL) and committed in their own transaction. Only one batch is held in memory.
+ * Imported jobs update the {@link JobStatusCounters}, the {@link TechnicianWorkloadIndex}, the job outbox
+ * and the event stream as jobs created through {@link JobServiceImpl} do.
+ * Progress is logged every {@code jobs.import.progress-interval} and counted in {@value MetricNames#IMPORT_ROWS}.
+ */
+@Slf4j
+@Service
+public class ImportServiceImpl implements ImportService {
+    private static final List<String> TECHNICIAN_COLUMNS = List.of("tech_name", "doj");
+    private static final List<String> JOB_COLUMNS =
+            List.of("description", "tech_id", "status", "created_date", "completed_date");
+    private static final Set<String> REQUIRED_JOB_COLUMNS = Set.of("description", "tech_id");
+
+    private static final List<String> TECHNICIAN_TABLE_COLUMNS = List.of("tech_name", "doj", "version");
+    private static final List<String> JOB_TABLE_COLUMNS =
+            List.of("job_id", "description", "tech_id", "created_date", "completed_date", "status", "version");
+    private static final List<String> OUTBOX_TABLE_COLUMNS = List.of("id", "type", "job_id", "tech_id", "status",
+            "version", "previous_tech_id", "previous_status", "occurred_at");
+
+    private final ImportProperties properties;
+    private final BulkInsertRepository bulkInsertRepository;
+    private final TechnicianRepository technicianRepository;
+    private final JobStatusCounters jobStatusCounters;
+    private final TechnicianWorkloadIndex technicianWorkloadIndex;
+    private final JobEventBroadcaster jobEventBroadcaster;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final AtomicLong importIds = new AtomicLong();
+    private final Map<Long, ImportProgress> running = new ConcurrentHashMap<>();
+
+    public ImportServiceImpl(ImportProperties properties, BulkInsertRepository bulkInsertRepository,
+                             TechnicianRepository technicianRepository, JobStatusCounters jobStatusCounters,
+                             TechnicianWorkloadIndex technicianWorkloadIndex, JobEventBroadcaster jobEventBroadcaster,
+                             Validator validator, PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.bulkInsertRepository = bulkInsertRepository;
+        this.technicianRepository = technicianRepository;
+        this.jobStatusCounters = jobStatusCounters;
+        this.technicianWorkloadIndex = technicianWorkloadIndex;
+        this.jobEventBroadcaster = jobEventBroadcaster;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Technicians get their IDs from the database, so the workload index is rebuilt once at the end
+     * rather than told about each new technician.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public ImportReport importTechnicians(InputStream csv) {
+        ImportReport report = run(ImportReport.Type.TECHNICIANS, csv, TECHNICIAN_COLUMNS, Set.copyOf(TECHNICIAN_COLUMNS),
+                this::parseTechnician, this::writeTechnicians);
+        if (report.getImported() > 0) {
+            technicianWorkloadIndex.rebuild();
+        }
+        return report;
+    }
+
+    /**
+     * {@inheritDoc}
+     * Job and outbox IDs are drawn from the entities' Hibernate generators, so each batch needs one
+     * sequence round-trip per 50 rows and the rows can be sent with {@code COPY}.
+     */
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TECHNICIANS, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    })
+    public ImportReport importJobs(InputStream csv) {
+        return run(ImportReport.Type.JOBS, csv, JOB_COLUMNS, REQUIRED_JOB_COLUMNS, this::parseJob, this::writeJobs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ImportReport> getRunningImports() {
+        return running.values().stream()
+                .sorted(Comparator.comparingLong(ImportProgress::getId))
+                .map(ImportProgress::snapshot)
+                .toList();
+    }
+
+    /** Reads, validates and writes every row of an upload; see the class description. */
+    private <T> ImportReport run(ImportReport.Type type, InputStream csv, List<String> columns, Set<String> required,
+                                 Function<Row, T> parser, BatchWriter<T> writer) {
+        CsvRecordReader reader = new CsvRecordReader(csv);
+        Map<String, Integer> header = readHeader(reader, columns, required);
+        ImportProgress progress = new ImportProgress(importIds.incrementAndGet(), type, properties.getMaxReportedRejects());
+        running.put(progress.getId(), progress);
+        log.info("Import {} of {} started", progress.getId(), type);
+        long progressInterval = properties.getProgressInterval().toNanos();
+        long nextProgressLog = System.nanoTime() + progressInterval;
+        try {
+            List<T> batch = new ArrayList<>(properties.getBatchSize());
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                progress.rowRead();
+                Row row = new Row(header, record, reader.getRecordLine());
+                try {
+                    if (record.size() != header.size()) {
+                        throw new IllegalArgumentException("Expected " + header.size() + " fields but found "
+                                + record.size());
+                    }
+                    batch.add(parser.apply(row));
+                } catch (IllegalArgumentException e) {
+                    reject(progress, row, e.getMessage());
+                }
+                if (batch.size() == properties.getBatchSize()) {
+                    write(batch, writer, progress);
+                    if (System.nanoTime() - nextProgressLog >= 0) {
+                        logProgress(progress.snapshot());
+                        nextProgressLog = System.nanoTime() + progressInterval;
+                    }
+                }
+            }
+            write(batch, writer, progress);
+            progress.completed();
+        } catch (IOException e) {
+            progress.failed("The upload could not be read: " + e.getMessage());
+        } catch (DataAccessException | TransactionException e) {
+            progress.failed("A batch could not be written: " + e.getMostSpecificCause().getMessage());
+        } finally {
+            running.remove(progress.getId());
+        }
+        ImportReport report = progress.snapshot();
+        logProgress(report);
+        return report;
+    }
+
+    private <T> void write(List<T> batch, BatchWriter<T> writer, ImportProgress progress) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        Written written = transactionTemplate.execute(status -> writer.write(batch, progress));
+        batch.clear();
+        if (written.rows() > 0) {
+            progress.imported(written.rows(), written.method());
+            meterRegistry.counter(MetricNames.IMPORT_ROWS, "type", tag(progress.getType()), "outcome", "imported")
+                    .increment(written.rows());
+        }
+    }
+
+    private void reject(ImportProgress progress, Row row, String error) {
+        progress.rejected(new ImportReject(row.line(), error, row.values()));
+        meterRegistry.counter(MetricNames.IMPORT_ROWS, "type", tag(progress.getType()), "outcome", "rejected")
+                .increment();
+    }
+
+    private static void logProgress(ImportReport report) {
+        log.info("Import {} of {} {}: {} rows read, {} imported, {} rejected in {} ms ({} rows/s){}",
+                report.getId(), report.getType(), report.getStatus(), report.getRowsRead(), report.getImported(),
+                report.getRejected(), report.getElapsedMillis(), Math.round(report.getRowsPerSecond()),
+                report.getError() != null ? ": " + report.getError() : "");
+    }
+
+    private static String tag(ImportReport.Type type) {
+        return type.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static Map<String, Integer> readHeader(CsvRecordReader reader, List<String> columns, Set<String> required) {
+        List<String> names;
+        try {
+            names = reader.next();
+        } catch (IOException e) {
+            throw new InvalidRequestException("The upload could not be read: " + e.getMessage(), e);
+        }
+        if (names == null) {
+            throw new InvalidRequestException("The upload is empty; expected a header row with the columns " + columns);
+        }
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase(Locale.ROOT);
+            if (!columns.contains(name)) {
+                throw new InvalidRequestException("Unknown column '" + names.get(i) + "'; expected columns " + columns);
+            }
+            if (header.put(name, i) != null) {
+                throw new InvalidRequestException("Column '" + name + "' appears more than once");
+            }
+        }
+        List<String> missing = required.stream().filter(column -> !header.containsKey(column)).sorted().toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("Missing required columns " + missing);
+        }
+        return header;
+    }
+
+    private Technician parseTechnician(Row row) {
+        Technician technician = Technician.builder()
+                .techName(row.get("tech_name"))
+                .doj(row.parse("doj", DateUtils::parseDate, "a date such as 2024-01-15"))
+                .build();
+        validate(technician);
+        return technician;
+    }
+
+    private Written writeTechnicians(List<Technician> technicians, ImportProgress progress) {
+        List<Object[]> rows = new ArrayList<>(technicians.size());
+        for (Technician technician : technicians) {
+            rows.add(new Object[] {technician.getTechName(), technician.getDoj(), 0L});
+        }
+        return new Written(rows.size(), bulkInsertRepository.insert("technician", TECHNICIAN_TABLE_COLUMNS, rows));
+    }
+
+    private PendingJob parseJob(Row row) {
+        Long techId = row.parse("tech_id", Long::valueOf, "a technician ID");
+        Job.JobStatus status = row.parse("status", value -> Job.JobStatus.valueOf(value.toUpperCase(Locale.ROOT)),
+                "one of " + Arrays.toString(Job.JobStatus.values()));
+        LocalDateTime createdDate = row.parse("created_date", ImportServiceImpl::parseDateTime,
+                "a date-time such as 2024-03-10 09:00:00");
+        LocalDateTime completedDate = row.parse("completed_date", ImportServiceImpl::parseDateTime,
+                "a date-time such as 2024-03-10 14:30:00");
+
+        LocalDateTime now = LocalDateTime.now();
+        Job job = Job.builder()
+                .description(row.get("description"))
+                .createdDate(createdDate != null ? createdDate : now)
+                .status(status != null ? status : Job.JobStatus.PENDING)
+                .build();
+        validate(job);
+        if (techId == null) {
+            throw new IllegalArgumentException("Technician ID is required");
+        }
+        if (job.getStatus() != Job.JobStatus.COMPLETED && completedDate != null) {
+            throw new IllegalArgumentException("Only completed jobs have a completed date");
+        }
+        if (job.getStatus() == Job.JobStatus.COMPLETED) {
+            job.setCompletedDate(completedDate != null ? completedDate : now);
+            if (job.getCompletedDate().isBefore(job.getCreatedDate())) {
+                throw new IllegalArgumentException("Completed date " + job.getCompletedDate()
+                        + " is before created date " + job.getCreatedDate());
+            }
+        }
+        return new PendingJob(row, techId, job);
+    }
+
+    /** Checks the batch's technicians with one query, then writes the jobs and their outbox rows. */
+    private Written writeJobs(List<PendingJob> batch, ImportProgress progress) {
+        Set<Long> existingTechIds = technicianRepository.findExistingIds(
+                batch.stream().map(PendingJob::techId).collect(Collectors.toSet()));
+        List<PendingJob> valid = new ArrayList<>(batch.size());
+        for (PendingJob pending : batch) {
+            if (existingTechIds.contains(pending.techId())) {
+                valid.add(pending);
+            } else {
+                reject(progress, pending.row(), String.format(ApiConstants.TECHNICIAN_NOT_FOUND, pending.techId()));
+            }
+        }
+        if (valid.isEmpty()) {
+            return new Written(0, null);
+        }
+
+        long[] jobIds = bulkInsertRepository.nextIds(Job.class, valid.size());
+        long[] outboxIds = bulkInsertRepository.nextIds(JobOutboxEvent.class, valid.size());
+        List<Object[]> jobRows = new ArrayList<>(valid.size());
+        List<Object[]> outboxRows = new ArrayList<>(valid.size());
+        List<JobChangeEvent> events = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            PendingJob pending = valid.get(i);
+            Job job = pending.job();
+            jobRows.add(new Object[] {jobIds[i], job.getDescription(), pending.techId(), job.getCreatedDate(),
+                    job.getCompletedDate(), job.getStatus(), 0L});
+            JobChangeEvent event = JobChangeEvent.created(jobIds[i], pending.techId(), job.getStatus(), 0L);
+            outboxRows.add(new Object[] {outboxIds[i], event.type(), event.jobId(), event.techId(), event.status(),
+                    event.version(), event.previousTechId(), event.previousStatus(), event.occurredAt()});
+            events.add(event);
+        }
+        ImportReport.Method method = bulkInsertRepository.insert("job", JOB_TABLE_COLUMNS, jobRows);
+        bulkInsertRepository.insert("job_outbox", OUTBOX_TABLE_COLUMNS, outboxRows);
+        for (JobChangeEvent event : events) {
+            jobStatusCounters.recordCreated(event.techId(), event.status());
+            technicianWorkloadIndex.recordCreated(event.techId(), event.status());
+            jobEventBroadcaster.publish(event);
+        }
+        return new Written(valid.size(), method);
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value.indexOf('T') >= 0 ? LocalDateTime.parse(value) : DateUtils.parseDateTime(value);
+    }
+
+    private void validate(Object entity) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(entity);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+    }
+
+    /** Writes one batch inside a transaction and returns what it wrote; may reject further rows. */
+    @FunctionalInterface
+    private interface BatchWriter<T> {
+        Written write(List<T> batch, ImportProgress progress);
+    }
+
+    private record Written(int rows, ImportReport.Method method) {
+    }
+
+    private record PendingJob(Row row, Long techId, Job job) {
+    }
+
+    /** One CSV record with its fields looked up by column name; empty fields read as null. */
+    private record Row(Map<String, Integer> header, List<String> values, long line) {
+        String get(String column) {
+            Integer index = header.get(column);
+            if (index == null) {
+                return null;
+            }
+            String value = values.get(index);
+            return value.isEmpty() ? null : value;
+        }
+
+        <V> V parse(String column, Function<String, V> parser, String expected) {
+            String value = get(column);
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return parser.apply(value.trim());
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException(column + " must be " + expected + ", but was '" + value + "'");
+            }
+        }
+    }
+}
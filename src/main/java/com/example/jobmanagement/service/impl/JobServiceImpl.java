@@ -1,55 +1,234 @@
 package com.example.jobmanagement.service.impl;
 
+import com.example.jobmanagement.constants.ApiConstants;
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.datasource.DataSourceRouting;
+import com.example.jobmanagement.dto.BatchJobResponse;
+import com.example.jobmanagement.dto.BatchJobResult;
+import com.example.jobmanagement.dto.CreateJobRequest;
+import com.example.jobmanagement.dto.CursorPage;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.dto.JobStatusResponse;
+import com.example.jobmanagement.dto.PageResponse;
+import com.example.jobmanagement.dto.StatusTransitionRequest;
+import com.example.jobmanagement.dto.StatusTransitionResponse;
+import com.example.jobmanagement.dto.StatusTransitionResult;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.exception.InvalidJobStatusException;
+import com.example.jobmanagement.exception.InvalidRequestException;
+import com.example.jobmanagement.exception.InvalidSearchCriteriaException;
+import com.example.jobmanagement.exception.JobConflictException;
 import com.example.jobmanagement.exception.JobNotFoundException;
 import com.example.jobmanagement.exception.TechnicianNotFoundException;
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import com.example.jobmanagement.repository.ArchivedJobRepository;
+import com.example.jobmanagement.repository.JobAssignment;
+import com.example.jobmanagement.repository.JobExportRepository;
+import com.example.jobmanagement.repository.JobExportRow;
+import com.example.jobmanagement.repository.JobOutboxRepository;
 import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.repository.JobSpecifications;
 import com.example.jobmanagement.repository.TechnicianRepository;
 import com.example.jobmanagement.service.JobService;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the JobService interface.
  * Provides the business logic for managing jobs in the system.
  * Handles job creation, updates, deletion, and queries.
+ * Reads select {@link JobResponse} records directly, so they never create managed entities,
+ * and run in read-only transactions: Hibernate skips flushing, the connection is marked read-only,
+ * and with replica routing enabled the read may be served by a replica.
+ * Cached technicians embed their jobs, so job writes evict the affected technician entries.
+ * Every write also adjusts the {@link JobStatusCounters} behind the dashboard summary
+ * and the {@link TechnicianWorkloadIndex} used to auto-assign new jobs. It is recorded in the
+ * job outbox in the same transaction, for the outbox relay, and published to event stream
+ * subscribers through the {@link JobEventBroadcaster} once it commits.
  */
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = MetricNames.JOB_SERVICE, description = "Job service method latency")
 public class JobServiceImpl implements JobService {
+    /** Properties a search may be sorted by; each one leads a composite index on the job table. */
+    private static final Set<String> SEARCH_SORT_PROPERTIES = Set.of("jobId", "createdDate", "completedDate", "status");
+
+    /** Number of inserted jobs after which the persistence context is flushed and cleared. */
+    private static final int BATCH_FLUSH_INTERVAL = 500;
+
     private final JobRepository jobRepository;
+    private final ArchivedJobRepository archivedJobRepository;
+    private final JobExportRepository jobExportRepository;
     private final TechnicianRepository technicianRepository;
+    private final EntityManager entityManager;
+    private final JobStatusCounters jobStatusCounters;
+    private final TechnicianWorkloadIndex technicianWorkloadIndex;
+    private final JobOutboxRepository jobOutboxRepository;
+    private final JobEventBroadcaster jobEventBroadcaster;
+    private final CacheManager cacheManager;
 
     /**
      * {@inheritDoc}
      * Additionally, sets the creation date to current time if not provided,
-     * and validates the assigned technician exists.
+     * and validates the assigned technician exists. An open job without a technician
+     * is assigned to the technician with the fewest open jobs.
      */
     @Override
-    public Job createJob(Job job) {
-        if (job.getTechnician() != null && job.getTechnician().getTechId() != null) {
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public JobResponse createJob(Job job) {
+        job.setCreatedDate(LocalDateTime.now());
+        if (job.getStatus() == null) {
+            job.setStatus(Job.JobStatus.PENDING);
+        }
+        boolean reserved = false;
+        if (techIdOf(job) != null) {
             if (!technicianRepository.existsById(job.getTechnician().getTechId())) {
                 throw new TechnicianNotFoundException(job.getTechnician().getTechId());
             }
+        } else if (job.getStatus().isOpen()) {
+            Long techId = technicianWorkloadIndex.reserveLeastLoaded();
+            if (techId != null) {
+                job.setTechnician(technicianRepository.getReferenceById(techId));
+                reserved = true;
+            }
         }
-        job.setCreatedDate(LocalDateTime.now());
-        if (job.getStatus() == null) {
-            job.setStatus(Job.JobStatus.PENDING);
+        Job saved = jobRepository.save(job);
+        technicianJobsChanged(Collections.singleton(techIdOf(saved)));
+        jobStatusCounters.recordCreated(techIdOf(saved), saved.getStatus());
+        publish(JobChangeEvent.created(saved.getJobId(), techIdOf(saved), saved.getStatus(),
+                saved.getVersion()));
+        if (!reserved) {
+            technicianWorkloadIndex.recordCreated(techIdOf(saved), saved.getStatus());
+        }
+        return JobResponse.from(saved);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The persistence context is flushed and cleared every {@value #BATCH_FLUSH_INTERVAL} jobs
+     * so memory use stays flat for large requests.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public BatchJobResponse createJobs(List<CreateJobRequest> requests) {
+        if (requests.size() > ApiConstants.MAX_BATCH_SIZE) {
+            throw new InvalidRequestException("Batch contains " + requests.size()
+                    + " jobs; the maximum is " + ApiConstants.MAX_BATCH_SIZE);
+        }
+
+        Set<Long> requestedTechIds = requests.stream()
+                .filter(Objects::nonNull)
+                .map(CreateJobRequest::getTechId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingTechIds = requestedTechIds.isEmpty()
+                ? Set.of()
+                : technicianRepository.findExistingIds(requestedTechIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BatchJobResult> results = new ArrayList<>(requests.size());
+        Set<Long> assignedTechIds = new HashSet<>();
+        int created = 0;
+        for (int index = 0; index < requests.size(); index++) {
+            CreateJobRequest request = requests.get(index);
+            String error = validateBatchItem(request, existingTechIds);
+            if (error != null) {
+                results.add(BatchJobResult.builder().index(index).success(false).error(error).build());
+                continue;
+            }
+
+            Job.JobStatus status = request.getStatus() != null ? request.getStatus() : Job.JobStatus.PENDING;
+            Job job = Job.builder()
+                    .description(request.getDescription())
+                    .technician(technicianRepository.getReferenceById(request.getTechId()))
+                    .createdDate(now)
+                    .completedDate(status == Job.JobStatus.COMPLETED ? now : null)
+                    .status(status)
+                    .build();
+            Job saved = jobRepository.save(job);
+            assignedTechIds.add(request.getTechId());
+            jobStatusCounters.recordCreated(request.getTechId(), status);
+            technicianWorkloadIndex.recordCreated(request.getTechId(), status);
+            publish(JobChangeEvent.created(saved.getJobId(), request.getTechId(), status,
+                    saved.getVersion()));
+            Long jobId = saved.getJobId();
+            results.add(BatchJobResult.builder().index(index).success(true).jobId(jobId).build());
+
+            if (++created % BATCH_FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
-        return jobRepository.save(job);
+        technicianJobsChanged(assignedTechIds);
+        entityManager.flush();
+        entityManager.clear();
+
+        return BatchJobResponse.builder()
+                .requested(requests.size())
+                .created(created)
+                .failed(requests.size() - created)
+                .results(results)
+                .build();
+    }
+
+    private static String validateBatchItem(CreateJobRequest request, Set<Long> existingTechIds) {
+        if (request == null) {
+            return "Job is required";
+        }
+        if (request.getDescription() == null || request.getDescription().isBlank()) {
+            return "Job description is required";
+        }
+        if (request.getTechId() == null) {
+            return "Technician ID is required";
+        }
+        if (!existingTechIds.contains(request.getTechId())) {
+            return String.format(ApiConstants.TECHNICIAN_NOT_FOUND, request.getTechId());
+        }
+        return null;
     }
 
     /**
      * {@inheritDoc}
+     * Loads the entity so the second-level cache can answer repeat reads; misses read from the primary.
      */
     @Override
-    public Job getJobById(Long id) {
-        return jobRepository.findById(id)
+    @Transactional(readOnly = true)
+    public JobResponse getJobById(Long id) {
+        return DataSourceRouting.onPrimary(() -> jobRepository.findById(id))
+                .map(JobResponse::from)
                 .orElseThrow(() -> new JobNotFoundException(id));
     }
 
@@ -57,59 +236,400 @@ public class JobServiceImpl implements JobService {
      * {@inheritDoc}
      */
     @Override
-    public List<Job> getAllJobs() {
-        return jobRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<JobResponse> getAllJobs() {
+        return jobRepository.findAllResponses();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Fetches one extra row to find out whether another page exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<JobResponse> getJobsPage(Long afterId, int limit) {
+        int pageSize = Math.max(1, Math.min(limit, ApiConstants.MAX_PAGE_SIZE));
+        long cursor = afterId != null ? afterId : 0L;
+        List<JobResponse> jobs = jobRepository.findResponsesAfter(cursor, Limit.of(pageSize + 1));
+
+        Long nextCursor = null;
+        if (jobs.size() > pageSize) {
+            jobs = jobs.subList(0, pageSize);
+            nextCursor = jobs.get(pageSize - 1).jobId();
+        }
+        return CursorPage.<JobResponse>builder()
+                .items(jobs)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllJobs(Consumer<JobResponse> consumer) {
+        try (Stream<JobResponse> jobs = jobRepository.streamAllResponses()) {
+            jobs.forEach(consumer);
+        }
     }
 
     /**
      * {@inheritDoc}
-     * Additionally, validates that the technician exists before querying their jobs.
+     * Reads with plain JDBC rather than through Hibernate, so rows are never tracked or cached.
      */
     @Override
-    public List<Job> getJobsByTechnicianId(Long techId) {
-        if (!technicianRepository.existsById(techId)) {
+    @Transactional(readOnly = true)
+    public void exportJobs(JobSearchCriteria criteria, Consumer<JobExportRow> consumer) {
+        criteria.validateRanges();
+        jobExportRepository.forEach(criteria, consumer);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The technician's existence is only checked when no jobs are found.
+     * The jobs are query cached; misses read from the primary.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobResponse> getJobsByTechnicianId(Long techId) {
+        List<JobResponse> jobs = DataSourceRouting.onPrimary(() -> jobRepository.findResponsesByTechId(techId));
+        if (jobs.isEmpty() && !technicianRepository.existsById(techId)) {
             throw new TechnicianNotFoundException(techId);
         }
-        return jobRepository.findByTechnicianTechId(techId);
+        return jobs;
     }
 
     /**
      * {@inheritDoc}
+     * The archive is only read when the job table has no job with this ID.
      */
     @Override
-    public List<Job> getJobsByStatus(Job.JobStatus status) {
-        return jobRepository.findByStatus(status);
+    @Transactional(readOnly = true)
+    public JobResponse getJobByIdIncludingArchived(Long id) {
+        return DataSourceRouting.onPrimary(() -> jobRepository.findById(id))
+                .map(JobResponse::from)
+                .or(() -> archivedJobRepository.findResponseById(id))
+                .orElseThrow(() -> new JobNotFoundException(id));
     }
 
     /**
      * {@inheritDoc}
-     * Additionally, sets the completion date when status changes to COMPLETED.
+     * Archived jobs keep their technician ID after the technician is deleted, so the technician's
+     * existence is only checked when neither table has any jobs for it.
      */
     @Override
-    public Job updateJob(Long id, Job job) {
-        if (!jobRepository.existsById(id)) {
-            throw new JobNotFoundException(id);
+    @Transactional(readOnly = true)
+    public List<JobResponse> getJobsByTechnicianIdIncludingArchived(Long techId) {
+        List<JobResponse> jobs = new ArrayList<>(
+                DataSourceRouting.onPrimary(() -> jobRepository.findResponsesByTechId(techId)));
+        jobs.addAll(archivedJobRepository.findResponsesByTechId(techId));
+        if (jobs.isEmpty() && !technicianRepository.existsById(techId)) {
+            throw new TechnicianNotFoundException(techId);
         }
-        if (job.getTechnician() != null && job.getTechnician().getTechId() != null) {
-            if (!technicianRepository.existsById(job.getTechnician().getTechId())) {
-                throw new TechnicianNotFoundException(job.getTechnician().getTechId());
+        return jobs;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long getJobVersion(Long id) {
+        return jobRepository.findAssignmentById(id)
+                .orElseThrow(() -> new JobNotFoundException(id))
+                .getVersion();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The jobs are query cached; misses read from the primary.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobResponse> getJobsByStatus(Job.JobStatus status) {
+        return DataSourceRouting.onPrimary(() -> jobRepository.findResponsesByStatus(status));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Appends the job ID as a tie-breaker so pages stay stable when sort values repeat.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<JobResponse> searchJobs(JobSearchCriteria criteria, Pageable pageable) {
+        criteria.validateRanges();
+
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!SEARCH_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new InvalidSearchCriteriaException("Unsupported sort property: " + order.getProperty()
+                        + ". Supported properties: " + SEARCH_SORT_PROPERTIES);
             }
         }
+        if (sort.getOrderFor("jobId") == null) {
+            Sort.Direction direction = sort.stream().findFirst().map(Sort.Order::getDirection).orElse(Sort.Direction.ASC);
+            sort = sort.and(Sort.by(direction, "jobId"));
+        }
+
+        Pageable page = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+        return PageResponse.from(jobRepository.findResponses(JobSpecifications.matching(criteria), page));
+    }
+
+    /**
+     * {@inheritDoc}
+     * Additionally, sets the completion date when status changes to COMPLETED.
+     * The job's current technician, status and version are read through a projection, then the
+     * job is updated with a single UPDATE that only applies if the version is unchanged.
+     * Without a version in the request, the version just read is used, so a concurrent change
+     * between the read and the update is still detected. No row lock is held in between.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public JobResponse updateJob(Long id, Job job) {
+        JobAssignment previous = jobRepository.findAssignmentById(id)
+                .orElseThrow(() -> new JobNotFoundException(id));
+        Long version = job.getVersion() != null ? job.getVersion() : previous.getVersion();
+        if (!version.equals(previous.getVersion())) {
+            throw versionConflict(id, version, previous.getVersion());
+        }
+        validateTransition(id, previous.getStatus(), job.getStatus());
+        Long techId = job.getTechnician() != null ? job.getTechnician().getTechId() : null;
         job.setJobId(id);
         if (job.getStatus() == Job.JobStatus.COMPLETED && job.getCompletedDate() == null) {
             job.setCompletedDate(LocalDateTime.now());
         }
-        return jobRepository.save(job);
+
+        int updated = techId == null
+                ? jobRepository.updateDetails(id, version, job.getDescription(), job.getStatus(),
+                        job.getCreatedDate(), job.getCompletedDate())
+                : jobRepository.updateDetailsAndTechnician(id, version, technicianRepository.getReferenceById(techId),
+                        job.getDescription(), job.getStatus(), job.getCreatedDate(), job.getCompletedDate());
+        if (updated == 0) {
+            JobAssignment current = jobRepository.findAssignmentById(id)
+                    .orElseThrow(() -> new JobNotFoundException(id));
+            if (!version.equals(current.getVersion()) || techId == null) {
+                throw versionConflict(id, version, current.getVersion());
+            }
+            throw new TechnicianNotFoundException(techId);
+        }
+        Long currentTechId = techId != null ? techId : previous.getTechId();
+        technicianJobsChanged(Arrays.asList(previous.getTechId(), currentTechId));
+        jobStatusCounters.recordUpdated(previous.getTechId(), previous.getStatus(), currentTechId, job.getStatus());
+        technicianWorkloadIndex.recordUpdated(previous.getTechId(), previous.getStatus(), currentTechId, job.getStatus());
+        publish(JobChangeEvent.updated(id, previous.getTechId(), previous.getStatus(),
+                currentTechId, job.getStatus(), version + 1));
+        return new JobResponse(id, job.getDescription(), currentTechId, job.getCreatedDate(), job.getCompletedDate(),
+                job.getStatus(), version + 1);
+    }
+
+    /**
+     * {@inheritDoc}
+     * The status is changed with a single {@code UPDATE ... WHERE status = :expected}; the job's
+     * technician and new version are read afterwards, while the updated row is still locked by
+     * this transaction. No read precedes the write.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public JobStatusResponse updateJobStatus(Long id, Job.JobStatus expectedStatus, Job.JobStatus status) {
+        validateTransition(id, expectedStatus, status);
+        LocalDateTime completedDate = status == Job.JobStatus.COMPLETED ? LocalDateTime.now() : null;
+        int updated = jobRepository.compareAndSetStatus(id, expectedStatus, status, completedDate);
+
+        JobAssignment current = jobRepository.findAssignmentById(id)
+                .orElseThrow(() -> new JobNotFoundException(id));
+        if (updated == 0) {
+            throw new JobConflictException("Job " + id + " is " + current.getStatus()
+                    + ", expected " + expectedStatus);
+        }
+        technicianJobsChanged(Collections.singleton(current.getTechId()));
+        jobStatusCounters.recordUpdated(current.getTechId(), expectedStatus, current.getTechId(), status);
+        technicianWorkloadIndex.recordUpdated(current.getTechId(), expectedStatus, current.getTechId(), status);
+        publish(JobChangeEvent.updated(id, current.getTechId(), expectedStatus,
+                current.getTechId(), status, current.getVersion()));
+        return JobStatusResponse.builder()
+                .jobId(id)
+                .previousStatus(expectedStatus)
+                .status(status)
+                .version(current.getVersion())
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The selected rows are read and locked with one query, and every job that can move is
+     * changed with one UPDATE, however many there are. Counters, workloads, the outbox and the
+     * event stream are then adjusted per changed job, as for a single status change.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public StatusTransitionResponse transitionStatuses(StatusTransitionRequest request) {
+        boolean byId = request.getJobIds() != null && !request.getJobIds().isEmpty();
+        if (byId == (request.getTechId() != null)) {
+            throw new InvalidRequestException("Select jobs either by jobIds or by techId");
+        }
+        Job.JobStatus status = request.getStatus();
+        Job.JobStatus currentStatus = request.getCurrentStatus();
+
+        List<StatusTransitionResult> results;
+        List<JobAssignment> eligible = new ArrayList<>();
+        if (byId) {
+            Set<Long> ids = new LinkedHashSet<>(request.getJobIds());
+            ids.remove(null);
+            if (ids.size() > ApiConstants.MAX_BATCH_SIZE) {
+                throw new InvalidRequestException("Request selects " + ids.size()
+                        + " jobs; the maximum is " + ApiConstants.MAX_BATCH_SIZE);
+            }
+            Map<Long, JobAssignment> found = jobRepository.lockAssignmentsByIds(ids).stream()
+                    .collect(Collectors.toMap(JobAssignment::getJobId, Function.identity()));
+            results = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                JobAssignment job = found.get(id);
+                results.add(job == null
+                        ? StatusTransitionResult.builder().jobId(id).outcome(StatusTransitionResult.Outcome.NOT_FOUND)
+                                .error(String.format(ApiConstants.JOB_NOT_FOUND, id)).build()
+                        : transitionResult(job, currentStatus, status, eligible));
+            }
+        } else {
+            List<JobAssignment> jobs = jobRepository.lockAssignmentsByTechnician(request.getTechId(), currentStatus,
+                    Limit.of(ApiConstants.MAX_BATCH_SIZE + 1));
+            if (jobs.size() > ApiConstants.MAX_BATCH_SIZE) {
+                throw new InvalidRequestException("Request selects more than " + ApiConstants.MAX_BATCH_SIZE
+                        + " jobs; narrow it with currentStatus or select jobs by ID");
+            }
+            if (jobs.isEmpty() && !technicianRepository.existsById(request.getTechId())) {
+                throw new TechnicianNotFoundException(request.getTechId());
+            }
+            results = new ArrayList<>(jobs.size());
+            for (JobAssignment job : jobs) {
+                results.add(transitionResult(job, currentStatus, status, eligible));
+            }
+        }
+
+        if (!eligible.isEmpty()) {
+            LocalDateTime completedDate = status == Job.JobStatus.COMPLETED ? LocalDateTime.now() : null;
+            jobRepository.updateStatusByIds(eligible.stream().map(JobAssignment::getJobId).toList(), status,
+                    completedDate);
+            technicianJobsChanged(eligible.stream().map(JobAssignment::getTechId).toList());
+            for (JobAssignment job : eligible) {
+                jobStatusCounters.recordUpdated(job.getTechId(), job.getStatus(), job.getTechId(), status);
+                technicianWorkloadIndex.recordUpdated(job.getTechId(), job.getStatus(), job.getTechId(), status);
+                publish(JobChangeEvent.updated(job.getJobId(), job.getTechId(), job.getStatus(), job.getTechId(),
+                        status, job.getVersion() + 1));
+            }
+        }
+
+        int failed = (int) results.stream().filter(result -> result.getError() != null).count();
+        return StatusTransitionResponse.builder()
+                .requested(results.size())
+                .updated(eligible.size())
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+
+    /** Decides what happens to one locked job, adding it to {@code eligible} if it should be updated. */
+    private static StatusTransitionResult transitionResult(JobAssignment job, Job.JobStatus currentStatus,
+                                                           Job.JobStatus status, List<JobAssignment> eligible) {
+        StatusTransitionResult.StatusTransitionResultBuilder result = StatusTransitionResult.builder()
+                .jobId(job.getJobId())
+                .previousStatus(job.getStatus())
+                .version(job.getVersion());
+        if (currentStatus != null && job.getStatus() != currentStatus) {
+            return result.outcome(StatusTransitionResult.Outcome.CONFLICT)
+                    .error("Job " + job.getJobId() + " is " + job.getStatus() + ", expected " + currentStatus)
+                    .build();
+        }
+        if (job.getStatus() == status) {
+            return result.outcome(StatusTransitionResult.Outcome.UNCHANGED).build();
+        }
+        if (!job.getStatus().canTransitionTo(status)) {
+            return result.outcome(StatusTransitionResult.Outcome.INVALID_TRANSITION)
+                    .error("Job " + job.getJobId() + " cannot move from " + job.getStatus() + " to " + status)
+                    .build();
+        }
+        eligible.add(job);
+        return result.outcome(StatusTransitionResult.Outcome.UPDATED).version(job.getVersion() + 1).build();
+    }
+
+    private static void validateTransition(Long id, Job.JobStatus from, Job.JobStatus to) {
+        if (from != null && to != null && !from.canTransitionTo(to)) {
+            throw new InvalidJobStatusException("Job " + id + " cannot move from " + from + " to " + to);
+        }
+    }
+
+    private static JobConflictException versionConflict(Long id, Long expected, Long actual) {
+        return new JobConflictException("Job " + id + " was modified concurrently: expected version "
+                + expected + " but found " + actual);
     }
 
     /**
      * {@inheritDoc}
      */
     @Override
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
     public void deleteJob(Long id) {
-        if (!jobRepository.existsById(id)) {
+        JobAssignment previous = jobRepository.findAssignmentById(id)
+                .orElseThrow(() -> new JobNotFoundException(id));
+        if (jobRepository.deleteJobById(id) == 0) {
             throw new JobNotFoundException(id);
         }
-        jobRepository.deleteById(id);
+        technicianJobsChanged(Collections.singleton(previous.getTechId()));
+        jobStatusCounters.recordDeleted(previous.getTechId(), previous.getStatus());
+        technicianWorkloadIndex.recordDeleted(previous.getTechId(), previous.getStatus());
+        publish(JobChangeEvent.deleted(id, previous.getTechId(), previous.getStatus()));
+    }
+
+    /**
+     * {@inheritDoc}
+     * The jobs are locked and read with one query and removed with one DELETE per
+     * {@link ApiConstants#MAX_BATCH_SIZE} jobs. Counters, workloads, the outbox and the event stream
+     * see each job deleted as if it had been deleted on its own.
+     */
+    @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TECHNICIANS, key = "#techId"),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    })
+    public int deleteJobsByTechnicianId(Long techId) {
+        List<JobAssignment> jobs = jobRepository.lockAssignmentsByTechnician(techId, null, Limit.unlimited());
+        List<Long> ids = jobs.stream().map(JobAssignment::getJobId).toList();
+        for (int from = 0; from < ids.size(); from += ApiConstants.MAX_BATCH_SIZE) {
+            jobRepository.deleteJobsByIds(ids.subList(from, Math.min(ids.size(), from + ApiConstants.MAX_BATCH_SIZE)));
+        }
+        for (JobAssignment job : jobs) {
+            jobStatusCounters.recordDeleted(techId, job.getStatus());
+            technicianWorkloadIndex.recordDeleted(techId, job.getStatus());
+            publish(JobChangeEvent.deleted(job.getJobId(), techId, job.getStatus()));
+        }
+        return jobs.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public JobStatsResponse getJobStats() {
+        return jobStatusCounters.snapshot();
+    }
+
+    /**
+     * Evicts the cached copies of the technicians whose job lists a write changed, after commit.
+     * Other technicians stay cached; null IDs, for unassigned jobs, are skipped.
+     */
+    private void technicianJobsChanged(Collection<Long> techIds) {
+        Cache technicians = cacheManager.getCache(CacheNames.TECHNICIANS);
+        techIds.stream().filter(Objects::nonNull).distinct().forEach(technicians::evict);
+    }
+
+    /** Records a change in the outbox, inserted with the change itself, and streams it after commit. */
+    private void publish(JobChangeEvent event) {
+        jobOutboxRepository.save(JobOutboxEvent.from(event));
+        jobEventBroadcaster.publish(event);
+    }
+
+    private static Long techIdOf(Job job) {
+        return job.getTechnician() != null ? job.getTechnician().getTechId() : null;
     }
-} 
\ No newline at end of file
+}
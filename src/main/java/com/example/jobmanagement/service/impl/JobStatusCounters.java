@@ -0,0 +1,214 @@
+package com.example.jobmanagement.service.impl;
+
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.datasource.DataSourceRouting;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.repository.JobStatusCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory job counts per status, overall and per technician.
+ * The counts are adjusted incrementally by {@link JobServiceImpl} once a write commits.
+ * A scheduled task replaces them with counts from the database, which corrects any
+ * drift from concurrent writes or from changes made outside the application.
+ * Reading a summary never touches the database.
+ *
+ * <p>A reconciliation can itself leave the counts slightly off until the next one. A write that
+ * commits before the count query reads its row, but is applied here only after the reconciliation
+ * started, is counted by the query and again when the changes made meanwhile are re-applied. A write
+ * applied between that re-application and the swap is lost. Closing both gaps would need a lock held
+ * from commit to callback and across the count query, on every write; the counts are a dashboard
+ * figure, so the drift is accepted instead.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobStatusCounters {
+    private static final Job.JobStatus[] STATUSES = Job.JobStatus.values();
+
+    private final JobRepository jobRepository;
+
+    private volatile Counts counts = new Counts();
+
+    /** Changes committed while a reconciliation is running; re-applied on top of its result. */
+    private volatile Counts pendingDuringReconcile;
+
+    private volatile LocalDateTime reconciledAt;
+
+    /**
+     * Counts a newly created job.
+     *
+     * @param techId the assigned technician, may be null
+     * @param status the status of the job
+     */
+    public void recordCreated(Long techId, Job.JobStatus status) {
+        afterCommit(() -> add(techId, status, 1));
+    }
+
+    /**
+     * Moves an updated job between counters.
+     *
+     * @param previousTechId the technician assigned before the update, may be null
+     * @param previousStatus the status before the update
+     * @param techId the technician assigned after the update, may be null
+     * @param status the status after the update
+     */
+    public void recordUpdated(Long previousTechId, Job.JobStatus previousStatus, Long techId, Job.JobStatus status) {
+        afterCommit(() -> {
+            add(previousTechId, previousStatus, -1);
+            add(techId, status, 1);
+        });
+    }
+
+    /**
+     * Removes a deleted job from the counters.
+     *
+     * @param techId the technician the job was assigned to, may be null
+     * @param status the status of the job
+     */
+    public void recordDeleted(Long techId, Job.JobStatus status) {
+        afterCommit(() -> add(techId, status, -1));
+    }
+
+    /**
+     * Builds the dashboard summary from the current counters.
+     *
+     * @return job counts per status, overall and per technician
+     */
+    public JobStatsResponse snapshot() {
+        Counts current = counts;
+        Map<Long, Map<Job.JobStatus, Long>> byTechnician = new TreeMap<>();
+        current.byTechnician.forEach((techId, adders) -> {
+            Map<Job.JobStatus, Long> byStatus = toMap(adders);
+            if (byStatus.values().stream().anyMatch(count -> count != 0)) {
+                byTechnician.put(techId, byStatus);
+            }
+        });
+        Map<Job.JobStatus, Long> byStatus = toMap(current.overall);
+        return JobStatsResponse.builder()
+                .total(byStatus.values().stream().mapToLong(Long::longValue).sum())
+                .byStatus(byStatus)
+                .byTechnician(byTechnician)
+                .reconciledAt(reconciledAt)
+                .build();
+    }
+
+    /**
+     * Replaces the counters with counts from the database.
+     * Runs once at startup and then every {@code jobs.stats.reconcile-interval}.
+     * Reads from the primary, as a lagging replica would undo recent changes.
+     * Writes committing while it runs may be counted twice or missed; see the class description.
+     */
+    @Scheduled(fixedDelayString = "${jobs.stats.reconcile-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public synchronized void reconcile() {
+        Counts pending = new Counts();
+        pendingDuringReconcile = pending;
+        try {
+            Counts fresh = new Counts();
+            for (JobStatusCount row : DataSourceRouting.onPrimary(jobRepository::countByTechnicianAndStatus)) {
+                fresh.add(row.getTechId(), row.getStatus(), row.getCount());
+            }
+            fresh.addAll(pending);
+
+            if (reconciledAt != null && !fresh.sameOverall(counts)) {
+                log.info("Job status counters drifted from the database and were corrected");
+            }
+            counts = fresh;
+            reconciledAt = LocalDateTime.now();
+        } finally {
+            pendingDuringReconcile = null;
+        }
+    }
+
+    private void add(Long techId, Job.JobStatus status, long delta) {
+        counts.add(techId, status, delta);
+        Counts pending = pendingDuringReconcile;
+        if (pending != null) {
+            pending.add(techId, status, delta);
+        }
+    }
+
+    private static void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+        } else {
+            change.run();
+        }
+    }
+
+    private static Map<Job.JobStatus, Long> toMap(LongAdder[] adders) {
+        Map<Job.JobStatus, Long> result = new EnumMap<>(Job.JobStatus.class);
+        for (Job.JobStatus status : STATUSES) {
+            result.put(status, adders[status.ordinal()].sum());
+        }
+        return result;
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[STATUSES.length];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    /**
+     * One generation of counters. Replaced as a whole on reconciliation so readers
+     * never see a half-rebuilt set of counts.
+     */
+    private static final class Counts {
+        private final LongAdder[] overall = newAdders();
+        private final Map<Long, LongAdder[]> byTechnician = new ConcurrentHashMap<>();
+
+        void add(Long techId, Job.JobStatus status, long delta) {
+            if (status == null) {
+                return;
+            }
+            overall[status.ordinal()].add(delta);
+            if (techId != null) {
+                byTechnician.computeIfAbsent(techId, id -> newAdders())[status.ordinal()].add(delta);
+            }
+        }
+
+        void addAll(Counts other) {
+            for (Job.JobStatus status : STATUSES) {
+                overall[status.ordinal()].add(other.overall[status.ordinal()].sum());
+            }
+            other.byTechnician.forEach((techId, adders) -> {
+                LongAdder[] target = byTechnician.computeIfAbsent(techId, id -> newAdders());
+                for (int i = 0; i < adders.length; i++) {
+                    target[i].add(adders[i].sum());
+                }
+            });
+        }
+
+        boolean sameOverall(Counts other) {
+            for (int i = 0; i < overall.length; i++) {
+                if (overall[i].sum() != other.overall[i].sum()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -1,57 +1,101 @@
 package com.example.jobmanagement.service.impl;
 
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.datasource.DataSourceRouting;
 import com.example.jobmanagement.dto.CreateTechnicianRequest;
+import com.example.jobmanagement.dto.TechnicianResponse;
 import com.example.jobmanagement.entity.Technician;
 import com.example.jobmanagement.exception.TechnicianNotFoundException;
+import com.example.jobmanagement.repository.TechnicianJobRow;
 import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.service.JobService;
 import com.example.jobmanagement.service.TechnicianService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * Technician reads are cached until a write evicts them. Cache misses read from the primary:
+ * a replica that has not caught up with the evicting write would put the old state back in the cache.
+ */
 @Service
 @RequiredArgsConstructor
 @Transactional
+@Timed(value = MetricNames.TECHNICIAN_SERVICE, description = "Technician service method latency")
 public class TechnicianServiceImpl implements TechnicianService {
 
     private final TechnicianRepository technicianRepository;
+    private final TechnicianWorkloadIndex technicianWorkloadIndex;
+    private final JobService jobService;
 
     @Override
-    public List<Technician> getAllTechnicians() {
-        return technicianRepository.findAll();
+    @Cacheable(cacheNames = CacheNames.TECHNICIAN_LIST, key = "'all'")
+    @Transactional(readOnly = true)
+    public List<TechnicianResponse> getAllTechnicians() {
+        return DataSourceRouting.onPrimary(() -> TechnicianJobRow.toResponses(technicianRepository.findAllRows()));
     }
 
     @Override
-    public Technician getTechnicianById(Long id) {
-        return technicianRepository.findById(id)
-                .orElseThrow(() -> new TechnicianNotFoundException(id));
+    @Cacheable(cacheNames = CacheNames.TECHNICIANS, key = "#id")
+    @Transactional(readOnly = true)
+    public TechnicianResponse getTechnicianById(Long id) {
+        return DataSourceRouting.onPrimary(() -> findResponse(id));
     }
 
     @Override
-    public Technician createTechnician(CreateTechnicianRequest request) {
+    @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    public TechnicianResponse createTechnician(CreateTechnicianRequest request) {
         Technician technician = Technician.builder()
                 .techName(request.getTechName())
                 .doj(request.getDateOfJoining())
                 .build();
-        return technicianRepository.save(technician);
+        Technician saved = technicianRepository.save(technician);
+        technicianWorkloadIndex.technicianAdded(saved.getTechId());
+        return new TechnicianResponse(saved.getTechId(), saved.getTechName(), saved.getDoj(), saved.getVersion(), List.of());
     }
 
     @Override
-    public Technician updateTechnician(Long id, Technician technician) {
-        if (!technicianRepository.existsById(id)) {
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TECHNICIANS, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true)
+    })
+    public TechnicianResponse updateTechnician(Long id, Technician technician) {
+        if (technicianRepository.updateDetails(id, technician.getTechName(), technician.getDoj()) == 0) {
             throw new TechnicianNotFoundException(id);
         }
-        technician.setTechId(id);
-        return technicianRepository.save(technician);
+        return findResponse(id);
     }
 
+    /**
+     * Deletes the technician's jobs with it, as the cascade on {@link Technician#getJobs()} does,
+     * but with single statements rather than loading and removing the jobs one by one.
+     */
     @Override
+    @Caching(evict = {
+        @CacheEvict(cacheNames = CacheNames.TECHNICIANS, key = "#id"),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_LIST, allEntries = true),
+        @CacheEvict(cacheNames = CacheNames.TECHNICIAN_EXISTS, key = "#id")
+    })
     public void deleteTechnician(Long id) {
-        if (!technicianRepository.existsById(id)) {
+        jobService.deleteJobsByTechnicianId(id);
+        if (technicianRepository.deleteTechnicianById(id) == 0) {
             throw new TechnicianNotFoundException(id);
         }
-        technicianRepository.deleteById(id);
+        technicianWorkloadIndex.technicianRemoved(id);
     }
-}
\ No newline at end of file
+
+    private TechnicianResponse findResponse(Long id) {
+        List<TechnicianResponse> responses = TechnicianJobRow.toResponses(technicianRepository.findRowsByTechId(id));
+        if (responses.isEmpty()) {
+            throw new TechnicianNotFoundException(id);
+        }
+        return responses.get(0);
+    }
+}
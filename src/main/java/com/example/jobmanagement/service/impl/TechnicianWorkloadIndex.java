@@ -0,0 +1,312 @@
+package com.example.jobmanagement.service.impl;
+
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.datasource.DataSourceRouting;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.repository.TechnicianWorkload;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory index of open (PENDING and IN_PROGRESS) jobs per technician, ordered so the
+ * least-loaded technician is found in O(log n) when a job is auto-assigned.
+ *
+ * <p>Job and technician writes are applied once they commit. An auto-assignment is counted
+ * immediately as a reservation, so concurrent creates spread across technicians instead of all
+ * picking the same one; the reservation is released if the creating transaction rolls back.
+ * A scheduled task rebuilds the index from the database to correct drift from changes made
+ * outside the application.
+ *
+ * <p>A rebuild can count a write twice until the next one: a write that commits before the
+ * workload query reads its row, but is applied here only after the rebuild started, is in the
+ * query result and is also replayed with the other changes made meanwhile. A reservation whose
+ * transaction commits before the query is double-counted the same way. The error only ever
+ * overstates a workload, which at worst steers a few assignments to another technician.
+ */
+@Component
+@RequiredArgsConstructor
+public class TechnicianWorkloadIndex {
+    private static final Set<Job.JobStatus> OPEN_STATUSES = EnumSet.copyOf(
+            Arrays.stream(Job.JobStatus.values()).filter(Job.JobStatus::isOpen).toList());
+
+    /** Fewest open jobs first; ties go to the lowest technician ID so assignment is deterministic. */
+    private static final Comparator<Workload> LEAST_LOADED_FIRST =
+            Comparator.comparingLong(Workload::openJobs).thenComparingLong(Workload::techId);
+
+    private final TechnicianRepository technicianRepository;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /** Serializes rebuilds; held during the query, so nothing on the assignment path takes it once built. */
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    // Guarded by lock. Both structures always hold the same entries.
+    private Map<Long, Workload> byTechId = new HashMap<>();
+    private NavigableSet<Workload> byLoad = new TreeSet<>(LEAST_LOADED_FIRST);
+
+    /** Changes applied while a rebuild is running; replayed on top of its result. Guarded by lock. */
+    private List<Runnable> changesDuringRebuild;
+
+    /** Set once the first rebuild has finished; read without a lock so built indexes never wait on a rebuild. */
+    private volatile boolean built;
+
+    /**
+     * Picks the technician with the fewest open jobs and counts one more open job against them.
+     * Inside a transaction the reservation is released again if the transaction does not commit.
+     *
+     * @return the ID of the least-loaded technician, or null if there are no technicians
+     */
+    public Long reserveLeastLoaded() {
+        ensureBuilt();
+        Long techId;
+        lock.lock();
+        try {
+            if (byLoad.isEmpty()) {
+                return null;
+            }
+            techId = byLoad.first().techId();
+            apply(() -> adjust(techId, 1));
+        } finally {
+            lock.unlock();
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        update(() -> adjust(techId, -1));
+                    }
+                }
+            });
+        }
+        return techId;
+    }
+
+    /**
+     * Counts a newly created job that was assigned explicitly rather than reserved.
+     *
+     * @param techId the assigned technician, may be null
+     * @param status the status of the job
+     */
+    public void recordCreated(Long techId, Job.JobStatus status) {
+        if (isOpen(status)) {
+            afterCommit(() -> adjust(techId, 1));
+        }
+    }
+
+    /**
+     * Moves an updated job between technicians, or in or out of the open statuses.
+     *
+     * @param previousTechId the technician assigned before the update, may be null
+     * @param previousStatus the status before the update
+     * @param techId the technician assigned after the update, may be null
+     * @param status the status after the update
+     */
+    public void recordUpdated(Long previousTechId, Job.JobStatus previousStatus, Long techId, Job.JobStatus status) {
+        afterCommit(() -> {
+            if (isOpen(previousStatus)) {
+                adjust(previousTechId, -1);
+            }
+            if (isOpen(status)) {
+                adjust(techId, 1);
+            }
+        });
+    }
+
+    /**
+     * Removes a deleted job from its technician's workload.
+     *
+     * @param techId the technician the job was assigned to, may be null
+     * @param status the status of the job
+     */
+    public void recordDeleted(Long techId, Job.JobStatus status) {
+        if (isOpen(status)) {
+            afterCommit(() -> adjust(techId, -1));
+        }
+    }
+
+    /**
+     * Makes a new technician available for assignment with no open jobs.
+     *
+     * @param techId the ID of the technician
+     */
+    public void technicianAdded(Long techId) {
+        afterCommit(() -> {
+            if (!byTechId.containsKey(techId)) {
+                put(new Workload(techId, 0));
+            }
+        });
+    }
+
+    /**
+     * Stops assigning jobs to a deleted technician.
+     *
+     * @param techId the ID of the technician
+     */
+    public void technicianRemoved(Long techId) {
+        afterCommit(() -> {
+            Workload removed = byTechId.remove(techId);
+            if (removed != null) {
+                byLoad.remove(removed);
+            }
+        });
+    }
+
+    /**
+     * Returns the number of open jobs currently counted for a technician.
+     *
+     * @param techId the ID of the technician
+     * @return the open job count, including reservations; 0 if the technician is not indexed
+     */
+    public long getOpenJobs(Long techId) {
+        lock.lock();
+        try {
+            Workload workload = byTechId.get(techId);
+            return workload != null ? workload.openJobs() : 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Replaces the index with workloads read from the database.
+     * Runs once at startup and then every {@code jobs.assignment.rebuild-interval}.
+     * The query runs without holding the lock, so assignments continue meanwhile.
+     * It reads from the primary, as a lagging replica would undo recent changes.
+     * Writes committing while it runs may be counted twice; see the class description.
+     */
+    @Scheduled(fixedDelayString = "${jobs.assignment.rebuild-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            rebuildFromDatabase();
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /** Builds the index on first use. Later calls only read the flag, even while a rebuild runs. */
+    private void ensureBuilt() {
+        if (built) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (!built) {
+                rebuildFromDatabase();
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /** Requires the rebuild lock. */
+    private void rebuildFromDatabase() {
+        lock.lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.unlock();
+        }
+        try {
+            List<TechnicianWorkload> rows = DataSourceRouting.onPrimary(
+                    () -> technicianRepository.findWorkloads(OPEN_STATUSES));
+            lock.lock();
+            try {
+                byTechId = new HashMap<>();
+                byLoad = new TreeSet<>(LEAST_LOADED_FIRST);
+                for (TechnicianWorkload row : rows) {
+                    put(new Workload(row.getTechId(), row.getOpenJobs()));
+                }
+                changesDuringRebuild.forEach(Runnable::run);
+                built = true;
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void afterCommit(Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update(change);
+                }
+            });
+        } else {
+            update(change);
+        }
+    }
+
+    private void update(Runnable change) {
+        lock.lock();
+        try {
+            apply(change);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Applies a change to the current index, remembering it if a rebuild is running. Requires the lock. */
+    private void apply(Runnable change) {
+        change.run();
+        if (changesDuringRebuild != null) {
+            changesDuringRebuild.add(change);
+        }
+    }
+
+    /** Requires the lock. Unknown technicians are added when their first job arrives. */
+    private void adjust(Long techId, long delta) {
+        if (techId == null) {
+            return;
+        }
+        Workload current = byTechId.get(techId);
+        if (current == null) {
+            if (delta <= 0) {
+                return;
+            }
+            current = new Workload(techId, 0);
+        } else {
+            byLoad.remove(current);
+        }
+        put(new Workload(techId, Math.max(0, current.openJobs() + delta)));
+    }
+
+    /** Requires the lock. Entries are immutable so the sorted set never holds a stale ordering. */
+    private void put(Workload workload) {
+        byTechId.put(workload.techId(), workload);
+        byLoad.add(workload);
+    }
+
+    private static boolean isOpen(Job.JobStatus status) {
+        return status != null && status.isOpen();
+    }
+
+    private record Workload(long techId, long openJobs) {
+    }
+}
@@ -1,28 +1,293 @@
 package com.example.jobmanagement.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
+/**
+ * Formats and parses dates as {@code yyyy-MM-dd} and date-times as {@code yyyy-MM-dd HH:mm:ss}.
+ * The formatters are built once and shared; they are immutable and thread-safe.
+ * The {@code append}/{@code write} methods and the offset-based parsers are fast paths for export
+ * and import loops: they work on fixed character positions and allocate nothing beyond the result.
+ * They fall back to the formatters for anything outside four-digit years or strictly valid field
+ * values, so results and errors always match the formatters.
+ */
 public final class DateUtils {
     private DateUtils() {}
 
     private static final String DATE_FORMAT = "yyyy-MM-dd";
     private static final String DATE_TIME_FORMAT = "yyyy-MM-dd HH:mm:ss";
 
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern(DATE_FORMAT);
+    public static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT);
+
+    /** Length of a formatted date with a four-digit year */
+    public static final int DATE_LENGTH = DATE_FORMAT.length();
+
+    /** Length of a formatted date-time with a four-digit year */
+    public static final int DATE_TIME_LENGTH = DATE_TIME_FORMAT.length();
+
     public static String formatDate(LocalDate date) {
-        return date != null ? date.format(DateTimeFormatter.ofPattern(DATE_FORMAT)) : null;
+        return date != null ? appendDate(new StringBuilder(DATE_LENGTH), date).toString() : null;
     }
 
     public static String formatDateTime(LocalDateTime dateTime) {
-        return dateTime != null ? dateTime.format(DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)) : null;
+        return dateTime != null ? appendDateTime(new StringBuilder(DATE_TIME_LENGTH), dateTime).toString() : null;
     }
 
     public static LocalDate parseDate(String dateStr) {
-        return dateStr != null ? LocalDate.parse(dateStr, DateTimeFormatter.ofPattern(DATE_FORMAT)) : null;
+        if (dateStr == null) {
+            return null;
+        }
+        if (dateStr.length() == DATE_LENGTH) {
+            LocalDate date = tryParseDate(dateStr, 0);
+            if (date != null) {
+                return date;
+            }
+        }
+        return LocalDate.parse(dateStr, DATE_FORMATTER);
     }
 
     public static LocalDateTime parseDateTime(String dateTimeStr) {
-        return dateTimeStr != null ? LocalDateTime.parse(dateTimeStr, DateTimeFormatter.ofPattern(DATE_TIME_FORMAT)) : null;
+        if (dateTimeStr == null) {
+            return null;
+        }
+        if (dateTimeStr.length() == DATE_TIME_LENGTH) {
+            LocalDateTime dateTime = tryParseDateTime(dateTimeStr, 0);
+            if (dateTime != null) {
+                return dateTime;
+            }
+        }
+        return LocalDateTime.parse(dateTimeStr, DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Appends a date as {@code yyyy-MM-dd} without intermediate allocations.
+     *
+     * @param sb the builder to append to
+     * @param date the date to format, must not be null
+     * @return the builder
+     */
+    public static StringBuilder appendDate(StringBuilder sb, LocalDate date) {
+        if (!hasFourDigitYear(date.getYear())) {
+            DATE_FORMATTER.formatTo(date, sb);
+            return sb;
+        }
+        appendDigits(sb, date.getYear(), 4).append('-');
+        appendDigits(sb, date.getMonthValue(), 2).append('-');
+        return appendDigits(sb, date.getDayOfMonth(), 2);
+    }
+
+    /**
+     * Appends a date-time as {@code yyyy-MM-dd HH:mm:ss} without intermediate allocations.
+     *
+     * @param sb the builder to append to
+     * @param dateTime the date-time to format, must not be null
+     * @return the builder
+     */
+    public static StringBuilder appendDateTime(StringBuilder sb, LocalDateTime dateTime) {
+        if (!hasFourDigitYear(dateTime.getYear())) {
+            DATE_TIME_FORMATTER.formatTo(dateTime, sb);
+            return sb;
+        }
+        appendDate(sb, dateTime.toLocalDate()).append(' ');
+        appendDigits(sb, dateTime.getHour(), 2).append(':');
+        appendDigits(sb, dateTime.getMinute(), 2).append(':');
+        return appendDigits(sb, dateTime.getSecond(), 2);
+    }
+
+    /**
+     * Writes a date as ASCII {@code yyyy-MM-dd} into a buffer.
+     *
+     * @param date the date to format, must not be null
+     * @param buffer the buffer to write to, needs {@link #DATE_LENGTH} bytes from {@code offset} for four-digit years
+     * @param offset the position to start writing at
+     * @return the position after the last byte written
+     */
+    public static int writeDate(LocalDate date, byte[] buffer, int offset) {
+        if (!hasFourDigitYear(date.getYear())) {
+            return writeAscii(DATE_FORMATTER.format(date), buffer, offset);
+        }
+        writeDigits(buffer, offset, date.getYear(), 4);
+        buffer[offset + 4] = '-';
+        writeDigits(buffer, offset + 5, date.getMonthValue(), 2);
+        buffer[offset + 7] = '-';
+        writeDigits(buffer, offset + 8, date.getDayOfMonth(), 2);
+        return offset + DATE_LENGTH;
+    }
+
+    /**
+     * Writes a date-time as ASCII {@code yyyy-MM-dd HH:mm:ss} into a buffer.
+     *
+     * @param dateTime the date-time to format, must not be null
+     * @param buffer the buffer to write to, needs {@link #DATE_TIME_LENGTH} bytes from {@code offset} for four-digit years
+     * @param offset the position to start writing at
+     * @return the position after the last byte written
+     */
+    public static int writeDateTime(LocalDateTime dateTime, byte[] buffer, int offset) {
+        if (!hasFourDigitYear(dateTime.getYear())) {
+            return writeAscii(DATE_TIME_FORMATTER.format(dateTime), buffer, offset);
+        }
+        writeDate(dateTime.toLocalDate(), buffer, offset);
+        buffer[offset + 10] = ' ';
+        writeDigits(buffer, offset + 11, dateTime.getHour(), 2);
+        buffer[offset + 13] = ':';
+        writeDigits(buffer, offset + 14, dateTime.getMinute(), 2);
+        buffer[offset + 16] = ':';
+        writeDigits(buffer, offset + 17, dateTime.getSecond(), 2);
+        return offset + DATE_TIME_LENGTH;
+    }
+
+    /**
+     * Parses {@link #DATE_LENGTH} characters starting at {@code offset} as {@code yyyy-MM-dd}.
+     *
+     * @param text the text to parse
+     * @param offset the position of the first character
+     * @return the parsed date
+     * @throws java.time.format.DateTimeParseException if the characters are not a valid date
+     */
+    public static LocalDate parseDate(CharSequence text, int offset) {
+        LocalDate date = tryParseDate(text, offset);
+        return date != null ? date : LocalDate.parse(slice(text, offset, DATE_LENGTH), DATE_FORMATTER);
+    }
+
+    /**
+     * Parses {@link #DATE_TIME_LENGTH} characters starting at {@code offset} as {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param text the text to parse
+     * @param offset the position of the first character
+     * @return the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the characters are not a valid date-time
+     */
+    public static LocalDateTime parseDateTime(CharSequence text, int offset) {
+        LocalDateTime dateTime = tryParseDateTime(text, offset);
+        return dateTime != null ? dateTime : LocalDateTime.parse(slice(text, offset, DATE_TIME_LENGTH), DATE_TIME_FORMATTER);
+    }
+
+    /**
+     * Parses {@link #DATE_LENGTH} ASCII bytes starting at {@code offset} as {@code yyyy-MM-dd}.
+     *
+     * @param buffer the bytes to parse
+     * @param offset the position of the first byte
+     * @return the parsed date
+     * @throws java.time.format.DateTimeParseException if the bytes are not a valid date
+     */
+    public static LocalDate parseDate(byte[] buffer, int offset) {
+        return parseDate(new AsciiSequence(buffer), offset);
+    }
+
+    /**
+     * Parses {@link #DATE_TIME_LENGTH} ASCII bytes starting at {@code offset} as {@code yyyy-MM-dd HH:mm:ss}.
+     *
+     * @param buffer the bytes to parse
+     * @param offset the position of the first byte
+     * @return the parsed date-time
+     * @throws java.time.format.DateTimeParseException if the bytes are not a valid date-time
+     */
+    public static LocalDateTime parseDateTime(byte[] buffer, int offset) {
+        return parseDateTime(new AsciiSequence(buffer), offset);
+    }
+
+    /**
+     * Parses a date from fixed positions; returns null when the text needs the formatter
+     * (non-digits, out-of-range fields or too few characters) so it can report the error.
+     */
+    private static LocalDate tryParseDate(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < DATE_LENGTH
+                || text.charAt(offset + 4) != '-' || text.charAt(offset + 7) != '-') {
+            return null;
+        }
+        int year = digits(text, offset, 4);
+        int month = digits(text, offset + 5, 2);
+        int day = digits(text, offset + 8, 2);
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month)) {
+            return null;
+        }
+        return LocalDate.of(year, month, day);
+    }
+
+    private static LocalDateTime tryParseDateTime(CharSequence text, int offset) {
+        if (offset < 0 || text.length() - offset < DATE_TIME_LENGTH || text.charAt(offset + 10) != ' '
+                || text.charAt(offset + 13) != ':' || text.charAt(offset + 16) != ':') {
+            return null;
+        }
+        LocalDate date = tryParseDate(text, offset);
+        int hour = digits(text, offset + 11, 2);
+        int minute = digits(text, offset + 14, 2);
+        int second = digits(text, offset + 17, 2);
+        if (date == null || hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+            return null;
+        }
+        return LocalDateTime.of(date, LocalTime.of(hour, minute, second));
+    }
+
+    /** Returns up to {@code length} characters from {@code offset}, so short input fails as a parse error. */
+    private static CharSequence slice(CharSequence text, int offset, int length) {
+        return text.subSequence(offset, Math.min(text.length(), offset + length));
+    }
+
+    /** Reads {@code count} decimal digits; returns -1 if any character is not a digit. */
+    private static int digits(CharSequence text, int offset, int count) {
+        int value = 0;
+        for (int i = offset; i < offset + count; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+
+    private static boolean hasFourDigitYear(int year) {
+        return year >= 1 && year <= 9999;
+    }
+
+    private static StringBuilder appendDigits(StringBuilder sb, int value, int width) {
+        for (int divisor = width == 4 ? 1000 : 10; divisor > 0; divisor /= 10) {
+            sb.append((char) ('0' + value / divisor % 10));
+        }
+        return sb;
+    }
+
+    private static void writeDigits(byte[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static int writeAscii(String text, byte[] buffer, int offset) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, buffer, offset, bytes.length);
+        return offset + bytes.length;
+    }
+
+    /** Read-only view of ASCII bytes as characters, so the parsers share one implementation. */
+    private record AsciiSequence(byte[] bytes) implements CharSequence {
+        @Override
+        public int length() {
+            return bytes.length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[index] & 0xFF);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return new String(bytes, start, end - start, StandardCharsets.ISO_8859_1);
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.example.jobmanagement.utils;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.util.DigestUtils;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Builds the strong entity tags sent with job and technician responses. Tags are derived from row
+ * versions rather than from the serialized body, so a single job can be answered with
+ * {@code 304 Not Modified} from a version query, and a list is tagged from the rows already read
+ * without serializing them. Tags are returned unquoted; Spring adds the quotes.
+ */
+public final class ETags {
+    private ETags() {}
+
+    /** Lets clients store responses but makes them revalidate every time, so polls become conditional requests */
+    public static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    /**
+     * @param version the job's version
+     * @return the tag of a single job
+     */
+    public static String job(long version) {
+        return "v" + version;
+    }
+
+    /**
+     * Digests the ID and version of every job, in order, so the tag changes when a job joins, leaves,
+     * moves or is updated.
+     *
+     * @param jobs the jobs as returned
+     * @return the tag of the job list
+     */
+    public static String jobs(List<JobResponse> jobs) {
+        ByteBuffer buffer = ByteBuffer.allocate(jobs.size() * 2 * Long.BYTES);
+        for (JobResponse job : jobs) {
+            buffer.putLong(job.jobId()).putLong(job.version());
+        }
+        return "j" + DigestUtils.md5DigestAsHex(buffer.array());
+    }
+
+    /**
+     * @param technician the technician with their jobs
+     * @return the tag of the technician, covering their details and their jobs
+     */
+    public static String technician(TechnicianResponse technician) {
+        return "t" + technician.version() + "-" + jobs(technician.jobs());
+    }
+}
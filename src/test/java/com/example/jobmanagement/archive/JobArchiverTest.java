@@ -0,0 +1,125 @@
+package com.example.jobmanagement.archive;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.repository.ArchivedJobRepository;
+import com.example.jobmanagement.repository.JobArchivePartitions;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Runs the archiver against H2, where job_archive is a plain table, with real per-batch transactions.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class JobArchiverTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ArchivedJobRepository archivedJobRepository;
+
+    private final JobStatusCounters jobStatusCounters = mock(JobStatusCounters.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final JobArchiveProperties properties = new JobArchiveProperties();
+
+    private JdbcTemplate jdbcTemplate;
+    private JobArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        properties.setRetention(Duration.ofDays(90));
+        properties.setBatchSize(2);
+        archiver = new JobArchiver(properties, jobRepository, archivedJobRepository,
+                new JobArchivePartitions(dataSource), jobStatusCounters, transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from job_archive");
+        jdbcTemplate.update("delete from job");
+        jdbcTemplate.update("delete from technician");
+    }
+
+    @Test
+    void archive_ShouldMoveOnlyCompletedJobsOlderThanRetentionInBatches() {
+        long techId = insertTechnician();
+        LocalDateTime old = LocalDateTime.now().minusDays(200);
+        LocalDateTime recent = LocalDateTime.now().minusDays(10);
+        insertJob(101, techId, "COMPLETED", old, 4);
+        insertJob(102, techId, "COMPLETED", old.plusDays(1), 0);
+        insertJob(103, techId, "COMPLETED", old.plusDays(2), 1);
+        insertJob(104, techId, "COMPLETED", recent, 0);
+        insertJob(105, techId, "PENDING", null, 0);
+
+        assertEquals(3, archiver.archive());
+
+        assertEquals(List.of(104L, 105L), jdbcTemplate.queryForList("select job_id from job order by job_id", Long.class));
+        assertEquals(List.of(101L, 102L, 103L),
+                archivedJobRepository.findResponsesByTechId(techId).stream().map(JobResponse::jobId).toList());
+        JobResponse archived = archivedJobRepository.findResponseById(101L).orElseThrow();
+        assertEquals(Job.JobStatus.COMPLETED, archived.status());
+        assertEquals(4L, archived.version());
+        assertEquals(techId, archived.techId());
+        assertFalse(jobRepository.findResponseById(101L).isPresent());
+        verify(jobStatusCounters, times(3)).recordDeleted(techId, Job.JobStatus.COMPLETED);
+        assertEquals(3.0, meterRegistry.counter("jobs.archive.archived").count());
+
+        assertEquals(0, archiver.archive());
+    }
+
+    @Test
+    void archive_WithNothingOldEnough_ShouldNotTouchJobs() {
+        long techId = insertTechnician();
+        insertJob(101, techId, "COMPLETED", LocalDateTime.now().minusDays(10), 0);
+
+        assertEquals(0, archiver.archive());
+        assertEquals(1, jdbcTemplate.queryForObject("select count(*) from job", Integer.class));
+        assertEquals(0L, archivedJobRepository.count());
+    }
+
+    private long insertTechnician() {
+        jdbcTemplate.update("insert into technician (tech_name, doj, version) values (?, ?, 0)", "John Doe",
+                LocalDate.of(2024, 1, 15));
+        return jdbcTemplate.queryForObject("select max(tech_id) from technician", Long.class);
+    }
+
+    private void insertJob(long jobId, long techId, String status, LocalDateTime completedDate, long version) {
+        LocalDateTime createdDate = completedDate != null ? completedDate.minusHours(5) : LocalDateTime.now();
+        jdbcTemplate.update("""
+                insert into job (job_id, description, tech_id, created_date, completed_date, status, version)
+                values (?, ?, ?, ?, ?, ?, ?)""", jobId, "Job " + jobId, techId, createdDate, completedDate, status, version);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.jobmanagement.config;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that read-only transactions reach the connection and the Hibernate session
+ * through the lazy connection proxy.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+@Import(DataSourceConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DataSourceConfigTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void dataSource_ShouldBeWrappedInLazyConnectionProxy() {
+        assertInstanceOf(LazyConnectionDataSourceProxy.class, dataSource);
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReadOnlyConnectionAndManualFlush() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        readOnly.executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertEquals(FlushMode.MANUAL, session.getHibernateFlushMode());
+            assertTrue(session.doReturningWork(Connection::isReadOnly));
+        });
+    }
+
+    @Test
+    void readWriteTransaction_ShouldUseWritableConnectionAndAutoFlush() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Session session = entityManager.unwrap(Session.class);
+            assertEquals(FlushMode.AUTO, session.getHibernateFlushMode());
+            assertFalse(session.doReturningWork(Connection::isReadOnly));
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.jobmanagement.config;
+
+import com.example.jobmanagement.controller.JobController;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.service.JobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.options;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tests the CORS and access rules of the production security configuration.
+ */
+@WebMvcTest(JobController.class)
+@Import(SecurityConfig.class)
+class SecurityConfigTest {
+    private static final String ORIGIN = "http://dashboard.example.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private JobService jobService;
+
+    @MockBean
+    private JobEventBroadcaster jobEventBroadcaster;
+
+    @Test
+    void crossOriginGet_ShouldExposeETag() throws Exception {
+        when(jobService.getJobById(1L)).thenReturn(
+                new JobResponse(1L, "Job", null, LocalDateTime.now(), null, Job.JobStatus.PENDING, 4L));
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.ORIGIN, ORIGIN))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*"))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS, "ETag"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""));
+    }
+
+    @Test
+    void preflightForStatusPatch_ShouldAllowPatch() throws Exception {
+        mockMvc.perform(options("/api/jobs/1/status")
+                        .header(HttpHeaders.ORIGIN, ORIGIN)
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "PATCH")
+                        .header(HttpHeaders.ACCESS_CONTROL_REQUEST_HEADERS, "Content-Type"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, "*"))
+                .andExpect(header().string(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS,
+                        containsString("PATCH")));
+    }
+
+    @Test
+    void metricsEndpoint_WithoutCredentials_ShouldRequireAuthentication() throws Exception {
+        mockMvc.perform(get("/actuator/metrics/jvm.memory.used"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(header().exists(HttpHeaders.WWW_AUTHENTICATE));
+    }
+
+    @Test
+    void prometheusEndpoint_WithoutCredentials_ShouldPassSecurity() throws Exception {
+        // Actuator endpoints are not part of the MVC slice; only the security decision is checked
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().is(not(anyOf(is(401), is(403)))));
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.jobmanagement.controller;
+
+import com.example.jobmanagement.config.TestSecurityConfig;
+import com.example.jobmanagement.dto.ImportReject;
+import com.example.jobmanagement.dto.ImportReport;
+import com.example.jobmanagement.exception.InvalidRequestException;
+import com.example.jobmanagement.service.ImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(ImportController.class)
+@Import(TestSecurityConfig.class)
+class ImportControllerTest {
+
+    private static final String JOBS_CSV = "description,tech_id\nFix printer,1\n,1\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportService importService;
+
+    @Test
+    void importJobs_ShouldPassTheBodyThroughAndReturnTheReport() throws Exception {
+        when(importService.importJobs(argThat(csv -> JOBS_CSV.equals(read(csv)))))
+                .thenReturn(report(ImportReport.Status.COMPLETED, null));
+
+        mockMvc.perform(post("/api/imports/jobs")
+                .contentType("text/csv")
+                .content(JOBS_CSV))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejects[0].line").value(3))
+                .andExpect(jsonPath("$.rejects[0].error").value("Job description is required"));
+    }
+
+    @Test
+    void importTechnicians_WhenABatchFails_ShouldReturnServerErrorWithTheReport() throws Exception {
+        when(importService.importTechnicians(any(InputStream.class)))
+                .thenReturn(report(ImportReport.Status.FAILED, "A batch could not be written: connection reset"));
+
+        mockMvc.perform(post("/api/imports/technicians")
+                .contentType("text/csv")
+                .content("tech_name,doj\nJane Smith,2024-01-15\n"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.status").value("FAILED"))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.error").value("A batch could not be written: connection reset"));
+    }
+
+    @Test
+    void importJobs_WithInvalidHeader_ShouldReturnBadRequest() throws Exception {
+        when(importService.importJobs(any(InputStream.class)))
+                .thenThrow(new InvalidRequestException("Missing required columns [tech_id]"));
+
+        mockMvc.perform(post("/api/imports/jobs")
+                .contentType("text/csv")
+                .content("description\nFix printer\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Missing required columns [tech_id]"));
+    }
+
+    @Test
+    void getRunningImports_ShouldReturnProgress() throws Exception {
+        when(importService.getRunningImports()).thenReturn(List.of(report(ImportReport.Status.RUNNING, null)));
+
+        mockMvc.perform(get("/api/imports"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(7))
+                .andExpect(jsonPath("$[0].status").value("RUNNING"))
+                .andExpect(jsonPath("$[0].rowsRead").value(2));
+    }
+
+    private static ImportReport report(ImportReport.Status status, String error) {
+        return ImportReport.builder()
+                .id(7)
+                .type(ImportReport.Type.JOBS)
+                .status(status)
+                .method(ImportReport.Method.BATCH)
+                .rowsRead(2)
+                .imported(1)
+                .rejected(1)
+                .error(error)
+                .rejects(List.of(new ImportReject(3, "Job description is required", List.of("", "1"))))
+                .build();
+    }
+
+    private static String read(InputStream csv) {
+        try {
+            return new String(csv.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
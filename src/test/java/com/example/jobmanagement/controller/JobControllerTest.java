@@ -1,8 +1,25 @@
 package com.example.jobmanagement.controller;
 
 import com.example.jobmanagement.config.TestSecurityConfig;
+import com.example.jobmanagement.dto.BatchJobResponse;
+import com.example.jobmanagement.dto.BatchJobResult;
+import com.example.jobmanagement.dto.CreateJobRequest;
+import com.example.jobmanagement.dto.CursorPage;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.dto.JobStatusResponse;
+import com.example.jobmanagement.dto.PageResponse;
+import com.example.jobmanagement.dto.StatusTransitionRequest;
+import com.example.jobmanagement.dto.StatusTransitionResponse;
+import com.example.jobmanagement.dto.StatusTransitionResult;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.exception.InvalidSearchCriteriaException;
+import com.example.jobmanagement.exception.JobConflictException;
+import com.example.jobmanagement.repository.JobExportRow;
 import com.example.jobmanagement.service.JobService;
+import com.example.jobmanagement.utils.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,16 +27,35 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,11 +75,15 @@ class JobControllerTest {
     @MockBean
     private JobService jobService;
 
+    @MockBean
+    private JobEventBroadcaster jobEventBroadcaster;
+
     @Autowired
     private ObjectMapper objectMapper;
 
     private Job testJob;
-    private List<Job> testJobs;
+    private JobResponse testJobResponse;
+    private List<JobResponse> testJobResponses;
 
     /**
      * Sets up test data before each test.
@@ -56,14 +96,17 @@ class JobControllerTest {
         testJob.setDescription("Test Job");
         testJob.setStatus(Job.JobStatus.PENDING);
         testJob.setCreatedDate(LocalDateTime.now());
+        testJob.setVersion(4L);
 
         Job testJob2 = new Job();
         testJob2.setJobId(2L);
         testJob2.setDescription("Test Job 2");
         testJob2.setStatus(Job.JobStatus.IN_PROGRESS);
         testJob2.setCreatedDate(LocalDateTime.now());
+        testJob2.setVersion(0L);
 
-        testJobs = Arrays.asList(testJob, testJob2);
+        testJobResponse = JobResponse.from(testJob);
+        testJobResponses = Arrays.asList(testJobResponse, JobResponse.from(testJob2));
     }
 
     /**
@@ -72,7 +115,7 @@ class JobControllerTest {
      */
     @Test
     void getAllJobs_ShouldReturnListOfJobs() throws Exception {
-        when(jobService.getAllJobs()).thenReturn(testJobs);
+        when(jobService.getAllJobs()).thenReturn(testJobResponses);
 
         mockMvc.perform(get("/api/jobs"))
                 .andExpect(status().isOk())
@@ -82,13 +125,123 @@ class JobControllerTest {
                 .andExpect(jsonPath("$[0].description").value(testJob.getDescription()));
     }
 
+    /**
+     * Tests that getJobsPage endpoint returns a page of jobs and the next cursor.
+     * Verifies the response status and page contents.
+     */
+    @Test
+    void getJobsPage_ShouldReturnPageWithCursor() throws Exception {
+        CursorPage<JobResponse> page = CursorPage.<JobResponse>builder().items(testJobResponses).nextCursor(2L).build();
+        when(jobService.getJobsPage(0L, 2)).thenReturn(page);
+
+        mockMvc.perform(get("/api/jobs/page").param("after", "0").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.nextCursor").value(2));
+    }
+
+    /**
+     * Tests that streamAllJobs endpoint writes one JSON job per line.
+     * Verifies the asynchronous response is newline-delimited JSON.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamAllJobs_ShouldWriteNewlineDelimitedJson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<JobResponse> consumer = invocation.getArgument(0);
+            testJobResponses.forEach(consumer);
+            return null;
+        }).when(jobService).streamAllJobs(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/jobs/stream"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"jobId\":1"));
+        assertTrue(lines[1].contains("\"jobId\":2"));
+    }
+
+    /**
+     * Tests that the export endpoint streams CSV as an attachment, passing the filters on.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportJobs_ShouldStreamCsvAttachment() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<JobExportRow> consumer = invocation.getArgument(1);
+            consumer.accept(new JobExportRow(1L, "Test Job", 1L, "John Doe", testJob.getCreatedDate(), null,
+                    Job.JobStatus.PENDING, 0L));
+            return null;
+        }).when(jobService).exportJobs(argThat(criteria -> criteria.getStatus() == Job.JobStatus.PENDING),
+                any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/jobs/export").param("status", "PENDING"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs.csv\""))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].startsWith("1,Test Job,1,John Doe,"));
+    }
+
+    /**
+     * Tests that a gzip export is compressed and named accordingly.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void exportJobs_WithGzip_ShouldCompressTheExport() throws Exception {
+        doNothing().when(jobService).exportJobs(any(JobSearchCriteria.class), any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/jobs/export").param("format", "COLUMNAR").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"jobs.jobc.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        byte[] decompressed = new GZIPInputStream(new ByteArrayInputStream(body)).readAllBytes();
+        assertEquals("JOBC", new String(decompressed, 0, 4, StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Tests that an inverted date range is rejected before the export starts streaming.
+     */
+    @Test
+    void exportJobs_WithInvertedDateRange_ShouldReturnBadRequestWithoutStreaming() throws Exception {
+        mockMvc.perform(get("/api/jobs/export")
+                        .param("createdFrom", "2024-02-01T00:00:00")
+                        .param("createdTo", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message")
+                        .value("Invalid created date range: 2024-02-01T00:00 is after 2024-01-01T00:00"));
+
+        verifyNoInteractions(jobService);
+    }
+
     /**
      * Tests that getJobById endpoint returns a specific job successfully.
      * Verifies the response status, content type, and job details.
      */
     @Test
     void getJobById_ShouldReturnJob() throws Exception {
-        when(jobService.getJobById(1L)).thenReturn(testJob);
+        when(jobService.getJobById(1L)).thenReturn(testJobResponse);
 
         mockMvc.perform(get("/api/jobs/1"))
                 .andExpect(status().isOk())
@@ -103,7 +256,7 @@ class JobControllerTest {
      */
     @Test
     void getJobsByTechnicianId_ShouldReturnJobs() throws Exception {
-        when(jobService.getJobsByTechnicianId(1L)).thenReturn(testJobs);
+        when(jobService.getJobsByTechnicianId(1L)).thenReturn(testJobResponses);
 
         mockMvc.perform(get("/api/jobs/technician/1"))
                 .andExpect(status().isOk())
@@ -111,13 +264,95 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    void getJobById_ShouldReturnVersionETag() throws Exception {
+        when(jobService.getJobById(1L)).thenReturn(testJobResponse);
+
+        mockMvc.perform(get("/api/jobs/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    void getJobById_WithMatchingETag_ShouldReturnNotModifiedWithoutReadingJob() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(4L);
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.IF_NONE_MATCH, "\"v4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""))
+                .andExpect(content().string(""));
+        verify(jobService, never()).getJobById(any());
+    }
+
+    @Test
+    void getJobById_WithStaleETag_ShouldReturnJob() throws Exception {
+        when(jobService.getJobVersion(1L)).thenReturn(4L);
+        when(jobService.getJobById(1L)).thenReturn(testJobResponse);
+
+        mockMvc.perform(get("/api/jobs/1").header(HttpHeaders.IF_NONE_MATCH, "\"v3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""))
+                .andExpect(jsonPath("$.jobId").value(1));
+    }
+
+    @Test
+    void getJobsByTechnicianId_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        when(jobService.getJobsByTechnicianId(1L)).thenReturn(testJobResponses);
+
+        mockMvc.perform(get("/api/jobs/technician/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + ETags.jobs(testJobResponses) + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getJobsByTechnicianId_WithStaleETag_ShouldReturnJobsWithCurrentETag() throws Exception {
+        // The client's copy predates an update to the first job
+        JobResponse first = testJobResponses.get(0);
+        List<JobResponse> stale = List.of(new JobResponse(first.jobId(), first.description(), first.techId(),
+                first.createdDate(), first.completedDate(), first.status(), first.version() - 1),
+                testJobResponses.get(1));
+        when(jobService.getJobsByTechnicianId(1L)).thenReturn(testJobResponses);
+
+        mockMvc.perform(get("/api/jobs/technician/1").header(HttpHeaders.IF_NONE_MATCH, "\"" + ETags.jobs(stale) + "\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETags.jobs(testJobResponses) + "\""))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    void getJobById_IncludingArchived_ShouldReadArchiveAndCheckETagAfterwards() throws Exception {
+        when(jobService.getJobByIdIncludingArchived(1L)).thenReturn(testJobResponse);
+
+        mockMvc.perform(get("/api/jobs/1").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"v4\""))
+                .andExpect(jsonPath("$.jobId").value(1));
+        mockMvc.perform(get("/api/jobs/1").param("includeArchived", "true").header(HttpHeaders.IF_NONE_MATCH, "\"v4\""))
+                .andExpect(status().isNotModified());
+        verify(jobService, never()).getJobById(any());
+        verify(jobService, never()).getJobVersion(any());
+    }
+
+    @Test
+    void getJobsByTechnicianId_IncludingArchived_ShouldReturnLiveAndArchivedJobs() throws Exception {
+        when(jobService.getJobsByTechnicianIdIncludingArchived(1L)).thenReturn(testJobResponses);
+
+        mockMvc.perform(get("/api/jobs/technician/1").param("includeArchived", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + ETags.jobs(testJobResponses) + "\""))
+                .andExpect(jsonPath("$.length()").value(2));
+        verify(jobService, never()).getJobsByTechnicianId(any());
+    }
+
     /**
      * Tests that getJobsByStatus endpoint returns jobs with specific status.
      * Verifies the response status, content type, and filtered jobs.
      */
     @Test
     void getJobsByStatus_ShouldReturnJobs() throws Exception {
-        when(jobService.getJobsByStatus(Job.JobStatus.PENDING)).thenReturn(Arrays.asList(testJob));
+        when(jobService.getJobsByStatus(Job.JobStatus.PENDING)).thenReturn(List.of(testJobResponse));
 
         mockMvc.perform(get("/api/jobs/status/PENDING"))
                 .andExpect(status().isOk())
@@ -126,13 +361,74 @@ class JobControllerTest {
                 .andExpect(jsonPath("$[0].status").value("PENDING"));
     }
 
+    /**
+     * Tests that searchJobs endpoint binds filters and paging parameters.
+     * Verifies the response status and page metadata.
+     */
+    @Test
+    void searchJobs_ShouldReturnPageOfJobs() throws Exception {
+        PageResponse<JobResponse> page = PageResponse.<JobResponse>builder()
+                .content(List.of(testJobResponse)).page(0).size(10).totalElements(1).totalPages(1).build();
+        when(jobService.searchJobs(
+                argThat((JobSearchCriteria c) -> c.getStatus() == Job.JobStatus.PENDING && Long.valueOf(1L).equals(c.getTechId())
+                        && c.getCreatedFrom() != null),
+                argThat((Pageable p) -> p.getPageSize() == 10 && p.getSort().equals(Sort.by(Sort.Direction.ASC, "status")))))
+                .thenReturn(page);
+
+        mockMvc.perform(get("/api/jobs/search")
+                        .param("status", "PENDING")
+                        .param("techId", "1")
+                        .param("createdFrom", "2024-03-01T00:00:00")
+                        .param("size", "10")
+                        .param("sort", "status,asc"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.content[0].status").value("PENDING"));
+    }
+
+    /**
+     * Tests that searchJobs endpoint maps invalid arguments to a bad request.
+     */
+    @Test
+    void searchJobs_WithUnsupportedSort_ShouldReturnBadRequest() throws Exception {
+        when(jobService.searchJobs(any(JobSearchCriteria.class), any(Pageable.class)))
+                .thenThrow(new InvalidSearchCriteriaException("Unsupported sort property: description"));
+
+        mockMvc.perform(get("/api/jobs/search").param("sort", "description"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported sort property: description"));
+    }
+
+    /**
+     * Tests that getJobStats endpoint returns the counts per status and technician.
+     */
+    @Test
+    void getJobStats_ShouldReturnCounts() throws Exception {
+        Map<Job.JobStatus, Long> byStatus = new EnumMap<>(Map.of(
+                Job.JobStatus.PENDING, 2L, Job.JobStatus.IN_PROGRESS, 1L, Job.JobStatus.COMPLETED, 0L));
+        when(jobService.getJobStats()).thenReturn(JobStatsResponse.builder()
+                .total(3)
+                .byStatus(byStatus)
+                .byTechnician(Map.of(1L, byStatus))
+                .build());
+
+        mockMvc.perform(get("/api/jobs/stats"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.PENDING").value(2))
+                .andExpect(jsonPath("$.byTechnician.1.IN_PROGRESS").value(1));
+    }
+
     /**
      * Tests that createJob endpoint creates a new job successfully.
      * Verifies the response status is CREATED and job details are correct.
      */
     @Test
     void createJob_ShouldReturnCreatedJob() throws Exception {
-        when(jobService.createJob(any(Job.class))).thenReturn(testJob);
+        when(jobService.createJob(any(Job.class))).thenReturn(testJobResponse);
 
         mockMvc.perform(post("/api/jobs")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -143,13 +439,41 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.description").value(testJob.getDescription()));
     }
 
+    /**
+     * Tests that createJobs endpoint returns the per-item outcome of a batch.
+     * Verifies successful and rejected items are both reported.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void createJobs_ShouldReturnPerItemResults() throws Exception {
+        BatchJobResponse response = BatchJobResponse.builder()
+                .requested(2).created(1).failed(1)
+                .results(List.of(
+                        BatchJobResult.builder().index(0).success(true).jobId(1L).build(),
+                        BatchJobResult.builder().index(1).success(false).error("Technician not found with id: 99").build()))
+                .build();
+        when(jobService.createJobs(any(List.class))).thenReturn(response);
+        List<CreateJobRequest> requests = List.of(
+                CreateJobRequest.builder().description("Job A").techId(1L).build(),
+                CreateJobRequest.builder().description("Job B").techId(99L).build());
+
+        mockMvc.perform(post("/api/jobs/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].jobId").value(1))
+                .andExpect(jsonPath("$.results[1].success").value(false));
+    }
+
     /**
      * Tests that updateJob endpoint updates an existing job successfully.
      * Verifies the response status and updated job details.
      */
     @Test
     void updateJob_ShouldReturnUpdatedJob() throws Exception {
-        when(jobService.updateJob(eq(1L), any(Job.class))).thenReturn(testJob);
+        when(jobService.updateJob(eq(1L), any(Job.class))).thenReturn(testJobResponse);
 
         mockMvc.perform(put("/api/jobs/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -160,6 +484,111 @@ class JobControllerTest {
                 .andExpect(jsonPath("$.description").value(testJob.getDescription()));
     }
 
+    /**
+     * Tests that an exhausted connection pool is reported as service unavailable.
+     */
+    @Test
+    void getJobById_WhenNoConnectionAvailable_ShouldReturnServiceUnavailable() throws Exception {
+        when(jobService.getJobById(1L)).thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+        mockMvc.perform(get("/api/jobs/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+    }
+
+    /**
+     * Tests that a pool timeout at the first statement of a lazily connected transaction is also reported as unavailable.
+     */
+    @Test
+    void getJobById_WhenConnectionFailsOnFirstStatement_ShouldReturnServiceUnavailable() throws Exception {
+        when(jobService.getJobById(1L)).thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+        mockMvc.perform(get("/api/jobs/1"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.error").value("Service Unavailable"));
+    }
+
+    /**
+     * Tests that a status change in the expected status returns the new version.
+     */
+    @Test
+    void updateJobStatus_ShouldReturnStatusChange() throws Exception {
+        when(jobService.updateJobStatus(1L, Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS)).thenReturn(
+                JobStatusResponse.builder().jobId(1L).previousStatus(Job.JobStatus.PENDING)
+                        .status(Job.JobStatus.IN_PROGRESS).version(4L).build());
+
+        mockMvc.perform(patch("/api/jobs/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"expectedStatus\":\"PENDING\",\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.version").value(4));
+    }
+
+    /**
+     * Tests that a bulk status change returns the per-job outcomes.
+     */
+    @Test
+    void transitionStatuses_ShouldReturnPerJobResults() throws Exception {
+        when(jobService.transitionStatuses(any(StatusTransitionRequest.class))).thenReturn(
+                StatusTransitionResponse.builder().requested(2).updated(1).failed(1)
+                        .results(List.of(
+                                StatusTransitionResult.builder().jobId(1L)
+                                        .outcome(StatusTransitionResult.Outcome.UPDATED).version(2L).build(),
+                                StatusTransitionResult.builder().jobId(2L)
+                                        .outcome(StatusTransitionResult.Outcome.NOT_FOUND)
+                                        .error("Job not found with id: 2").build()))
+                        .build());
+
+        mockMvc.perform(post("/api/jobs/status-transitions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"jobIds\":[1,2],\"status\":\"COMPLETED\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated").value(1))
+                .andExpect(jsonPath("$.results[0].outcome").value("UPDATED"))
+                .andExpect(jsonPath("$.results[1].outcome").value("NOT_FOUND"));
+    }
+
+    /**
+     * Tests that a bulk status change without a target status is rejected.
+     */
+    @Test
+    void transitionStatuses_WithoutStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/jobs/status-transitions")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"techId\":1}"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(jobService);
+    }
+
+    /**
+     * Tests that a status change that lost a race is reported as a conflict.
+     */
+    @Test
+    void updateJobStatus_WhenStatusChangedMeanwhile_ShouldReturnConflict() throws Exception {
+        when(jobService.updateJobStatus(1L, Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS))
+                .thenThrow(new JobConflictException("Job 1 is COMPLETED, expected PENDING"));
+
+        mockMvc.perform(patch("/api/jobs/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"expectedStatus\":\"PENDING\",\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.error").value("Conflict"))
+                .andExpect(jsonPath("$.message").value("Job 1 is COMPLETED, expected PENDING"));
+    }
+
+    /**
+     * Tests that a status change without the expected status is rejected.
+     */
+    @Test
+    void updateJobStatus_WithoutExpectedStatus_ShouldReturnBadRequest() throws Exception {
+        mockMvc.perform(patch("/api/jobs/1/status")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"IN_PROGRESS\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
     /**
      * Tests that deleteJob endpoint deletes a job successfully.
      * Verifies the response status is NO_CONTENT.
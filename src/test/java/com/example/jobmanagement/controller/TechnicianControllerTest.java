@@ -2,8 +2,12 @@ package com.example.jobmanagement.controller;
 
 import com.example.jobmanagement.config.TestSecurityConfig;
 import com.example.jobmanagement.dto.CreateTechnicianRequest;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.entity.Job;
 import com.example.jobmanagement.entity.Technician;
 import com.example.jobmanagement.service.TechnicianService;
+import com.example.jobmanagement.utils.ETags;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,10 +15,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
@@ -39,8 +45,9 @@ class TechnicianControllerTest {
     private ObjectMapper objectMapper;
 
     private Technician testTechnician;
+    private TechnicianResponse testResponse;
     private CreateTechnicianRequest createRequest;
-    private List<Technician> testTechnicians;
+    private List<TechnicianResponse> testResponses;
 
     @BeforeEach
     void setUp() {
@@ -53,17 +60,15 @@ class TechnicianControllerTest {
         createRequest.setTechName("John Doe");
         createRequest.setDateOfJoining(LocalDate.now());
 
-        Technician testTechnician2 = new Technician();
-        testTechnician2.setTechId(2L);
-        testTechnician2.setTechName("Jane Smith");
-        testTechnician2.setDoj(LocalDate.now());
-
-        testTechnicians = Arrays.asList(testTechnician, testTechnician2);
+        testResponse = new TechnicianResponse(1L, "John Doe", LocalDate.now(), 3L,
+                List.of(new JobResponse(10L, "Job", 1L, LocalDateTime.now(), null, Job.JobStatus.PENDING, 2L)));
+        testResponses = Arrays.asList(testResponse,
+                new TechnicianResponse(2L, "Jane Smith", LocalDate.now(), 0L, List.of()));
     }
 
     @Test
     void createTechnician_ShouldReturnCreatedTechnician() throws Exception {
-        when(technicianService.createTechnician(any(CreateTechnicianRequest.class))).thenReturn(testTechnician);
+        when(technicianService.createTechnician(any(CreateTechnicianRequest.class))).thenReturn(testResponse);
 
         mockMvc.perform(post("/api/technicians")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -76,7 +81,7 @@ class TechnicianControllerTest {
 
     @Test
     void getTechnicianById_ShouldReturnTechnician() throws Exception {
-        when(technicianService.getTechnicianById(1L)).thenReturn(testTechnician);
+        when(technicianService.getTechnicianById(1L)).thenReturn(testResponse);
 
         mockMvc.perform(get("/api/technicians/1"))
                 .andExpect(status().isOk())
@@ -85,9 +90,28 @@ class TechnicianControllerTest {
                 .andExpect(jsonPath("$.techName").value(testTechnician.getTechName()));
     }
 
+    @Test
+    void getTechnicianById_ShouldReturnETagCoveringTechnicianAndJobs() throws Exception {
+        when(technicianService.getTechnicianById(1L)).thenReturn(testResponse);
+
+        mockMvc.perform(get("/api/technicians/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"t3-" + ETags.jobs(testResponse.jobs()) + "\""))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    void getTechnicianById_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+        when(technicianService.getTechnicianById(1L)).thenReturn(testResponse);
+
+        mockMvc.perform(get("/api/technicians/1").header(HttpHeaders.IF_NONE_MATCH, "\"t3-" + ETags.jobs(testResponse.jobs()) + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
     @Test
     void getAllTechnicians_ShouldReturnListOfTechnicians() throws Exception {
-        when(technicianService.getAllTechnicians()).thenReturn(testTechnicians);
+        when(technicianService.getAllTechnicians()).thenReturn(testResponses);
 
         mockMvc.perform(get("/api/technicians"))
                 .andExpect(status().isOk())
@@ -99,7 +123,7 @@ class TechnicianControllerTest {
 
     @Test
     void updateTechnician_ShouldReturnUpdatedTechnician() throws Exception {
-        when(technicianService.updateTechnician(eq(1L), any(Technician.class))).thenReturn(testTechnician);
+        when(technicianService.updateTechnician(eq(1L), any(Technician.class))).thenReturn(testResponse);
 
         mockMvc.perform(put("/api/technicians/1")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,70 @@
+package com.example.jobmanagement.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReadYourWritesFilterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final ReadYourWritesFilter filter =
+            new ReadYourWritesFilter(Duration.ofMillis(4500), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void write_ShouldPinRequestAndSetCookie() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(pinnedDuring(new MockHttpServletRequest("PATCH", "/api/jobs/1/status"), response));
+
+        Cookie cookie = response.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(NOW.toEpochMilli() + 4500), cookie.getValue());
+        assertEquals(5, cookie.getMaxAge());
+        assertTrue(cookie.isHttpOnly());
+        assertFalse(DataSourceRouting.isPinnedToPrimary());
+    }
+
+    @Test
+    void read_WithUnexpiredCookie_ShouldPinRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/jobs/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli() + 1)));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertTrue(pinnedDuring(request, response));
+        assertNull(response.getCookie(ReadYourWritesFilter.COOKIE_NAME));
+    }
+
+    @Test
+    void read_WithExpiredOrMalformedCookie_ShouldNotPinRequest() throws Exception {
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/jobs/1");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, Long.toString(NOW.toEpochMilli())));
+        MockHttpServletRequest malformed = new MockHttpServletRequest("GET", "/api/jobs/1");
+        malformed.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+
+        assertFalse(pinnedDuring(expired, new MockHttpServletResponse()));
+        assertFalse(pinnedDuring(malformed, new MockHttpServletResponse()));
+        assertFalse(pinnedDuring(new MockHttpServletRequest("GET", "/api/jobs/1"), new MockHttpServletResponse()));
+    }
+
+    private boolean pinnedDuring(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        FilterChain chain = (req, res) -> pinned.set(DataSourceRouting.isPinnedToPrimary());
+        filter.doFilter(request, response, chain);
+        return pinned.get();
+    }
+}
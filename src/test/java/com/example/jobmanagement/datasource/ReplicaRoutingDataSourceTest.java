@@ -0,0 +1,150 @@
+package com.example.jobmanagement.datasource;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Routes between three in-memory H2 databases standing in for a primary and two replicas.
+ * Each database answers {@code SELECT name FROM node} with its own name.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private FlakyDataSource replica1;
+    private FlakyDataSource replica2;
+    private ReplicaSet replicas;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        DataSource primary = node("primary");
+        replica1 = new FlakyDataSource(node("replica1"));
+        replica2 = new FlakyDataSource(node("replica2"));
+        Map<String, DataSource> dataSources = new LinkedHashMap<>();
+        dataSources.put("replica1", replica1);
+        dataSources.put("replica2", replica2);
+        replicas = new ReplicaSet(dataSources, Duration.ofSeconds(1));
+        replicas.checkHealth();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replicas));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        replicas.close();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldAlternateBetweenReplicas() {
+        assertEquals(List.of("replica1", "replica2", "replica1", "replica2"),
+                List.of(readOnlyNode(), readOnlyNode(), readOnlyNode(), readOnlyNode()));
+    }
+
+    @Test
+    void readWriteTransactions_ShouldUsePrimary() {
+        assertEquals("primary", readWrite.execute(status -> currentNode()));
+    }
+
+    @Test
+    void readOnlyTransaction_WhenPinned_ShouldUsePrimary() {
+        assertEquals("primary", DataSourceRouting.onPrimary(this::readOnlyNode));
+        assertEquals("replica1", readOnlyNode());
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaFailsHealthCheck_ShouldSkipIt() {
+        replica1.down = true;
+        replicas.checkHealth();
+
+        assertEquals(1, replicas.getHealthyCount());
+        assertEquals(List.of("replica2", "replica2"), List.of(readOnlyNode(), readOnlyNode()));
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaRefusesConnection_ShouldFallBackToPrimaryAndMarkItDown() {
+        replica1.down = true;
+
+        assertEquals("primary", readOnlyNode());
+        assertEquals(1, replicas.getHealthyCount());
+        assertEquals("replica2", readOnlyNode());
+    }
+
+    @Test
+    void readOnlyTransaction_WhenNoReplicaIsHealthy_ShouldUsePrimary() {
+        replica1.down = true;
+        replica2.down = true;
+        replicas.checkHealth();
+
+        assertEquals("primary", readOnlyNode());
+    }
+
+    @Test
+    void healthCheck_WhenReplicaRecovers_ShouldReturnItToRotation() {
+        replica1.down = true;
+        replicas.checkHealth();
+        replica1.down = false;
+        replicas.checkHealth();
+
+        assertEquals(2, replicas.getHealthyCount());
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> currentNode());
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource node(String name) throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS node");
+            statement.execute("CREATE TABLE node (name VARCHAR(20))");
+            statement.execute("INSERT INTO node VALUES ('" + name + "')");
+        }
+        return h2;
+    }
+
+    /** A replica that can be taken offline. */
+    private static final class FlakyDataSource extends DelegatingDataSource {
+        volatile boolean down;
+
+        FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (down) {
+                throw new SQLException("Connection refused");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.example.jobmanagement.events;
+
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.entity.Job;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JobEventBroadcasterTest {
+
+    private final List<Runnable> pendingDispatches = new ArrayList<>();
+    private final JobEventProperties properties = new JobEventProperties();
+    private Executor dispatcher = Runnable::run;
+    private JobEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties.setHistorySize(3);
+        properties.setSubscriberBufferSize(3);
+        broadcaster = new JobEventBroadcaster(properties, new ObjectMapper().findAndRegisterModules(),
+                task -> dispatcher.execute(task));
+    }
+
+    @Test
+    void broadcast_ShouldReachSubscribersWhoseFilterMatchesBeforeOrAfterTheChange() {
+        RecordingEmitter all = subscribe(null, null, null);
+        RecordingEmitter technician2 = subscribe(2L, null, null);
+        RecordingEmitter completed = subscribe(null, Job.JobStatus.COMPLETED, null);
+
+        broadcaster.broadcast(JobChangeEvent.updated(1L, 1L, Job.JobStatus.PENDING, 2L, Job.JobStatus.IN_PROGRESS, 1L));
+        broadcaster.broadcast(JobChangeEvent.updated(1L, 2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED, 2L));
+        broadcaster.broadcast(JobChangeEvent.deleted(3L, 1L, Job.JobStatus.COMPLETED));
+
+        assertEquals(3, all.changes().size());
+        assertEquals(2, technician2.changes().size());
+        assertEquals(2, completed.changes().size());
+        assertTrue(completed.changes().get(1).contains("\"type\":\"DELETED\""));
+        assertTrue(all.events.get(0).startsWith(":connected"));
+    }
+
+    @Test
+    void subscribe_WithLastEventId_ShouldReplayMissedMatchingEventsInOrder() {
+        RecordingEmitter first = subscribe(null, null, null);
+        broadcaster.broadcast(JobChangeEvent.created(1L, 1L, Job.JobStatus.PENDING, 0L));
+        broadcaster.broadcast(JobChangeEvent.created(2L, 2L, Job.JobStatus.PENDING, 0L));
+        broadcaster.broadcast(JobChangeEvent.created(3L, 1L, Job.JobStatus.PENDING, 0L));
+        long firstId = first.ids().get(0);
+
+        RecordingEmitter resumed = subscribe(1L, null, firstId);
+
+        assertEquals(List.of(firstId + 2), resumed.ids());
+        assertTrue(resumed.changes().get(0).contains("\"jobId\":3"));
+    }
+
+    @Test
+    void subscribe_WithLastEventIdNoLongerInHistory_ShouldSendReset() {
+        RecordingEmitter first = subscribe(null, null, null);
+        for (long jobId = 1; jobId <= 5; jobId++) {
+            broadcaster.broadcast(JobChangeEvent.created(jobId, 1L, Job.JobStatus.PENDING, 0L));
+        }
+
+        RecordingEmitter resumed = subscribe(null, null, first.ids().get(0));
+        RecordingEmitter unknown = subscribe(null, null, first.ids().get(4) + 100);
+        RecordingEmitter current = subscribe(null, null, first.ids().get(4));
+
+        assertTrue(resumed.events.get(1).contains("event:" + JobEventBroadcaster.RESET_EVENT));
+        assertTrue(unknown.events.get(1).contains("event:" + JobEventBroadcaster.RESET_EVENT));
+        assertEquals(1, current.events.size());
+    }
+
+    @Test
+    void slowSubscriber_ShouldBeDisconnectedWithoutAffectingOthers() {
+        dispatcher = pendingDispatches::add;
+        RecordingEmitter slow = subscribe(null, null, null);
+        dispatcher = Runnable::run;
+        RecordingEmitter fast = subscribe(null, null, null);
+
+        for (long jobId = 1; jobId <= 3; jobId++) {
+            broadcaster.broadcast(JobChangeEvent.created(jobId, 1L, Job.JobStatus.PENDING, 0L));
+        }
+
+        assertTrue(slow.completed);
+        assertFalse(fast.completed);
+        assertEquals(3, fast.changes().size());
+        assertEquals(1, broadcaster.getSubscriberCount());
+    }
+
+    @Test
+    void stalledSubscriber_ShouldBeDisconnectedAndItsThreadReplaced() throws Exception {
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try {
+            broadcaster = new JobEventBroadcaster(properties, new ObjectMapper().findAndRegisterModules(), pool);
+            StalledEmitter stalled = new StalledEmitter();
+            broadcaster.subscribe(stalled, null, null, null);
+            assertTrue(stalled.sendStarted.await(5, TimeUnit.SECONDS));
+            RecordingEmitter other = subscribe(null, null, null);
+            broadcaster.broadcast(JobChangeEvent.created(1L, 1L, Job.JobStatus.PENDING, 0L));
+
+            broadcaster.disconnectStalled(System.nanoTime() + properties.getSendTimeout().toNanos() + 1);
+
+            assertTrue(stalled.error instanceof IOException);
+            assertEquals(1, broadcaster.getSubscriberCount());
+            assertEquals(2, pool.getCorePoolSize());
+            assertTrue(other.changeReceived.await(5, TimeUnit.SECONDS));
+
+            stalled.release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pool.getCorePoolSize() != 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, pool.getCorePoolSize());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void stalledSubscribers_BeyondTheSpareThreadCap_ShouldBeDisconnectedWithoutAddingThreads() throws Exception {
+        properties.setMaxSpareDispatchThreads(1);
+        ThreadPoolExecutor pool = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try {
+            broadcaster = new JobEventBroadcaster(properties, new ObjectMapper().findAndRegisterModules(), pool);
+            StalledEmitter first = new StalledEmitter();
+            broadcaster.subscribe(first, null, null, null);
+            assertTrue(first.sendStarted.await(5, TimeUnit.SECONDS));
+            broadcaster.disconnectStalled(System.nanoTime() + properties.getSendTimeout().toNanos() + 1);
+            assertEquals(2, pool.getCorePoolSize());
+
+            // The second write blocks the spare thread; no further thread is added for it
+            StalledEmitter second = new StalledEmitter();
+            broadcaster.subscribe(second, null, null, null);
+            assertTrue(second.sendStarted.await(5, TimeUnit.SECONDS));
+            broadcaster.disconnectStalled(System.nanoTime() + properties.getSendTimeout().toNanos() + 1);
+
+            assertTrue(second.error instanceof IOException);
+            assertEquals(0, broadcaster.getSubscriberCount());
+            assertEquals(2, pool.getCorePoolSize());
+
+            first.release.countDown();
+            second.release.countDown();
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (pool.getCorePoolSize() != 1 && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, pool.getCorePoolSize());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void publish_InTransaction_ShouldBroadcastOnlyAfterCommit() {
+        RecordingEmitter emitter = subscribe(null, null, null);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            broadcaster.publish(JobChangeEvent.created(1L, 1L, Job.JobStatus.PENDING, 0L));
+            assertTrue(emitter.changes().isEmpty());
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(1, emitter.changes().size());
+    }
+
+    @Test
+    void heartbeat_ShouldSendCommentToEverySubscriber() {
+        RecordingEmitter emitter = subscribe(2L, Job.JobStatus.PENDING, null);
+
+        broadcaster.heartbeat();
+
+        assertTrue(emitter.events.get(1).startsWith(":heartbeat"));
+    }
+
+    private RecordingEmitter subscribe(Long techId, Job.JobStatus status, Long lastEventId) {
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(emitter, techId, status, lastEventId);
+        return emitter;
+    }
+
+    /** Captures the text of each event instead of writing it to a response. */
+    private static final class RecordingEmitter extends SseEmitter {
+        final List<String> events = new ArrayList<>();
+        final CountDownLatch changeReceived = new CountDownLatch(1);
+        boolean completed;
+
+        @Override
+        public synchronized void send(Set<DataWithMediaType> items) {
+            events.add(items.stream().map(item -> item.getData().toString()).collect(Collectors.joining()));
+            if (!changes().isEmpty()) {
+                changeReceived.countDown();
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        List<String> changes() {
+            return events.stream().filter(event -> event.contains("event:" + JobEventBroadcaster.CHANGE_EVENT + "\n")).toList();
+        }
+
+        List<Long> ids() {
+            return changes().stream().map(event -> Long.parseLong(event.substring(3, event.indexOf('\n')))).toList();
+        }
+    }
+
+    /** Blocks in its first write, like a client whose connection has stopped draining. */
+    private static final class StalledEmitter extends SseEmitter {
+        final CountDownLatch sendStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile Throwable error;
+
+        @Override
+        public void send(Set<DataWithMediaType> items) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IOException("Connection closed");
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            error = ex;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.jobmanagement.events;
+
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import com.example.jobmanagement.repository.JobOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the relay delivers outbox rows in order, removes them only after delivery,
+ * and that concurrent workers claim disjoint batches.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private JobOutboxRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final OutboxProperties properties = new OutboxProperties();
+    private final InMemoryOutboxSink sink = new InMemoryOutboxSink(100);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        properties.setBatchSize(2);
+        for (long jobId = 1; jobId <= 5; jobId++) {
+            repository.save(JobOutboxEvent.from(JobChangeEvent.created(jobId, 1L, Job.JobStatus.PENDING, 0L)));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void drain_ShouldDeliverAllRowsInOrderAndDeleteThem() {
+        relay(sink).drain();
+
+        List<Long> jobIds = sink.getMessages().stream().map(message -> message.event().jobId()).toList();
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), jobIds);
+        assertEquals(0, repository.count());
+        assertEquals(5.0, meterRegistry.counter(MetricNames.JOB_OUTBOX_RELAYED).count());
+    }
+
+    @Test
+    void drain_WhenSinkFails_ShouldKeepRowsForTheNextPoll() {
+        OutboxRelay failing = relay(messages -> {
+            throw new IOException("broker unavailable");
+        });
+
+        failing.drain();
+
+        assertEquals(5, repository.count());
+        assertEquals(1.0, meterRegistry.counter(MetricNames.JOB_OUTBOX_FAILURES).count());
+        relay(sink).drain();
+        assertEquals(5, sink.getMessages().size());
+    }
+
+    @Test
+    void relayBatch_ShouldSkipRowsClaimedByAnotherWorker() throws Exception {
+        CountDownLatch claimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<List<Long>> otherWorker = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    List<Long> ids = repository.lockNextBatch(2).stream().map(JobOutboxEvent::getId).toList();
+                    claimed.countDown();
+                    await(release);
+                    return ids;
+                }));
+        assertTrue(claimed.await(10, TimeUnit.SECONDS));
+
+        try {
+            OutboxRelay relay = relay(sink);
+            assertEquals(2, relay.relayBatch());
+            assertEquals(1, relay.relayBatch());
+        } finally {
+            release.countDown();
+        }
+
+        List<Long> lockedIds = otherWorker.get(10, TimeUnit.SECONDS);
+        List<Long> relayedIds = sink.getMessages().stream().map(OutboxMessage::id).toList();
+        assertEquals(3, relayedIds.size());
+        assertTrue(relayedIds.stream().noneMatch(lockedIds::contains));
+        assertEquals(2, repository.count());
+    }
+
+    private OutboxRelay relay(OutboxSink target) {
+        return new OutboxRelay(properties, repository, target, transactionManager, meterRegistry);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.jobmanagement.export;
+
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.repository.JobExportRow;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class JobExportWritersTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2024, 3, 10, 9, 0, 0, 123_456_000);
+
+    @Test
+    void csv_ShouldQuoteFieldsThatNeedItAndLeaveNullsEmpty() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobExportWriter writer = JobExportFormat.CSV.newWriter(out);
+        writer.write(new JobExportRow(1, "Fix \"main\" server, rack 2", 7L, "Jane Smith", CREATED,
+                CREATED.plusHours(5), Job.JobStatus.COMPLETED, 3));
+        writer.write(new JobExportRow(2, "Unassigned", null, null, CREATED, null, Job.JobStatus.PENDING, 0));
+        writer.finish();
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(3, lines.length);
+        assertEquals(CsvJobExportWriter.HEADER, lines[0]);
+        assertEquals("1,\"Fix \"\"main\"\" server, rack 2\",7,Jane Smith,2024-03-10T09:00:00.123456,"
+                + "2024-03-10T14:00:00.123456,COMPLETED,3", lines[1]);
+        assertEquals("2,Unassigned,,,2024-03-10T09:00:00.123456,,PENDING,0", lines[2]);
+    }
+
+    @Test
+    void columnar_ShouldRoundTripRowsAcrossRowGroups() throws IOException {
+        List<JobExportRow> rows = new ArrayList<>();
+        for (int i = 0; i < ColumnarJobExportWriter.ROW_GROUP_SIZE + 10; i++) {
+            boolean open = i % 3 == 0;
+            rows.add(new JobExportRow(1000 + i * 2L, i % 5 == 0 ? null : "Job " + i, i % 7 == 0 ? null : (long) (i % 4),
+                    i % 7 == 0 ? null : "Technician " + (i % 4), CREATED.plusSeconds(i * 60L - 500),
+                    open ? null : CREATED.plusDays(1).minusSeconds(i),
+                    open ? Job.JobStatus.IN_PROGRESS : Job.JobStatus.COMPLETED, i % 9));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobExportWriter writer = JobExportFormat.COLUMNAR.newWriter(out);
+        for (JobExportRow row : rows) {
+            writer.write(row);
+        }
+        writer.finish();
+
+        assertEquals(rows, ColumnarReader.read(out.toByteArray()));
+    }
+
+    @Test
+    void columnar_WithNoRows_ShouldWriteHeaderAndEndMarkerOnly() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JobExportFormat.COLUMNAR.newWriter(out).finish();
+
+        assertEquals(List.of(), ColumnarReader.read(out.toByteArray()));
+    }
+
+    /** Decodes the layout documented on {@link ColumnarJobExportWriter}. */
+    private static final class ColumnarReader {
+        private final DataInputStream in;
+
+        private ColumnarReader(byte[] bytes) {
+            this.in = new DataInputStream(new ByteArrayInputStream(bytes));
+        }
+
+        static List<JobExportRow> read(byte[] bytes) throws IOException {
+            return new ColumnarReader(bytes).readAll();
+        }
+
+        private List<JobExportRow> readAll() throws IOException {
+            byte[] magic = new byte[4];
+            in.readFully(magic);
+            assertArrayEquals(ColumnarJobExportWriter.MAGIC, magic);
+            assertEquals(ColumnarJobExportWriter.FORMAT_VERSION, in.readUnsignedByte());
+            List<String> columns = new ArrayList<>();
+            for (long i = varint(); i > 0; i--) {
+                columns.add(string());
+            }
+            assertEquals(ColumnarJobExportWriter.COLUMNS, columns);
+
+            List<JobExportRow> rows = new ArrayList<>();
+            for (int count = (int) varint(); count > 0; count = (int) varint()) {
+                long[] jobIds = new long[count];
+                long previous = 0;
+                for (int i = 0; i < count; i++) {
+                    jobIds[i] = previous += unzigzag(varint());
+                }
+                String[] descriptions = new String[count];
+                for (int i = 0; i < count; i++) {
+                    long length = varint();
+                    descriptions[i] = length == 0 ? null : new String(in.readNBytes((int) length - 1), StandardCharsets.UTF_8);
+                }
+                Long[] techIds = new Long[count];
+                for (int i = 0; i < count; i++) {
+                    long value = varint();
+                    techIds[i] = value == 0 ? null : value - 1;
+                }
+                String[] techNames = dictionary(count);
+                LocalDateTime[] created = dates(count);
+                LocalDateTime[] completed = dates(count);
+                String[] statuses = dictionary(count);
+                for (int i = 0; i < count; i++) {
+                    rows.add(new JobExportRow(jobIds[i], descriptions[i], techIds[i], techNames[i], created[i],
+                            completed[i], Job.JobStatus.valueOf(statuses[i]), varint()));
+                }
+            }
+            assertEquals(-1, in.read());
+            return rows;
+        }
+
+        private String[] dictionary(int count) throws IOException {
+            String[] entries = new String[(int) varint()];
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = string();
+            }
+            String[] values = new String[count];
+            for (int i = 0; i < count; i++) {
+                long index = varint();
+                values[i] = index == 0 ? null : entries[(int) index - 1];
+            }
+            return values;
+        }
+
+        private LocalDateTime[] dates(int count) throws IOException {
+            LocalDateTime[] values = new LocalDateTime[count];
+            long previous = 0;
+            for (int i = 0; i < count; i++) {
+                long value = varint();
+                if (value != 0) {
+                    previous += unzigzag(value - 1);
+                    values[i] = LocalDateTime.ofEpochSecond(Math.floorDiv(previous, 1_000_000L),
+                            (int) Math.floorMod(previous, 1_000_000L) * 1000, ZoneOffset.UTC);
+                }
+            }
+            return values;
+        }
+
+        private String string() throws IOException {
+            return new String(in.readNBytes((int) varint()), StandardCharsets.UTF_8);
+        }
+
+        private long varint() throws IOException {
+            long value = 0;
+            for (int shift = 0; ; shift += 7) {
+                int b = in.readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+        }
+
+        private static long unzigzag(long value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.jobmanagement.imports;
+
+import com.example.jobmanagement.entity.Job;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CopyBulkLoaderTest {
+
+    @Test
+    void appendRow_ShouldQuoteStringsAndLeaveNullsEmpty() {
+        StringBuilder out = new StringBuilder();
+
+        CopyBulkLoader.appendRow(out, new Object[] {42L, "Fix \"main\" server,\nrack 2", "", null,
+                LocalDate.of(2024, 1, 15), LocalDateTime.of(2024, 3, 10, 9, 0, 0, 500_000_000), Job.JobStatus.COMPLETED});
+
+        assertEquals("42,\"Fix \"\"main\"\" server,\nrack 2\",\"\",,2024-01-15,2024-03-10T09:00:00.5,COMPLETED\n",
+                out.toString());
+    }
+}
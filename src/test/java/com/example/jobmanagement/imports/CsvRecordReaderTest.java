@@ -0,0 +1,58 @@
+package com.example.jobmanagement.imports;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void next_ShouldSplitPlainAndQuotedFields() throws IOException {
+        CsvRecordReader reader = reader("a,\"b, \"\"quoted\"\"\",,\"\"\r\nlast,row");
+
+        assertEquals(List.of("a", "b, \"quoted\"", "", ""), reader.next());
+        assertEquals(List.of("last", "row"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_ShouldKeepLineBreaksInQuotedFieldsAndTrackRecordLines() throws IOException {
+        CsvRecordReader reader = reader("h1,h2\n\"line one\r\nline two\",x\n\n\nnext,y\n");
+        List<Long> lines = new ArrayList<>();
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+            lines.add(reader.getRecordLine());
+        }
+
+        assertEquals(List.of(List.of("h1", "h2"), List.of("line one\r\nline two", "x"), List.of("next", "y")), records);
+        assertEquals(List.of(1L, 2L, 6L), lines);
+    }
+
+    @Test
+    void next_ShouldSkipByteOrderMarkAndReadUnterminatedQuoteToTheEnd() throws IOException {
+        CsvRecordReader reader = reader("\uFEFFtech_name,doj\n\"open,quote");
+
+        assertEquals(List.of("tech_name", "doj"), reader.next());
+        assertEquals(List.of("open,quote"), reader.next());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void next_OnEmptyInput_ShouldReturnNull() throws IOException {
+        assertNull(reader("").next());
+        assertNull(reader("\r\n\n").next());
+    }
+
+    private static CsvRecordReader reader(String csv) {
+        return new CsvRecordReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+}
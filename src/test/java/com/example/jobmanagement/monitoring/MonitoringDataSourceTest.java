@@ -0,0 +1,124 @@
+package com.example.jobmanagement.monitoring;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonitoringDataSourceTest {
+
+    private final List<SlowStatement> slowStatements = new ArrayList<>();
+    private JdbcDataSource h2;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:monitoring;DB_CLOSE_DELAY=-1");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS item");
+            statement.execute("CREATE TABLE item (id INT PRIMARY KEY, name VARCHAR(20))");
+            statement.execute("INSERT INTO item VALUES (1, 'a'), (2, 'b'), (3, 'c')");
+        }
+    }
+
+    @Test
+    void query_AboveThreshold_ShouldReportRowsParametersAndCaller() throws Exception {
+        DataSource dataSource = wrap(Duration.ZERO);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("SELECT * FROM item WHERE id > ? AND name <> '?'")) {
+            statement.setInt(1, 1);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    assertNotNull(resultSet.getString("name"));
+                }
+            }
+        }
+
+        assertEquals(1, slowStatements.size());
+        SlowStatement slow = slowStatements.get(0);
+        assertEquals("SELECT * FROM item WHERE id > ? AND name <> '?'", slow.sql());
+        assertEquals(1, slow.parameterCount());
+        assertEquals(2, slow.rows());
+        assertEquals(1, slow.batchSize());
+        assertEquals("MonitoringDataSourceTest.query_AboveThreshold_ShouldReportRowsParametersAndCaller", slow.caller());
+        assertNull(slow.endpoint());
+    }
+
+    @Test
+    void batchUpdate_AboveThreshold_ShouldReportBatchSizeAndAffectedRows() throws Exception {
+        DataSource dataSource = wrap(Duration.ZERO);
+
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("UPDATE item SET name = ? WHERE id = ?")) {
+            for (int id = 1; id <= 3; id++) {
+                statement.setString(1, "x");
+                statement.setInt(2, id);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+
+        assertEquals(1, slowStatements.size());
+        assertEquals(3, slowStatements.get(0).batchSize());
+        assertEquals(3, slowStatements.get(0).rows());
+        assertEquals(2, slowStatements.get(0).parameterCount());
+    }
+
+    @Test
+    void query_BelowThreshold_ShouldNotReportButShouldCountForRequest() throws Exception {
+        DataSource dataSource = wrap(Duration.ofMinutes(1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/items/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/items/{id}");
+
+        new StatementCountFilter(meterRegistry, 25).doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < 3; i++) {
+                    try (Statement statement = connection.createStatement();
+                         ResultSet resultSet = statement.executeQuery("SELECT COUNT(*) FROM item")) {
+                        assertTrue(resultSet.next());
+                    }
+                }
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertTrue(slowStatements.isEmpty());
+        var summary = meterRegistry.get(StatementCountFilter.METRIC_NAME)
+                .tag("method", "GET").tag("uri", "/api/items/{id}").summary();
+        assertEquals(1, summary.count());
+        assertEquals(3, summary.totalAmount());
+    }
+
+    @Test
+    void unwrap_ShouldReachTargetDataSource() throws Exception {
+        DataSource dataSource = wrap(Duration.ZERO);
+
+        assertTrue(dataSource.isWrapperFor(JdbcDataSource.class));
+        assertSame(h2, dataSource.unwrap(JdbcDataSource.class));
+        assertFalse(dataSource.isWrapperFor(HikariDataSource.class));
+    }
+
+    private DataSource wrap(Duration slowThreshold) {
+        SqlMonitoringProperties properties = new SqlMonitoringProperties();
+        properties.setSlowThreshold(slowThreshold);
+        return MonitoringDataSource.wrap(h2, properties, slowStatements::add);
+    }
+}
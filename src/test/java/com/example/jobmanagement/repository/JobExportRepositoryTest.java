@@ -0,0 +1,106 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Verifies that the export query joins technician names and applies every filter in SQL.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+@Import(JobExportRepository.class)
+class JobExportRepositoryTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2024, 3, 10, 0, 0);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JobExportRepository jobExportRepository;
+
+    private Long techId;
+
+    @BeforeEach
+    void setUp() {
+        Technician technician = entityManager.persist(Technician.builder()
+                .techName("Jane Smith")
+                .doj(LocalDate.of(2024, 1, 1))
+                .build());
+        techId = technician.getTechId();
+        for (int day = 0; day < 4; day++) {
+            boolean completed = day % 2 == 0;
+            entityManager.persist(Job.builder()
+                    .description("Job " + day)
+                    .technician(technician)
+                    .createdDate(DAY.plusDays(day))
+                    .completedDate(completed ? DAY.plusDays(day).plusHours(4) : null)
+                    .status(completed ? Job.JobStatus.COMPLETED : Job.JobStatus.PENDING)
+                    .build());
+        }
+        entityManager.persist(Job.builder()
+                .description("Unassigned")
+                .createdDate(DAY.plusDays(5))
+                .status(Job.JobStatus.PENDING)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void forEach_WithoutFilters_ShouldReturnAllJobsWithTechnicianNamesInIdOrder() {
+        List<JobExportRow> rows = export(new JobSearchCriteria());
+
+        assertEquals(5, rows.size());
+        assertEquals("Jane Smith", rows.get(0).techName());
+        assertEquals(techId, rows.get(0).techId());
+        assertEquals(DAY.plusHours(4), rows.get(0).completedDate());
+        assertNull(rows.get(4).techId());
+        assertNull(rows.get(4).techName());
+        assertEquals(rows.stream().map(JobExportRow::jobId).sorted().toList(),
+                rows.stream().map(JobExportRow::jobId).toList());
+    }
+
+    @Test
+    void forEach_WithStatusAndHalfOpenCreatedRange_ShouldReturnOnlyMatchingJobs() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setStatus(Job.JobStatus.COMPLETED);
+        criteria.setCreatedFrom(DAY.plusDays(1));
+        criteria.setCreatedTo(DAY.plusDays(4));
+
+        List<JobExportRow> rows = export(criteria);
+
+        assertEquals(List.of("Job 2"), rows.stream().map(JobExportRow::description).toList());
+    }
+
+    @Test
+    void forEach_WithTechnicianAndCompletedRange_ShouldReturnOnlyMatchingJobs() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setTechId(techId);
+        criteria.setCompletedTo(DAY.plusDays(1));
+
+        assertEquals(List.of("Job 0"), export(criteria).stream().map(JobExportRow::description).toList());
+    }
+
+    private List<JobExportRow> export(JobSearchCriteria criteria) {
+        List<JobExportRow> rows = new ArrayList<>();
+        jobExportRepository.forEach(criteria, rows::add);
+        return rows;
+    }
+}
@@ -0,0 +1,329 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that the read paths used by the list endpoints run a fixed number of SQL statements,
+ * including the lazy loads Jackson triggers while serializing the results.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.sql.init.mode=never"
+})
+@ActiveProfiles("test")
+class RepositoryStatementCountTest {
+
+    private static final int TECHNICIAN_COUNT = 5;
+    private static final int JOBS_PER_TECHNICIAN = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TechnicianRepository technicianRepository;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Statistics statistics;
+    private Long firstTechId;
+
+    @BeforeEach
+    void setUp() {
+        for (int t = 0; t < TECHNICIAN_COUNT; t++) {
+            Technician technician = entityManager.persist(Technician.builder()
+                    .techName("Technician " + t)
+                    .doj(LocalDate.of(2024, 1, 1))
+                    .build());
+            if (firstTechId == null) {
+                firstTechId = technician.getTechId();
+            }
+            for (int j = 0; j < JOBS_PER_TECHNICIAN; j++) {
+                entityManager.persist(Job.builder()
+                        .description("Job " + t + "-" + j)
+                        .technician(technician)
+                        .createdDate(LocalDateTime.now())
+                        .status(Job.JobStatus.PENDING)
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findAll_ShouldRunOneExtraStatementPerTechnicianWhenSerialized() throws Exception {
+        List<Technician> technicians = technicianRepository.findAll();
+        objectMapper.writeValueAsString(technicians);
+
+        assertEquals(1 + TECHNICIAN_COUNT, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findAll_ShouldRunSingleStatementIncludingSerialization() throws Exception {
+        objectMapper.writeValueAsString(jobRepository.findAll());
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void responseQueries_ShouldRunSingleStatementWithoutLoadingEntities() throws Exception {
+        List<JobResponse> all = jobRepository.findAllResponses();
+        objectMapper.writeValueAsString(all);
+        objectMapper.writeValueAsString(jobRepository.findResponsesByStatus(Job.JobStatus.PENDING));
+        objectMapper.writeValueAsString(jobRepository.findResponsesByTechId(firstTechId));
+        objectMapper.writeValueAsString(jobRepository.findResponsesAfter(0L, Limit.of(2)));
+        jobRepository.findResponseById(all.get(0).jobId()).orElseThrow();
+
+        assertEquals(TECHNICIAN_COUNT * JOBS_PER_TECHNICIAN, all.size());
+        assertEquals(firstTechId, all.get(0).techId());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findResponses_ShouldApplySpecificationAndSortWithoutLoadingEntities() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setTechId(firstTechId);
+
+        Page<JobResponse> page = jobRepository.findResponses(JobSpecifications.matching(criteria),
+                PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "jobId")));
+
+        assertEquals(JOBS_PER_TECHNICIAN, page.getTotalElements());
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.getContent().get(0).jobId() > page.getContent().get(1).jobId());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void technicianRows_ShouldGroupIntoResponsesInSingleStatement() throws Exception {
+        entityManager.persist(Technician.builder().techName("Idle").doj(LocalDate.of(2024, 1, 1)).build());
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<TechnicianResponse> technicians = TechnicianJobRow.toResponses(technicianRepository.findAllRows());
+        objectMapper.writeValueAsString(technicians);
+
+        assertEquals(TECHNICIAN_COUNT + 1, technicians.size());
+        assertEquals(JOBS_PER_TECHNICIAN, technicians.get(0).jobs().size());
+        assertTrue(technicians.get(TECHNICIAN_COUNT).jobs().isEmpty());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findRowsByTechId_ShouldRunSingleStatementWithoutLoadingEntities() throws Exception {
+        TechnicianResponse technician =
+                TechnicianJobRow.toResponses(technicianRepository.findRowsByTechId(firstTechId)).get(0);
+        objectMapper.writeValueAsString(technician);
+
+        assertEquals(JOBS_PER_TECHNICIAN, technician.jobs().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void statusCountQueries_ShouldRunSingleStatementWithoutLoadingJobs() {
+        entityManager.persist(Job.builder()
+                .description("Unassigned job")
+                .createdDate(LocalDateTime.now())
+                .status(Job.JobStatus.COMPLETED)
+                .build());
+        entityManager.flush();
+        Long jobId = jobRepository.findResponsesByTechId(firstTechId).get(0).jobId();
+        entityManager.clear();
+        statistics.clear();
+
+        List<JobStatusCount> counts = jobRepository.countByTechnicianAndStatus();
+        JobAssignment assignment = jobRepository.findAssignmentById(jobId).orElseThrow();
+
+        assertEquals(TECHNICIAN_COUNT + 1, counts.size());
+        assertEquals(TECHNICIAN_COUNT * JOBS_PER_TECHNICIAN + 1,
+                counts.stream().mapToLong(JobStatusCount::getCount).sum());
+        assertTrue(counts.stream().anyMatch(c -> c.getTechId() == null && c.getStatus() == Job.JobStatus.COMPLETED));
+        assertEquals(firstTechId, assignment.getTechId());
+        assertEquals(Job.JobStatus.PENDING, assignment.getStatus());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void saveAll_ShouldInsertJobsInJdbcBatches() {
+        Technician technician = technicianRepository.getReferenceById(firstTechId);
+        List<Job> jobs = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            jobs.add(Job.builder()
+                    .description("Batch job " + i)
+                    .technician(technician)
+                    .createdDate(LocalDateTime.now())
+                    .status(Job.JobStatus.PENDING)
+                    .build());
+        }
+
+        jobRepository.saveAll(jobs);
+        entityManager.flush();
+
+        // At most two sequence calls (blocks of 50) and two JDBC batches, instead of one statement per row
+        assertEquals(100, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 4);
+    }
+
+    @Test
+    void conditionalUpdates_ShouldRunSingleStatementAndReportRowsAffected() {
+        Long jobId = jobRepository.findResponsesByTechId(firstTechId).get(0).jobId();
+        statistics.clear();
+
+        int updated = jobRepository.updateDetailsAndTechnician(jobId, 0L,
+                technicianRepository.getReferenceById(firstTechId), "Updated", Job.JobStatus.IN_PROGRESS,
+                LocalDateTime.now(), null);
+        int missingTechnician = jobRepository.updateDetailsAndTechnician(jobId, 1L,
+                technicianRepository.getReferenceById(-1L), "Updated", Job.JobStatus.IN_PROGRESS,
+                LocalDateTime.now(), null);
+        int staleVersion = jobRepository.updateDetails(jobId, 0L, "Stale", Job.JobStatus.PENDING, LocalDateTime.now(), null);
+        int missingJob = jobRepository.updateDetails(-1L, 0L, "Updated", Job.JobStatus.PENDING, LocalDateTime.now(), null);
+
+        assertEquals(1, updated);
+        assertEquals(0, missingTechnician);
+        assertEquals(0, staleVersion);
+        assertEquals(0, missingJob);
+        assertEquals(4, statistics.getPrepareStatementCount());
+        Job job = jobRepository.findById(jobId).orElseThrow();
+        assertEquals(Job.JobStatus.IN_PROGRESS, job.getStatus());
+        assertEquals(1L, job.getVersion());
+    }
+
+    @Test
+    void compareAndSetStatus_ShouldOnlyApplyFromExpectedStatus() {
+        Long jobId = jobRepository.findResponsesByTechId(firstTechId).get(0).jobId();
+        LocalDateTime completedAt = LocalDateTime.of(2024, 6, 1, 12, 0);
+        statistics.clear();
+
+        int started = jobRepository.compareAndSetStatus(jobId, Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS, null);
+        int lostRace = jobRepository.compareAndSetStatus(jobId, Job.JobStatus.PENDING, Job.JobStatus.COMPLETED, completedAt);
+        int completed = jobRepository.compareAndSetStatus(jobId, Job.JobStatus.IN_PROGRESS, Job.JobStatus.COMPLETED,
+                completedAt);
+
+        assertEquals(1, started);
+        assertEquals(0, lostRace);
+        assertEquals(1, completed);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        JobAssignment assignment = jobRepository.findAssignmentById(jobId).orElseThrow();
+        assertEquals(Job.JobStatus.COMPLETED, assignment.getStatus());
+        assertEquals(2L, assignment.getVersion());
+        assertEquals(completedAt, jobRepository.findById(jobId).orElseThrow().getCompletedDate());
+    }
+
+    @Test
+    void bulkStatusTransition_ShouldLockAndUpdateAllSelectedJobsInTwoStatements() {
+        LocalDateTime completedAt = LocalDateTime.of(2024, 6, 1, 17, 0);
+        statistics.clear();
+
+        List<JobAssignment> jobs = jobRepository.lockAssignmentsByTechnician(firstTechId, Job.JobStatus.PENDING,
+                Limit.of(100));
+        int updated = jobRepository.updateStatusByIds(jobs.stream().map(JobAssignment::getJobId).toList(),
+                Job.JobStatus.COMPLETED, completedAt);
+
+        assertEquals(JOBS_PER_TECHNICIAN, jobs.size());
+        assertEquals(JOBS_PER_TECHNICIAN, updated);
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        List<JobAssignment> locked = jobRepository.lockAssignmentsByIds(List.of(jobs.get(0).getJobId(), -1L));
+        assertEquals(1, locked.size());
+        assertEquals(Job.JobStatus.COMPLETED, locked.get(0).getStatus());
+        assertEquals(jobs.get(0).getVersion() + 1, locked.get(0).getVersion());
+        assertEquals(completedAt, jobRepository.findById(jobs.get(0).getJobId()).orElseThrow().getCompletedDate());
+    }
+
+    @Test
+    void updateDetails_ShouldIncrementTechnicianVersion() {
+        Long version = technicianRepository.findRowsByTechId(firstTechId).get(0).techVersion();
+
+        assertEquals(1, technicianRepository.updateDetails(firstTechId, "Renamed", LocalDate.of(2024, 2, 1)));
+
+        assertEquals(version + 1, technicianRepository.findRowsByTechId(firstTechId).get(0).techVersion());
+    }
+
+    @Test
+    void conditionalDeletes_ShouldRunSingleStatementAndReportRowsAffected() {
+        Long jobId = jobRepository.findResponsesByTechId(firstTechId).get(0).jobId();
+        Technician unassigned = entityManager.persistFlushFind(Technician.builder()
+                .techName("Unassigned").doj(LocalDate.of(2024, 1, 1)).build());
+        statistics.clear();
+
+        assertEquals(1, jobRepository.deleteJobById(jobId));
+        assertEquals(0, jobRepository.deleteJobById(jobId));
+        assertEquals(1, technicianRepository.deleteTechnicianById(unassigned.getTechId()));
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deletingTechnicianWithJobs_ShouldTakeThreeStatementsWhateverTheNumberOfJobs() {
+        statistics.clear();
+
+        List<JobAssignment> jobs = jobRepository.lockAssignmentsByTechnician(firstTechId, null, Limit.unlimited());
+        assertEquals(JOBS_PER_TECHNICIAN, jobRepository.deleteJobsByIds(jobs.stream().map(JobAssignment::getJobId).toList()));
+        assertEquals(1, technicianRepository.deleteTechnicianById(firstTechId));
+
+        assertEquals(JOBS_PER_TECHNICIAN, jobs.size());
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertTrue(jobRepository.findResponsesByTechId(firstTechId).isEmpty());
+    }
+
+    @Test
+    void findWorkloads_ShouldCountOpenJobsIncludingIdleTechniciansInSingleStatement() {
+        Job completed = jobRepository.findById(jobRepository.findResponsesByTechId(firstTechId).get(0).jobId())
+                .orElseThrow();
+        completed.setStatus(Job.JobStatus.COMPLETED);
+        jobRepository.saveAndFlush(completed);
+        Technician idle = entityManager.persistFlushFind(Technician.builder()
+                .techName("Idle")
+                .doj(LocalDate.of(2024, 1, 1))
+                .build());
+        statistics.clear();
+
+        Map<Long, Long> workloads = technicianRepository.findWorkloads(
+                        EnumSet.of(Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS)).stream()
+                .collect(Collectors.toMap(TechnicianWorkload::getTechId, TechnicianWorkload::getOpenJobs));
+
+        assertEquals(TECHNICIAN_COUNT + 1, workloads.size());
+        assertEquals(JOBS_PER_TECHNICIAN - 1, workloads.get(firstTechId));
+        assertEquals(0, workloads.get(idle.getTechId()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.jobmanagement.repository;
+
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.Technician;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks with the caches enabled that repeat reads are served from the second-level and query caches,
+ * and that writes made through Hibernate or the bulk importer invalidate them.
+ */
+@DataJpaTest(properties = {
+    "spring.sql.init.mode=never",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+    "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private TechnicianRepository technicianRepository;
+
+    private Statistics statistics;
+    private TransactionTemplate transactionTemplate;
+    private Technician technician;
+    private Job job;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        technician = inTransaction(() -> technicianRepository.save(Technician.builder()
+                .techName("John Doe").doj(LocalDate.of(2024, 1, 15)).build()));
+        job = inTransaction(() -> jobRepository.save(Job.builder()
+                .description("Fix server").technician(technician).status(Job.JobStatus.PENDING)
+                .createdDate(LocalDateTime.now()).build()));
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("delete from job");
+        jdbcTemplate.update("delete from technician");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void findById_ShouldBeServedFromCacheUntilABulkUpdateChangesTheJob() {
+        inTransaction(() -> jobRepository.findById(job.getJobId()));
+        inTransaction(() -> jobRepository.findById(job.getJobId()));
+
+        assertEquals(1, statistics.getDomainDataRegionStatistics("job").getHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+
+        inTransaction(() -> jobRepository.compareAndSetStatus(job.getJobId(), Job.JobStatus.PENDING,
+                Job.JobStatus.IN_PROGRESS, null));
+        Job reloaded = inTransaction(() -> jobRepository.findById(job.getJobId())).orElseThrow();
+
+        assertEquals(Job.JobStatus.IN_PROGRESS, reloaded.getStatus());
+        assertEquals(1, statistics.getDomainDataRegionStatistics("job").getHitCount());
+    }
+
+    @Test
+    void findResponsesByStatus_ShouldBeQueryCachedUntilAJobIsSaved() {
+        inTransaction(() -> jobRepository.findResponsesByStatus(Job.JobStatus.PENDING));
+        List<JobResponse> cached = inTransaction(() -> jobRepository.findResponsesByStatus(Job.JobStatus.PENDING));
+
+        assertEquals(1, cached.size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        inTransaction(() -> jobRepository.save(Job.builder()
+                .description("Install software").technician(technician).status(Job.JobStatus.PENDING)
+                .createdDate(LocalDateTime.now()).build()));
+
+        assertEquals(2, inTransaction(() -> jobRepository.findResponsesByStatus(Job.JobStatus.PENDING)).size());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findResponsesByTechId_ShouldSeeRowsWrittenByTheBulkImporter() {
+        BulkInsertRepository bulkInsertRepository = new BulkInsertRepository(dataSource, entityManager);
+        inTransaction(() -> jobRepository.findResponsesByTechId(technician.getTechId()));
+
+        inTransaction(() -> bulkInsertRepository.insert("job",
+                List.of("job_id", "description", "tech_id", "created_date", "status", "version"),
+                List.<Object[]>of(new Object[] {job.getJobId() + 1000, "Imported", technician.getTechId(),
+                        LocalDateTime.now(), Job.JobStatus.PENDING, 0L})));
+
+        assertEquals(2, inTransaction(() -> jobRepository.findResponsesByTechId(technician.getTechId())).size());
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+}
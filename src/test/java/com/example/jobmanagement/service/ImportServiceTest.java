@@ -0,0 +1,243 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.dto.ImportReject;
+import com.example.jobmanagement.dto.ImportReport;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.JobOutboxEvent;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.exception.InvalidRequestException;
+import com.example.jobmanagement.imports.ImportProperties;
+import com.example.jobmanagement.repository.BulkInsertRepository;
+import com.example.jobmanagement.repository.JobOutboxRepository;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.service.impl.ImportServiceImpl;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Runs imports against H2, which takes the batched INSERT path, with real per-batch transactions.
+ */
+@DataJpaTest(properties = "spring.sql.init.mode=never")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ImportServiceTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TechnicianRepository technicianRepository;
+
+    @Autowired
+    private JobOutboxRepository jobOutboxRepository;
+
+    private final JobStatusCounters jobStatusCounters = mock(JobStatusCounters.class);
+    private final TechnicianWorkloadIndex technicianWorkloadIndex = mock(TechnicianWorkloadIndex.class);
+    private final JobEventBroadcaster jobEventBroadcaster = mock(JobEventBroadcaster.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ImportProperties properties = new ImportProperties();
+
+    private JdbcTemplate jdbcTemplate;
+    private ImportService importService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        properties.setBatchSize(2);
+        importService = new ImportServiceImpl(properties, new BulkInsertRepository(dataSource, entityManager),
+                technicianRepository, jobStatusCounters, technicianWorkloadIndex, jobEventBroadcaster,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("delete from job_outbox");
+        jdbcTemplate.update("delete from job");
+        jdbcTemplate.update("delete from technician");
+    }
+
+    @Test
+    void importTechnicians_ShouldInsertValidRowsAcrossBatchesAndReportRejects() {
+        ImportReport report = importService.importTechnicians(csv("""
+                doj,tech_name
+                2024-01-15,John Doe
+                2024-02-01,"Smith, Jane"
+                15/02/2024,Bad Date
+                2024-03-01,
+                2099-01-01,Future Hire
+                2024-03-05,Ann Lee
+                """));
+
+        assertEquals(ImportReport.Status.COMPLETED, report.getStatus());
+        assertEquals(ImportReport.Method.BATCH, report.getMethod());
+        assertEquals(6, report.getRowsRead());
+        assertEquals(3, report.getImported());
+        assertEquals(3, report.getRejected());
+        assertEquals(List.of(4L, 5L, 6L), report.getRejects().stream().map(ImportReject::line).toList());
+        assertEquals("doj must be a date such as 2024-01-15, but was '15/02/2024'", report.getRejects().get(0).error());
+        assertEquals("Technician name is required", report.getRejects().get(1).error());
+        assertEquals("Date of joining cannot be in the future", report.getRejects().get(2).error());
+        assertEquals(List.of("Ann Lee", "John Doe", "Smith, Jane"), jdbcTemplate.queryForList(
+                "select tech_name from technician order by tech_name", String.class));
+        assertEquals(0L, jdbcTemplate.queryForObject("select max(version) from technician", Long.class));
+        verify(technicianWorkloadIndex).rebuild();
+        assertEquals(3.0, meterRegistry.counter("jobs.import.rows", "type", "technicians", "outcome", "imported").count());
+        assertEquals(3.0, meterRegistry.counter("jobs.import.rows", "type", "technicians", "outcome", "rejected").count());
+        assertTrue(importService.getRunningImports().isEmpty());
+    }
+
+    @Test
+    void importJobs_ShouldInsertJobsWithOutboxRowsAndRejectInvalidOnes() {
+        long techId = insertTechnician("John Doe");
+        ImportReport report = importService.importJobs(csv("""
+                description,tech_id,status,created_date,completed_date
+                "Fix server, rack 2",%1$d,COMPLETED,2024-03-10 09:00:00,2024-03-10T14:30:00
+                "Install
+                software",%1$d,,,
+                Unknown technician,999999,,,
+                Bad status,%1$d,DONE,,
+                Completed too early,%1$d,completed,2024-03-10 09:00:00,2024-03-09 09:00:00
+                Pending with completion,%1$d,PENDING,,2024-03-10 09:00:00
+                Missing technician,,,,
+                """.formatted(techId)));
+
+        assertEquals(ImportReport.Status.COMPLETED, report.getStatus());
+        assertEquals(7, report.getRowsRead());
+        assertEquals(2, report.getImported());
+        assertEquals(5, report.getRejected());
+        Map<Long, String> errors = report.getRejects().stream()
+                .collect(Collectors.toMap(ImportReject::line, ImportReject::error));
+        assertEquals("Technician not found with id: 999999", errors.get(5L));
+        assertEquals("status must be one of [PENDING, IN_PROGRESS, COMPLETED], but was 'DONE'", errors.get(6L));
+        assertEquals("Completed date 2024-03-09T09:00 is before created date 2024-03-10T09:00", errors.get(7L));
+        assertEquals("Only completed jobs have a completed date", errors.get(8L));
+        assertEquals("Technician ID is required", errors.get(9L));
+
+        List<Map<String, Object>> jobs = jdbcTemplate.queryForList(
+                "select job_id, description, tech_id, status, completed_date, version from job order by job_id");
+        assertEquals(2, jobs.size());
+        assertEquals("Fix server, rack 2", jobs.get(0).get("DESCRIPTION"));
+        assertEquals("COMPLETED", jobs.get(0).get("STATUS"));
+        assertEquals("Install\nsoftware", jobs.get(1).get("DESCRIPTION"));
+        assertEquals("PENDING", jobs.get(1).get("STATUS"));
+        assertNull(jobs.get(1).get("COMPLETED_DATE"));
+        assertEquals(0L, ((Number) jobs.get(1).get("VERSION")).longValue());
+
+        List<JobOutboxEvent> outbox = jobOutboxRepository.findAll();
+        assertEquals(2, outbox.size());
+        assertTrue(outbox.stream().allMatch(row -> row.getType() == JobChangeEvent.Type.CREATED
+                && row.getTechId() == techId));
+        verify(jobStatusCounters).recordCreated(techId, Job.JobStatus.COMPLETED);
+        verify(technicianWorkloadIndex).recordCreated(techId, Job.JobStatus.PENDING);
+        verify(jobEventBroadcaster, times(2)).publish(any(JobChangeEvent.class));
+    }
+
+    @Test
+    void importJobs_ShouldNotReuseIdsHandedOutForSavedJobs() {
+        long techId = insertTechnician("John Doe");
+        importService.importJobs(csv("description,tech_id\nFirst,%1$d\nSecond,%1$d\nThird,%1$d\n".formatted(techId)));
+        importService.importJobs(csv("description,tech_id\nFourth,%d\n".formatted(techId)));
+
+        assertEquals(4, jdbcTemplate.queryForObject("select count(distinct job_id) from job", Integer.class));
+        assertEquals(4, jdbcTemplate.queryForObject("select count(distinct id) from job_outbox", Integer.class));
+    }
+
+    @Test
+    void importJobs_WithValueLongerThanItsColumn_ShouldRejectTheRowAndImportTheRest() {
+        long techId = insertTechnician("John Doe");
+        ImportReport report = importService.importJobs(csv("""
+                description,tech_id
+                First,%1$d
+                Second,%1$d
+                %2$s,%1$d
+                Fourth,%1$d
+                """.formatted(techId, "x".repeat(300))));
+
+        assertEquals(ImportReport.Status.COMPLETED, report.getStatus());
+        assertEquals(3, report.getImported());
+        assertEquals(1, report.getRejected());
+        assertEquals(4L, report.getRejects().get(0).line());
+        assertEquals("Job description must be at most 255 characters", report.getRejects().get(0).error());
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from job", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("select count(*) from job_outbox", Integer.class));
+    }
+
+    @Test
+    void importTechnicians_WithNameLongerThanItsColumn_ShouldRejectTheRow() {
+        ImportReport report = importService.importTechnicians(csv("""
+                tech_name,doj
+                %s,2024-01-15
+                %s,2024-01-15
+                """.formatted("x".repeat(100), "x".repeat(101))));
+
+        assertEquals(ImportReport.Status.COMPLETED, report.getStatus());
+        assertEquals(1, report.getImported());
+        assertEquals("Technician name must be at most 100 characters", report.getRejects().get(0).error());
+    }
+
+    @Test
+    void importJobs_WithInvalidHeader_ShouldFailBeforeReadingRows() {
+        InvalidRequestException unknown = assertThrows(InvalidRequestException.class,
+                () -> importService.importJobs(csv("description,tech_id,priority\nFix,1,HIGH\n")));
+        assertEquals("Unknown column 'priority'; expected columns "
+                + "[description, tech_id, status, created_date, completed_date]", unknown.getMessage());
+
+        InvalidRequestException missing = assertThrows(InvalidRequestException.class,
+                () -> importService.importJobs(csv("description\nFix\n")));
+        assertEquals("Missing required columns [tech_id]", missing.getMessage());
+
+        assertThrows(InvalidRequestException.class, () -> importService.importTechnicians(csv("")));
+        verifyNoInteractions(jobEventBroadcaster);
+        verify(technicianWorkloadIndex, never()).rebuild();
+    }
+
+    private long insertTechnician(String name) {
+        jdbcTemplate.update("insert into technician (tech_name, doj, version) values (?, ?, 0)", name,
+                LocalDate.of(2024, 1, 15));
+        return jdbcTemplate.queryForObject("select max(tech_id) from technician", Long.class);
+    }
+
+    private static InputStream csv(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,27 +1,68 @@
 package com.example.jobmanagement.service;
 
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.dto.BatchJobResponse;
+import com.example.jobmanagement.dto.CreateJobRequest;
+import com.example.jobmanagement.dto.CursorPage;
+import com.example.jobmanagement.dto.JobChangeEvent;
+import com.example.jobmanagement.dto.JobResponse;
+import com.example.jobmanagement.dto.JobSearchCriteria;
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.dto.JobStatusResponse;
+import com.example.jobmanagement.dto.PageResponse;
+import com.example.jobmanagement.dto.StatusTransitionRequest;
+import com.example.jobmanagement.dto.StatusTransitionResponse;
+import com.example.jobmanagement.dto.StatusTransitionResult;
 import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.entity.JobOutboxEvent;
 import com.example.jobmanagement.entity.Technician;
+import com.example.jobmanagement.events.JobEventBroadcaster;
+import com.example.jobmanagement.exception.InvalidJobStatusException;
+import com.example.jobmanagement.exception.InvalidRequestException;
+import com.example.jobmanagement.exception.InvalidSearchCriteriaException;
+import com.example.jobmanagement.exception.JobConflictException;
 import com.example.jobmanagement.exception.JobNotFoundException;
 import com.example.jobmanagement.exception.TechnicianNotFoundException;
+import com.example.jobmanagement.repository.JobAssignment;
+import com.example.jobmanagement.repository.ArchivedJobRepository;
+import com.example.jobmanagement.repository.JobExportRepository;
+import com.example.jobmanagement.repository.JobOutboxRepository;
 import com.example.jobmanagement.repository.JobRepository;
 import com.example.jobmanagement.repository.TechnicianRepository;
 import com.example.jobmanagement.service.impl.JobServiceImpl;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Collections;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,17 +71,46 @@ class JobServiceTest {
     @Mock
     private JobRepository jobRepository;
 
+    @Mock
+    private ArchivedJobRepository archivedJobRepository;
+
+    @Mock
+    private JobExportRepository jobExportRepository;
+
     @Mock
     private TechnicianRepository technicianRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private JobStatusCounters jobStatusCounters;
+
+    @Mock
+    private TechnicianWorkloadIndex technicianWorkloadIndex;
+
+    @Mock
+    private JobOutboxRepository jobOutboxRepository;
+
+    @Mock
+    private JobEventBroadcaster jobEventBroadcaster;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache technicianCache;
+
     @InjectMocks
     private JobServiceImpl jobService;
 
     private Job testJob;
+    private JobResponse testJobResponse;
     private Technician testTechnician;
 
     @BeforeEach
     void setUp() {
+        lenient().when(cacheManager.getCache(CacheNames.TECHNICIANS)).thenReturn(technicianCache);
         testTechnician = new Technician();
         testTechnician.setTechId(1L);
         testTechnician.setTechName("John Doe");
@@ -52,6 +122,7 @@ class JobServiceTest {
         testJob.setStatus(Job.JobStatus.PENDING);
         testJob.setCreatedDate(LocalDateTime.now());
         testJob.setTechnician(testTechnician);
+        testJobResponse = JobResponse.from(testJob);
     }
 
     @Test
@@ -59,12 +130,52 @@ class JobServiceTest {
         when(technicianRepository.existsById(testTechnician.getTechId())).thenReturn(true);
         when(jobRepository.save(any(Job.class))).thenReturn(testJob);
 
-        Job createdJob = jobService.createJob(testJob);
+        JobResponse createdJob = jobService.createJob(testJob);
 
         assertNotNull(createdJob);
-        assertEquals(testJob.getJobId(), createdJob.getJobId());
-        assertEquals(testJob.getDescription(), createdJob.getDescription());
+        assertEquals(testJob.getJobId(), createdJob.jobId());
+        assertEquals(testJob.getDescription(), createdJob.description());
+        assertEquals(1L, createdJob.techId());
         verify(jobRepository).save(any(Job.class));
+        verify(jobStatusCounters).recordCreated(1L, Job.JobStatus.PENDING);
+    }
+
+    @Test
+    void createJob_WithoutTechnician_ShouldAssignLeastLoadedTechnician() {
+        Job job = Job.builder().description("Unassigned").build();
+        when(technicianWorkloadIndex.reserveLeastLoaded()).thenReturn(1L);
+        when(technicianRepository.getReferenceById(1L)).thenReturn(testTechnician);
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobResponse createdJob = jobService.createJob(job);
+
+        assertSame(testTechnician, job.getTechnician());
+        assertEquals(1L, createdJob.techId());
+        assertEquals(Job.JobStatus.PENDING, createdJob.status());
+        verify(jobStatusCounters).recordCreated(1L, Job.JobStatus.PENDING);
+        verify(technicianWorkloadIndex, never()).recordCreated(any(), any());
+    }
+
+    @Test
+    void createJob_WithoutTechnicianWhenNoneExist_ShouldLeaveJobUnassigned() {
+        Job job = Job.builder().description("Unassigned").build();
+        when(technicianWorkloadIndex.reserveLeastLoaded()).thenReturn(null);
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        JobResponse createdJob = jobService.createJob(job);
+
+        assertNull(createdJob.techId());
+        verify(technicianRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    void createJob_CompletedWithoutTechnician_ShouldNotAutoAssign() {
+        Job job = Job.builder().description("Done").status(Job.JobStatus.COMPLETED).build();
+        when(jobRepository.save(any(Job.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        jobService.createJob(job);
+
+        verify(technicianWorkloadIndex, never()).reserveLeastLoaded();
     }
 
     @Test
@@ -75,15 +186,46 @@ class JobServiceTest {
         verify(jobRepository, never()).save(any(Job.class));
     }
 
+    @Test
+    void createJobs_ShouldValidateTechniciansOnceAndReportPerItemOutcome() {
+        when(technicianRepository.findExistingIds(Set.of(1L, 99L))).thenReturn(Set.of(1L));
+        when(technicianRepository.getReferenceById(1L)).thenReturn(testTechnician);
+        when(jobRepository.save(any(Job.class))).thenReturn(testJob);
+        List<CreateJobRequest> requests = List.of(
+                CreateJobRequest.builder().description("Valid").techId(1L).build(),
+                CreateJobRequest.builder().description("Unknown technician").techId(99L).build(),
+                CreateJobRequest.builder().description(" ").techId(1L).build());
+
+        BatchJobResponse response = jobService.createJobs(requests);
+
+        assertEquals(3, response.getRequested());
+        assertEquals(1, response.getCreated());
+        assertEquals(2, response.getFailed());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertEquals(testJob.getJobId(), response.getResults().get(0).getJobId());
+        assertEquals("Technician not found with id: 99", response.getResults().get(1).getError());
+        assertEquals("Job description is required", response.getResults().get(2).getError());
+        verify(technicianRepository, times(1)).findExistingIds(any());
+        verify(jobRepository, times(1)).save(any(Job.class));
+        verify(entityManager).flush();
+        verify(jobStatusCounters, times(1)).recordCreated(1L, Job.JobStatus.PENDING);
+    }
+
+    @Test
+    void createJobs_WithTooManyItems_ShouldThrowException() {
+        List<CreateJobRequest> requests = Collections.nCopies(10001, new CreateJobRequest());
+
+        assertThrows(InvalidRequestException.class, () -> jobService.createJobs(requests));
+        verify(jobRepository, never()).save(any(Job.class));
+    }
+
     @Test
     void getJobById_WithExistingId_ShouldReturnJob() {
         when(jobRepository.findById(1L)).thenReturn(Optional.of(testJob));
 
-        Job foundJob = jobService.getJobById(1L);
+        JobResponse foundJob = jobService.getJobById(1L);
 
-        assertNotNull(foundJob);
-        assertEquals(testJob.getJobId(), foundJob.getJobId());
-        assertEquals(testJob.getDescription(), foundJob.getDescription());
+        assertEquals(testJobResponse, foundJob);
     }
 
     @Test
@@ -93,97 +235,457 @@ class JobServiceTest {
         assertThrows(JobNotFoundException.class, () -> jobService.getJobById(99L));
     }
 
+    @Test
+    void getJobVersion_WithNonExistingId_ShouldThrowException() {
+        when(jobRepository.findAssignmentById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(JobNotFoundException.class, () -> jobService.getJobVersion(99L));
+    }
+
     @Test
     void getAllJobs_ShouldReturnListOfJobs() {
-        List<Job> jobs = Arrays.asList(testJob);
-        when(jobRepository.findAll()).thenReturn(jobs);
+        when(jobRepository.findAllResponses()).thenReturn(List.of(testJobResponse));
 
-        List<Job> foundJobs = jobService.getAllJobs();
+        List<JobResponse> foundJobs = jobService.getAllJobs();
 
         assertNotNull(foundJobs);
         assertEquals(1, foundJobs.size());
-        assertEquals(testJob.getJobId(), foundJobs.get(0).getJobId());
+        assertEquals(testJob.getJobId(), foundJobs.get(0).jobId());
+    }
+
+    @Test
+    void getJobsPage_WithMoreRows_ShouldReturnNextCursor() {
+        JobResponse secondJob = new JobResponse(2L, "Second", null, null, null, Job.JobStatus.PENDING, 0L);
+        when(jobRepository.findResponsesAfter(0L, Limit.of(2)))
+                .thenReturn(Arrays.asList(testJobResponse, secondJob));
+
+        CursorPage<JobResponse> page = jobService.getJobsPage(null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(testJob.getJobId(), page.getItems().get(0).jobId());
+        assertEquals(testJob.getJobId(), page.getNextCursor());
+    }
+
+    @Test
+    void getJobsPage_OnLastPage_ShouldReturnNullCursor() {
+        when(jobRepository.findResponsesAfter(1L, Limit.of(11)))
+                .thenReturn(new ArrayList<>(List.of(testJobResponse)));
+
+        CursorPage<JobResponse> page = jobService.getJobsPage(1L, 10);
+
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void streamAllJobs_ShouldPassEachJobToConsumer() {
+        when(jobRepository.streamAllResponses()).thenReturn(Stream.of(testJobResponse));
+        List<JobResponse> consumed = new ArrayList<>();
+
+        jobService.streamAllJobs(consumed::add);
+
+        assertEquals(List.of(testJobResponse), consumed);
+        verifyNoInteractions(entityManager);
     }
 
     @Test
     void getJobsByTechnicianId_WithValidTechnicianId_ShouldReturnJobs() {
-        List<Job> jobs = Arrays.asList(testJob);
-        when(technicianRepository.existsById(1L)).thenReturn(true);
-        when(jobRepository.findByTechnicianTechId(1L)).thenReturn(jobs);
+        when(jobRepository.findResponsesByTechId(1L)).thenReturn(List.of(testJobResponse));
 
-        List<Job> foundJobs = jobService.getJobsByTechnicianId(1L);
+        List<JobResponse> foundJobs = jobService.getJobsByTechnicianId(1L);
 
         assertNotNull(foundJobs);
         assertEquals(1, foundJobs.size());
-        assertEquals(testJob.getJobId(), foundJobs.get(0).getJobId());
+        assertEquals(testJob.getJobId(), foundJobs.get(0).jobId());
+        verify(technicianRepository, never()).existsById(any());
+    }
+
+    @Test
+    void getJobsByTechnicianId_WithTechnicianWithoutJobs_ShouldReturnEmptyList() {
+        when(jobRepository.findResponsesByTechId(2L)).thenReturn(List.of());
+        when(technicianRepository.existsById(2L)).thenReturn(true);
+
+        assertTrue(jobService.getJobsByTechnicianId(2L).isEmpty());
     }
 
     @Test
     void getJobsByTechnicianId_WithInvalidTechnicianId_ShouldThrowException() {
+        when(jobRepository.findResponsesByTechId(99L)).thenReturn(List.of());
         when(technicianRepository.existsById(99L)).thenReturn(false);
 
         assertThrows(TechnicianNotFoundException.class, () -> jobService.getJobsByTechnicianId(99L));
-        verify(jobRepository, never()).findByTechnicianTechId(any());
+    }
+
+    @Test
+    void getJobByIdIncludingArchived_WithArchivedJob_ShouldReadArchive() {
+        JobResponse archived = new JobResponse(7L, "Old job", 1L, LocalDateTime.now().minusYears(2),
+                LocalDateTime.now().minusYears(2), Job.JobStatus.COMPLETED, 3L);
+        when(jobRepository.findById(7L)).thenReturn(Optional.empty());
+        when(archivedJobRepository.findResponseById(7L)).thenReturn(Optional.of(archived));
+
+        assertSame(archived, jobService.getJobByIdIncludingArchived(7L));
+        assertThrows(JobNotFoundException.class, () -> jobService.getJobById(7L));
+    }
+
+    @Test
+    void getJobsByTechnicianIdIncludingArchived_ShouldAppendArchivedJobs() {
+        JobResponse archived = new JobResponse(7L, "Old job", 1L, LocalDateTime.now().minusYears(2),
+                LocalDateTime.now().minusYears(2), Job.JobStatus.COMPLETED, 3L);
+        when(jobRepository.findResponsesByTechId(1L)).thenReturn(List.of(testJobResponse));
+        when(archivedJobRepository.findResponsesByTechId(1L)).thenReturn(List.of(archived));
+
+        assertEquals(List.of(testJobResponse, archived), jobService.getJobsByTechnicianIdIncludingArchived(1L));
+        verify(technicianRepository, never()).existsById(any());
     }
 
     @Test
     void getJobsByStatus_ShouldReturnJobs() {
-        List<Job> jobs = Arrays.asList(testJob);
-        when(jobRepository.findByStatus(Job.JobStatus.PENDING)).thenReturn(jobs);
+        when(jobRepository.findResponsesByStatus(Job.JobStatus.PENDING)).thenReturn(List.of(testJobResponse));
 
-        List<Job> foundJobs = jobService.getJobsByStatus(Job.JobStatus.PENDING);
+        List<JobResponse> foundJobs = jobService.getJobsByStatus(Job.JobStatus.PENDING);
 
         assertNotNull(foundJobs);
         assertEquals(1, foundJobs.size());
-        assertEquals(testJob.getJobId(), foundJobs.get(0).getJobId());
+        assertEquals(testJob.getJobId(), foundJobs.get(0).jobId());
+    }
+
+    @Test
+    void searchJobs_ShouldAppendJobIdTieBreakerToSort() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdDate"));
+        when(jobRepository.findResponses(ArgumentMatchers.<Specification<Job>>any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(testJobResponse), pageable, 1));
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setStatus(Job.JobStatus.PENDING);
+
+        PageResponse<JobResponse> result = jobService.searchJobs(criteria, pageable);
+
+        ArgumentCaptor<Pageable> pageCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(jobRepository).findResponses(ArgumentMatchers.<Specification<Job>>any(), pageCaptor.capture());
+        assertEquals(Sort.by(Sort.Order.desc("createdDate"), Sort.Order.desc("jobId")), pageCaptor.getValue().getSort());
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testJob.getJobId(), result.getContent().get(0).jobId());
+    }
+
+    @Test
+    void searchJobs_WithUnsupportedSort_ShouldThrowException() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("description"));
+
+        assertThrows(InvalidSearchCriteriaException.class, () -> jobService.searchJobs(new JobSearchCriteria(), pageable));
+        verify(jobRepository, never()).findResponses(ArgumentMatchers.<Specification<Job>>any(), any(Pageable.class));
+    }
+
+    @Test
+    void exportJobs_WithInvertedDateRange_ShouldThrowBeforeReading() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCompletedFrom(LocalDateTime.now());
+        criteria.setCompletedTo(LocalDateTime.now().minusDays(1));
+
+        assertThrows(InvalidSearchCriteriaException.class, () -> jobService.exportJobs(criteria, row -> {}));
+        verifyNoInteractions(jobExportRepository);
+    }
+
+    @Test
+    void searchJobs_WithInvertedDateRange_ShouldThrowException() {
+        JobSearchCriteria criteria = new JobSearchCriteria();
+        criteria.setCreatedFrom(LocalDateTime.now());
+        criteria.setCreatedTo(LocalDateTime.now().minusDays(1));
+
+        assertThrows(InvalidSearchCriteriaException.class, () -> jobService.searchJobs(criteria, PageRequest.of(0, 20)));
     }
 
     @Test
     void updateJob_WithValidData_ShouldReturnUpdatedJob() {
-        when(jobRepository.existsById(1L)).thenReturn(true);
-        when(technicianRepository.existsById(testTechnician.getTechId())).thenReturn(true);
-        when(jobRepository.save(any(Job.class))).thenReturn(testJob);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(2L, Job.JobStatus.IN_PROGRESS)));
+        when(technicianRepository.getReferenceById(testTechnician.getTechId())).thenReturn(testTechnician);
+        when(jobRepository.updateDetailsAndTechnician(eq(1L), eq(0L), eq(testTechnician), eq(testJob.getDescription()),
+                eq(testJob.getStatus()), any(), any())).thenReturn(1);
 
-        Job updatedJob = jobService.updateJob(1L, testJob);
+        JobResponse updatedJob = jobService.updateJob(1L, testJob);
 
         assertNotNull(updatedJob);
-        assertEquals(testJob.getJobId(), updatedJob.getJobId());
-        assertEquals(testJob.getDescription(), updatedJob.getDescription());
-        verify(jobRepository).save(any(Job.class));
+        assertEquals(testJob.getJobId(), updatedJob.jobId());
+        assertEquals(testJob.getDescription(), updatedJob.description());
+        assertEquals(1L, updatedJob.techId());
+        assertEquals(1L, updatedJob.version());
+        verify(technicianCache).evict(2L);
+        verify(technicianCache).evict(1L);
+        verify(technicianCache, never()).clear();
+        verify(jobRepository, never()).existsById(any());
+        verify(jobRepository, never()).save(any(Job.class));
+        verify(jobStatusCounters).recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 1L, Job.JobStatus.PENDING);
+    }
+
+    @Test
+    void updateJob_WithoutTechnician_ShouldKeepCurrentAssignment() {
+        testJob.setTechnician(null);
+        testJob.setStatus(Job.JobStatus.COMPLETED);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(2L, Job.JobStatus.IN_PROGRESS)));
+        when(jobRepository.updateDetails(eq(1L), eq(0L), eq(testJob.getDescription()), eq(Job.JobStatus.COMPLETED),
+                any(), any(LocalDateTime.class))).thenReturn(1);
+
+        JobResponse updatedJob = jobService.updateJob(1L, testJob);
+
+        assertNotNull(updatedJob.completedDate());
+        assertEquals(2L, updatedJob.techId());
+        verify(jobRepository, never()).updateDetailsAndTechnician(any(), any(), any(), any(), any(), any(), any());
+        verify(jobStatusCounters).recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED);
     }
 
     @Test
     void updateJob_WithNonExistingId_ShouldThrowException() {
-        when(jobRepository.existsById(99L)).thenReturn(false);
+        when(jobRepository.findAssignmentById(99L)).thenReturn(Optional.empty());
 
         assertThrows(JobNotFoundException.class, () -> jobService.updateJob(99L, testJob));
-        verify(jobRepository, never()).save(any(Job.class));
+        verify(jobRepository, never()).updateDetailsAndTechnician(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(jobStatusCounters);
     }
 
     @Test
     void updateJob_WithInvalidTechnician_ShouldThrowException() {
-        when(jobRepository.existsById(1L)).thenReturn(true);
-        when(technicianRepository.existsById(testTechnician.getTechId())).thenReturn(false);
+        when(technicianRepository.getReferenceById(testTechnician.getTechId())).thenReturn(testTechnician);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(1L, Job.JobStatus.PENDING)));
+        when(jobRepository.updateDetailsAndTechnician(eq(1L), any(), any(), any(), any(), any(), any())).thenReturn(0);
 
         assertThrows(TechnicianNotFoundException.class, () -> jobService.updateJob(1L, testJob));
-        verify(jobRepository, never()).save(any(Job.class));
+        verifyNoInteractions(jobStatusCounters);
+    }
+
+    @Test
+    void updateJob_WithStaleVersion_ShouldThrowConflictWithoutUpdating() {
+        testJob.setVersion(3L);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(1L, Job.JobStatus.PENDING, 4L)));
+
+        assertThrows(JobConflictException.class, () -> jobService.updateJob(1L, testJob));
+        verify(jobRepository, never()).updateDetailsAndTechnician(any(), any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(jobStatusCounters);
+    }
+
+    @Test
+    void updateJob_WhenChangedConcurrently_ShouldThrowConflict() {
+        testJob.setTechnician(null);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(
+                Optional.of(assignment(1L, Job.JobStatus.PENDING, 0L)),
+                Optional.of(assignment(1L, Job.JobStatus.IN_PROGRESS, 1L)));
+        when(jobRepository.updateDetails(eq(1L), eq(0L), any(), any(), any(), any())).thenReturn(0);
+
+        assertThrows(JobConflictException.class, () -> jobService.updateJob(1L, testJob));
+        verifyNoInteractions(jobStatusCounters);
+    }
+
+    @Test
+    void updateJob_FromCompleted_ShouldRejectTransition() {
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(1L, Job.JobStatus.COMPLETED)));
+
+        assertThrows(InvalidJobStatusException.class, () -> jobService.updateJob(1L, testJob));
+        verify(jobRepository, never()).updateDetailsAndTechnician(any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void updateJobStatus_WhenInExpectedStatus_ShouldUpdateInSingleStatement() {
+        when(jobRepository.compareAndSetStatus(eq(1L), eq(Job.JobStatus.IN_PROGRESS), eq(Job.JobStatus.COMPLETED),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(2L, Job.JobStatus.COMPLETED, 5L)));
+
+        JobStatusResponse response = jobService.updateJobStatus(1L, Job.JobStatus.IN_PROGRESS, Job.JobStatus.COMPLETED);
+
+        assertEquals(Job.JobStatus.IN_PROGRESS, response.getPreviousStatus());
+        assertEquals(Job.JobStatus.COMPLETED, response.getStatus());
+        assertEquals(5L, response.getVersion());
+        verify(jobStatusCounters).recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED);
+        verify(technicianWorkloadIndex).recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED);
+        verify(jobEventBroadcaster).publish(argThat(event -> event.type() == JobChangeEvent.Type.UPDATED
+                && event.jobId() == 1L && event.previousStatus() == Job.JobStatus.IN_PROGRESS
+                && event.status() == Job.JobStatus.COMPLETED && event.version() == 5L));
+        verify(jobOutboxRepository).save(argThat(row -> row.getType() == JobChangeEvent.Type.UPDATED
+                && row.getJobId() == 1L && row.getStatus() == Job.JobStatus.COMPLETED && row.getVersion() == 5L));
+    }
+
+    @Test
+    void updateJobStatus_WhenStatusChangedMeanwhile_ShouldThrowConflict() {
+        when(jobRepository.compareAndSetStatus(eq(1L), eq(Job.JobStatus.PENDING), eq(Job.JobStatus.IN_PROGRESS), any()))
+                .thenReturn(0);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(2L, Job.JobStatus.COMPLETED)));
+
+        JobConflictException ex = assertThrows(JobConflictException.class,
+                () -> jobService.updateJobStatus(1L, Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS));
+        assertEquals("Job 1 is COMPLETED, expected PENDING", ex.getMessage());
+        verifyNoInteractions(jobStatusCounters, jobOutboxRepository, jobEventBroadcaster);
+    }
+
+    @Test
+    void updateJobStatus_WithNonExistingId_ShouldThrowNotFound() {
+        when(jobRepository.findAssignmentById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(JobNotFoundException.class,
+                () -> jobService.updateJobStatus(99L, Job.JobStatus.PENDING, Job.JobStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void updateJobStatus_WithDisallowedTransition_ShouldNotTouchDatabase() {
+        assertThrows(InvalidJobStatusException.class,
+                () -> jobService.updateJobStatus(1L, Job.JobStatus.COMPLETED, Job.JobStatus.PENDING));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void transitionStatuses_ByIds_ShouldUpdateEligibleJobsInOneStatementAndReportTheRest() {
+        when(jobRepository.lockAssignmentsByIds(any())).thenReturn(List.of(
+                assignment(1L, 2L, Job.JobStatus.PENDING, 3L),
+                assignment(2L, 2L, Job.JobStatus.IN_PROGRESS, 1L),
+                assignment(3L, 2L, Job.JobStatus.COMPLETED, 4L)));
+
+        StatusTransitionResponse response = jobService.transitionStatuses(StatusTransitionRequest.builder()
+                .jobIds(List.of(3L, 1L, 99L, 2L, 1L))
+                .status(Job.JobStatus.COMPLETED)
+                .build());
+
+        assertEquals(4, response.getRequested());
+        assertEquals(2, response.getUpdated());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of(3L, 1L, 99L, 2L),
+                response.getResults().stream().map(StatusTransitionResult::getJobId).toList());
+        assertEquals(List.of(StatusTransitionResult.Outcome.UNCHANGED, StatusTransitionResult.Outcome.UPDATED,
+                        StatusTransitionResult.Outcome.NOT_FOUND, StatusTransitionResult.Outcome.UPDATED),
+                response.getResults().stream().map(StatusTransitionResult::getOutcome).toList());
+        assertEquals(4L, response.getResults().get(1).getVersion());
+        verify(jobRepository).updateStatusByIds(eq(List.of(1L, 2L)), eq(Job.JobStatus.COMPLETED),
+                any(LocalDateTime.class));
+        verify(jobStatusCounters).recordUpdated(2L, Job.JobStatus.PENDING, 2L, Job.JobStatus.COMPLETED);
+        verify(technicianWorkloadIndex).recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED);
+        verify(jobEventBroadcaster, times(2)).publish(any(JobChangeEvent.class));
+        verify(jobOutboxRepository, times(2)).save(any(JobOutboxEvent.class));
+    }
+
+    @Test
+    void transitionStatuses_WithCurrentStatus_ShouldReportConflictsAndInvalidTransitions() {
+        when(jobRepository.lockAssignmentsByIds(any())).thenReturn(List.of(
+                assignment(1L, 2L, Job.JobStatus.COMPLETED, 3L),
+                assignment(2L, 2L, Job.JobStatus.IN_PROGRESS, 1L)));
+
+        StatusTransitionResponse response = jobService.transitionStatuses(StatusTransitionRequest.builder()
+                .jobIds(List.of(1L, 2L))
+                .currentStatus(Job.JobStatus.COMPLETED)
+                .status(Job.JobStatus.PENDING)
+                .build());
+
+        assertEquals(0, response.getUpdated());
+        assertEquals(2, response.getFailed());
+        assertEquals(StatusTransitionResult.Outcome.INVALID_TRANSITION, response.getResults().get(0).getOutcome());
+        assertEquals(StatusTransitionResult.Outcome.CONFLICT, response.getResults().get(1).getOutcome());
+        verify(jobRepository, never()).updateStatusByIds(any(), any(), any());
+        verifyNoInteractions(jobStatusCounters, jobOutboxRepository, jobEventBroadcaster);
+    }
+
+    @Test
+    void transitionStatuses_ByUnknownTechnician_ShouldThrowNotFound() {
+        when(jobRepository.lockAssignmentsByTechnician(eq(99L), eq(Job.JobStatus.PENDING), any(Limit.class)))
+                .thenReturn(List.of());
+        when(technicianRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(TechnicianNotFoundException.class, () -> jobService.transitionStatuses(
+                StatusTransitionRequest.builder()
+                        .techId(99L)
+                        .currentStatus(Job.JobStatus.PENDING)
+                        .status(Job.JobStatus.COMPLETED)
+                        .build()));
+    }
+
+    @Test
+    void transitionStatuses_WithBothOrNoSelection_ShouldBeRejected() {
+        assertThrows(InvalidRequestException.class, () -> jobService.transitionStatuses(
+                StatusTransitionRequest.builder().jobIds(List.of(1L)).techId(2L).status(Job.JobStatus.COMPLETED).build()));
+        assertThrows(InvalidRequestException.class, () -> jobService.transitionStatuses(
+                StatusTransitionRequest.builder().jobIds(List.of()).status(Job.JobStatus.COMPLETED).build()));
+        verifyNoInteractions(jobRepository);
     }
 
     @Test
     void deleteJob_WithExistingId_ShouldDeleteJob() {
-        when(jobRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(jobRepository).deleteById(1L);
+        when(jobRepository.findAssignmentById(1L)).thenReturn(Optional.of(assignment(1L, Job.JobStatus.PENDING)));
+        when(jobRepository.deleteJobById(1L)).thenReturn(1);
 
         jobService.deleteJob(1L);
 
-        verify(jobRepository).deleteById(1L);
+        verify(jobRepository).deleteJobById(1L);
+        verify(jobRepository, never()).existsById(any());
+        verify(jobEventBroadcaster).publish(argThat(event -> event.type() == JobChangeEvent.Type.DELETED
+                && event.jobId() == 1L && event.previousTechId() == 1L && event.status() == null));
+        verify(jobOutboxRepository).save(any(JobOutboxEvent.class));
+        verify(jobStatusCounters).recordDeleted(1L, Job.JobStatus.PENDING);
+    }
+
+    @Test
+    void deleteJobsByTechnicianId_ShouldDeleteLockedJobsInOneStatementAndRecordEach() {
+        when(jobRepository.lockAssignmentsByTechnician(1L, null, Limit.unlimited())).thenReturn(List.of(
+                assignment(10L, 1L, Job.JobStatus.PENDING, 0L), assignment(11L, 1L, Job.JobStatus.COMPLETED, 2L)));
+
+        assertEquals(2, jobService.deleteJobsByTechnicianId(1L));
+
+        verify(jobRepository).deleteJobsByIds(List.of(10L, 11L));
+        verify(jobStatusCounters).recordDeleted(1L, Job.JobStatus.PENDING);
+        verify(jobStatusCounters).recordDeleted(1L, Job.JobStatus.COMPLETED);
+        verify(technicianWorkloadIndex).recordDeleted(1L, Job.JobStatus.PENDING);
+        verify(jobOutboxRepository, times(2)).save(argThat(row -> row.getType() == JobChangeEvent.Type.DELETED));
+        verify(jobEventBroadcaster).publish(argThat(event -> event.type() == JobChangeEvent.Type.DELETED
+                && event.jobId() == 11L && event.previousTechId() == 1L));
+    }
+
+    @Test
+    void deleteJobsByTechnicianId_WithoutJobs_ShouldNotDelete() {
+        when(jobRepository.lockAssignmentsByTechnician(1L, null, Limit.unlimited())).thenReturn(List.of());
+
+        assertEquals(0, jobService.deleteJobsByTechnicianId(1L));
+
+        verify(jobRepository, never()).deleteJobsByIds(any());
+        verifyNoInteractions(jobOutboxRepository, jobEventBroadcaster);
     }
 
     @Test
     void deleteJob_WithNonExistingId_ShouldThrowException() {
-        when(jobRepository.existsById(99L)).thenReturn(false);
+        when(jobRepository.findAssignmentById(99L)).thenReturn(Optional.empty());
 
         assertThrows(JobNotFoundException.class, () -> jobService.deleteJob(99L));
-        verify(jobRepository, never()).deleteById(any());
+        verify(jobRepository, never()).deleteJobById(any());
+    }
+
+    @Test
+    void getJobStats_ShouldReturnCounterSnapshot() {
+        JobStatsResponse stats = JobStatsResponse.builder().total(3).build();
+        when(jobStatusCounters.snapshot()).thenReturn(stats);
+
+        assertSame(stats, jobService.getJobStats());
+        verifyNoInteractions(jobRepository);
+    }
+
+    private static JobAssignment assignment(Long techId, Job.JobStatus status) {
+        return assignment(techId, status, 0L);
+    }
+
+    private static JobAssignment assignment(Long techId, Job.JobStatus status, Long version) {
+        return assignment(null, techId, status, version);
+    }
+
+    private static JobAssignment assignment(Long jobId, Long techId, Job.JobStatus status, Long version) {
+        return new JobAssignment() {
+            @Override
+            public Long getJobId() {
+                return jobId;
+            }
+
+            @Override
+            public Long getTechId() {
+                return techId;
+            }
+
+            @Override
+            public Job.JobStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,114 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.dto.JobStatsResponse;
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.repository.JobRepository;
+import com.example.jobmanagement.repository.JobStatusCount;
+import com.example.jobmanagement.service.impl.JobStatusCounters;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatusCountersTest {
+
+    @Mock
+    private JobRepository jobRepository;
+
+    @InjectMocks
+    private JobStatusCounters counters;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void snapshot_ShouldReportEveryStatusEvenWhenEmpty() {
+        JobStatsResponse stats = counters.snapshot();
+
+        assertEquals(0, stats.getTotal());
+        assertEquals(Job.JobStatus.values().length, stats.getByStatus().size());
+        assertTrue(stats.getByTechnician().isEmpty());
+        assertNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void recordChanges_ShouldAdjustOverallAndPerTechnicianCounts() {
+        counters.recordCreated(1L, Job.JobStatus.PENDING);
+        counters.recordCreated(1L, Job.JobStatus.PENDING);
+        counters.recordCreated(null, Job.JobStatus.PENDING);
+        counters.recordUpdated(1L, Job.JobStatus.PENDING, 2L, Job.JobStatus.IN_PROGRESS);
+        counters.recordDeleted(1L, Job.JobStatus.PENDING);
+
+        JobStatsResponse stats = counters.snapshot();
+
+        assertEquals(2, stats.getTotal());
+        assertEquals(1, stats.getByStatus().get(Job.JobStatus.PENDING));
+        assertEquals(1, stats.getByStatus().get(Job.JobStatus.IN_PROGRESS));
+        assertFalse(stats.getByTechnician().containsKey(1L));
+        assertEquals(1, stats.getByTechnician().get(2L).get(Job.JobStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void recordCreated_InsideTransaction_ShouldApplyOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        counters.recordCreated(1L, Job.JobStatus.PENDING);
+
+        assertEquals(0, counters.snapshot().getTotal());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(1, counters.snapshot().getTotal());
+    }
+
+    @Test
+    void reconcile_ShouldReplaceCountsWithDatabaseCounts() {
+        counters.recordCreated(1L, Job.JobStatus.PENDING);
+        when(jobRepository.countByTechnicianAndStatus()).thenReturn(List.of(
+                count(1L, Job.JobStatus.COMPLETED, 4),
+                count(2L, Job.JobStatus.PENDING, 2),
+                count(null, Job.JobStatus.PENDING, 1)));
+
+        counters.reconcile();
+        JobStatsResponse stats = counters.snapshot();
+
+        assertEquals(7, stats.getTotal());
+        assertEquals(3, stats.getByStatus().get(Job.JobStatus.PENDING));
+        assertEquals(0, stats.getByTechnician().get(1L).get(Job.JobStatus.PENDING));
+        assertEquals(4, stats.getByTechnician().get(1L).get(Job.JobStatus.COMPLETED));
+        assertEquals(2, stats.getByTechnician().size());
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    private static JobStatusCount count(Long techId, Job.JobStatus status, long count) {
+        return new JobStatusCount() {
+            @Override
+            public Long getTechId() {
+                return techId;
+            }
+
+            @Override
+            public Job.JobStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.config.MetricsConfig;
+import com.example.jobmanagement.constants.MetricNames;
+import com.example.jobmanagement.exception.TechnicianNotFoundException;
+import com.example.jobmanagement.repository.TechnicianJobRow;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.service.impl.TechnicianServiceImpl;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that service methods are timed per method, including failed calls.
+ */
+@SpringJUnitConfig({MetricsConfig.class, TechnicianServiceImpl.class, ServiceMetricsTest.TestConfig.class})
+class ServiceMetricsTest {
+
+    @Configuration
+    @EnableAspectJAutoProxy
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockBean
+    private TechnicianRepository technicianRepository;
+
+    @MockBean
+    private TechnicianWorkloadIndex technicianWorkloadIndex;
+
+    @MockBean
+    private JobService jobService;
+
+    @Test
+    void serviceMethods_ShouldBeTimedPerMethodAndOutcome() {
+        when(technicianRepository.findAllRows()).thenReturn(List.of(
+                new TechnicianJobRow(1L, "John Doe", LocalDate.now(), 0L, null, null, null, null, null, null)));
+        when(technicianRepository.findRowsByTechId(99L)).thenReturn(List.of());
+
+        technicianService.getAllTechnicians();
+        technicianService.getAllTechnicians();
+        assertThrows(TechnicianNotFoundException.class, () -> technicianService.getTechnicianById(99L));
+
+        Timer getAll = meterRegistry.find(MetricNames.TECHNICIAN_SERVICE)
+                .tags("method", "getAllTechnicians", "exception", "none").timer();
+        Timer notFound = meterRegistry.find(MetricNames.TECHNICIAN_SERVICE)
+                .tags("method", "getTechnicianById", "exception", "TechnicianNotFoundException").timer();
+        assertNotNull(getAll);
+        assertEquals(2, getAll.count());
+        assertNotNull(notFound);
+        assertEquals(1, notFound.count());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.config.CacheConfig;
+import com.example.jobmanagement.constants.CacheNames;
+import com.example.jobmanagement.dto.CreateTechnicianRequest;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.entity.Technician;
+import com.example.jobmanagement.repository.TechnicianJobRow;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.service.impl.TechnicianServiceImpl;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Verifies the technician read-through caches and their invalidation on writes.
+ */
+@SpringJUnitConfig({CacheConfig.class, TechnicianServiceImpl.class})
+class TechnicianServiceCacheTest {
+
+    @Autowired
+    private TechnicianService technicianService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockBean
+    private TechnicianRepository technicianRepository;
+
+    @MockBean
+    private TechnicianWorkloadIndex technicianWorkloadIndex;
+
+    @MockBean
+    private JobService jobService;
+
+    private Technician testTechnician;
+    private List<TechnicianJobRow> testRows;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        testTechnician = new Technician();
+        testTechnician.setTechId(1L);
+        testTechnician.setTechName("John Doe");
+        testTechnician.setDoj(LocalDate.now());
+        testRows = List.of(new TechnicianJobRow(1L, "John Doe", testTechnician.getDoj(), 0L,
+                null, null, null, null, null, null));
+    }
+
+    @Test
+    void getTechnicianById_ShouldOnlyHitRepositoryOnce() {
+        when(technicianRepository.findRowsByTechId(1L)).thenReturn(testRows);
+
+        TechnicianResponse first = technicianService.getTechnicianById(1L);
+        TechnicianResponse second = technicianService.getTechnicianById(1L);
+
+        assertSame(first, second);
+        verify(technicianRepository, times(1)).findRowsByTechId(1L);
+    }
+
+    @Test
+    void updateTechnician_ShouldEvictCachedTechnicianAndList() {
+        when(technicianRepository.findRowsByTechId(1L)).thenReturn(testRows);
+        when(technicianRepository.findAllRows()).thenReturn(testRows);
+        when(technicianRepository.updateDetails(any(), any(), any())).thenReturn(1);
+        technicianService.getTechnicianById(1L);
+        technicianService.getAllTechnicians();
+
+        technicianService.updateTechnician(1L, testTechnician);
+        technicianService.getAllTechnicians();
+
+        verify(technicianRepository, times(2)).findAllRows();
+        // One read to populate the cache, one read returned by the update
+        verify(technicianRepository, times(2)).findRowsByTechId(1L);
+        assertNull(cacheManager.getCache(CacheNames.TECHNICIANS).get(1L));
+    }
+
+    @Test
+    void createTechnician_ShouldEvictCachedList() {
+        when(technicianRepository.findAllRows()).thenReturn(testRows);
+        when(technicianRepository.save(any(Technician.class))).thenReturn(testTechnician);
+        technicianService.getAllTechnicians();
+
+        CreateTechnicianRequest request = new CreateTechnicianRequest();
+        request.setTechName("Jane Smith");
+        request.setDateOfJoining(LocalDate.now());
+        technicianService.createTechnician(request);
+        technicianService.getAllTechnicians();
+
+        verify(technicianRepository, times(2)).findAllRows();
+    }
+
+    @Test
+    void deleteTechnician_ShouldEvictExistenceEntry() {
+        cacheManager.getCache(CacheNames.TECHNICIAN_EXISTS).put(1L, true);
+        when(technicianRepository.deleteTechnicianById(1L)).thenReturn(1);
+
+        technicianService.deleteTechnician(1L);
+
+        assertNull(cacheManager.getCache(CacheNames.TECHNICIAN_EXISTS).get(1L));
+    }
+}
@@ -1,21 +1,25 @@
 package com.example.jobmanagement.service;
 
 import com.example.jobmanagement.dto.CreateTechnicianRequest;
+import com.example.jobmanagement.dto.TechnicianResponse;
+import com.example.jobmanagement.entity.Job;
 import com.example.jobmanagement.entity.Technician;
 import com.example.jobmanagement.exception.TechnicianNotFoundException;
+import com.example.jobmanagement.repository.TechnicianJobRow;
 import com.example.jobmanagement.repository.TechnicianRepository;
 import com.example.jobmanagement.service.impl.TechnicianServiceImpl;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
-import java.util.Arrays;
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -27,6 +31,12 @@ class TechnicianServiceTest {
     @Mock
     private TechnicianRepository technicianRepository;
 
+    @Mock
+    private TechnicianWorkloadIndex technicianWorkloadIndex;
+
+    @Mock
+    private JobService jobService;
+
     @InjectMocks
     private TechnicianServiceImpl technicianService;
 
@@ -49,80 +59,99 @@ class TechnicianServiceTest {
     void createTechnician_WithValidData_ShouldReturnCreatedTechnician() {
         when(technicianRepository.save(any(Technician.class))).thenReturn(testTechnician);
 
-        Technician createdTechnician = technicianService.createTechnician(createRequest);
+        TechnicianResponse createdTechnician = technicianService.createTechnician(createRequest);
 
         assertNotNull(createdTechnician);
-        assertEquals(testTechnician.getTechId(), createdTechnician.getTechId());
-        assertEquals(testTechnician.getTechName(), createdTechnician.getTechName());
+        assertEquals(testTechnician.getTechId(), createdTechnician.techId());
+        assertEquals(testTechnician.getTechName(), createdTechnician.techName());
+        assertTrue(createdTechnician.jobs().isEmpty());
         verify(technicianRepository).save(any(Technician.class));
+        verify(technicianWorkloadIndex).technicianAdded(1L);
     }
 
     @Test
-    void getTechnicianById_WithExistingId_ShouldReturnTechnician() {
-        when(technicianRepository.findById(1L)).thenReturn(Optional.of(testTechnician));
+    void getTechnicianById_WithExistingId_ShouldReturnTechnicianWithJobs() {
+        LocalDateTime created = LocalDateTime.now();
+        when(technicianRepository.findRowsByTechId(1L)).thenReturn(List.of(
+                jobRow(10L, created), jobRow(11L, created)));
 
-        Technician foundTechnician = technicianService.getTechnicianById(1L);
+        TechnicianResponse foundTechnician = technicianService.getTechnicianById(1L);
 
         assertNotNull(foundTechnician);
-        assertEquals(testTechnician.getTechId(), foundTechnician.getTechId());
-        assertEquals(testTechnician.getTechName(), foundTechnician.getTechName());
+        assertEquals(testTechnician.getTechId(), foundTechnician.techId());
+        assertEquals(testTechnician.getTechName(), foundTechnician.techName());
+        assertEquals(List.of(10L, 11L), foundTechnician.jobs().stream().map(job -> job.jobId()).toList());
+        assertEquals(1L, foundTechnician.jobs().get(0).techId());
     }
 
     @Test
     void getTechnicianById_WithNonExistingId_ShouldThrowException() {
-        when(technicianRepository.findById(99L)).thenReturn(Optional.empty());
+        when(technicianRepository.findRowsByTechId(99L)).thenReturn(List.of());
 
         assertThrows(TechnicianNotFoundException.class, () -> technicianService.getTechnicianById(99L));
     }
 
     @Test
     void getAllTechnicians_ShouldReturnListOfTechnicians() {
-        List<Technician> technicians = Arrays.asList(testTechnician);
-        when(technicianRepository.findAll()).thenReturn(technicians);
+        when(technicianRepository.findAllRows()).thenReturn(List.of(
+                jobRow(10L, LocalDateTime.now()),
+                new TechnicianJobRow(2L, "Jane Smith", LocalDate.now(), 0L, null, null, null, null, null, null)));
 
-        List<Technician> foundTechnicians = technicianService.getAllTechnicians();
+        List<TechnicianResponse> foundTechnicians = technicianService.getAllTechnicians();
 
         assertNotNull(foundTechnicians);
-        assertEquals(1, foundTechnicians.size());
-        assertEquals(testTechnician.getTechId(), foundTechnicians.get(0).getTechId());
+        assertEquals(2, foundTechnicians.size());
+        assertEquals(testTechnician.getTechId(), foundTechnicians.get(0).techId());
+        assertEquals(1, foundTechnicians.get(0).jobs().size());
+        assertTrue(foundTechnicians.get(1).jobs().isEmpty());
     }
 
     @Test
     void updateTechnician_WithValidData_ShouldReturnUpdatedTechnician() {
-        when(technicianRepository.existsById(1L)).thenReturn(true);
-        when(technicianRepository.save(any(Technician.class))).thenReturn(testTechnician);
+        when(technicianRepository.updateDetails(1L, testTechnician.getTechName(), testTechnician.getDoj())).thenReturn(1);
+        when(technicianRepository.findRowsByTechId(1L)).thenReturn(List.of(jobRow(10L, LocalDateTime.now())));
 
-        Technician updatedTechnician = technicianService.updateTechnician(1L, testTechnician);
+        TechnicianResponse updatedTechnician = technicianService.updateTechnician(1L, testTechnician);
 
         assertNotNull(updatedTechnician);
-        assertEquals(testTechnician.getTechId(), updatedTechnician.getTechId());
-        assertEquals(testTechnician.getTechName(), updatedTechnician.getTechName());
-        verify(technicianRepository).save(any(Technician.class));
+        assertEquals(testTechnician.getTechId(), updatedTechnician.techId());
+        assertEquals(testTechnician.getTechName(), updatedTechnician.techName());
+        verify(technicianRepository, never()).existsById(any());
+        verify(technicianRepository, never()).save(any(Technician.class));
     }
 
     @Test
     void updateTechnician_WithNonExistingId_ShouldThrowException() {
-        when(technicianRepository.existsById(99L)).thenReturn(false);
+        when(technicianRepository.updateDetails(99L, testTechnician.getTechName(), testTechnician.getDoj())).thenReturn(0);
 
         assertThrows(TechnicianNotFoundException.class, () -> technicianService.updateTechnician(99L, testTechnician));
-        verify(technicianRepository, never()).save(any(Technician.class));
+        verify(technicianRepository, never()).findRowsByTechId(any());
     }
 
     @Test
-    void deleteTechnician_WithExistingId_ShouldDeleteTechnician() {
-        when(technicianRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(technicianRepository).deleteById(1L);
+    void deleteTechnician_WithExistingId_ShouldDeleteItsJobsThenTheTechnician() {
+        when(jobService.deleteJobsByTechnicianId(1L)).thenReturn(2);
+        when(technicianRepository.deleteTechnicianById(1L)).thenReturn(1);
 
         technicianService.deleteTechnician(1L);
 
-        verify(technicianRepository).deleteById(1L);
+        InOrder inOrder = inOrder(jobService, technicianRepository);
+        inOrder.verify(jobService).deleteJobsByTechnicianId(1L);
+        inOrder.verify(technicianRepository).deleteTechnicianById(1L);
+        verify(technicianRepository, never()).existsById(any());
+        verify(technicianWorkloadIndex).technicianRemoved(1L);
     }
 
     @Test
     void deleteTechnician_WithNonExistingId_ShouldThrowException() {
-        when(technicianRepository.existsById(99L)).thenReturn(false);
+        when(technicianRepository.deleteTechnicianById(99L)).thenReturn(0);
 
         assertThrows(TechnicianNotFoundException.class, () -> technicianService.deleteTechnician(99L));
-        verify(technicianRepository, never()).deleteById(any());
+        verify(technicianWorkloadIndex, never()).technicianRemoved(any());
+    }
+
+    private TechnicianJobRow jobRow(Long jobId, LocalDateTime createdDate) {
+        return new TechnicianJobRow(testTechnician.getTechId(), testTechnician.getTechName(), testTechnician.getDoj(), 0L,
+                jobId, "Job " + jobId, createdDate, null, Job.JobStatus.PENDING, 0L);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,188 @@
+package com.example.jobmanagement.service;
+
+import com.example.jobmanagement.entity.Job;
+import com.example.jobmanagement.repository.TechnicianRepository;
+import com.example.jobmanagement.repository.TechnicianWorkload;
+import com.example.jobmanagement.service.impl.TechnicianWorkloadIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TechnicianWorkloadIndexTest {
+
+    @Mock
+    private TechnicianRepository technicianRepository;
+
+    @InjectMocks
+    private TechnicianWorkloadIndex index;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void reserveLeastLoaded_ShouldPickFewestOpenJobsAndCountReservation() {
+        when(technicianRepository.findWorkloads(any())).thenReturn(List.of(
+                workload(1L, 3), workload(2L, 1), workload(3L, 1)));
+
+        assertEquals(2L, index.reserveLeastLoaded());
+        assertEquals(3L, index.reserveLeastLoaded());
+        assertEquals(2L, index.reserveLeastLoaded());
+        assertEquals(2, index.getOpenJobs(3L));
+        verify(technicianRepository, times(1)).findWorkloads(any());
+    }
+
+    @Test
+    void reserveLeastLoaded_WithoutTechnicians_ShouldReturnNull() {
+        when(technicianRepository.findWorkloads(any())).thenReturn(List.of());
+
+        assertNull(index.reserveLeastLoaded());
+    }
+
+    @Test
+    void reserveLeastLoaded_WhenTransactionRollsBack_ShouldReleaseReservation() {
+        when(technicianRepository.findWorkloads(any())).thenReturn(List.of(workload(1L, 0)));
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.reserveLeastLoaded();
+        assertEquals(1, index.getOpenJobs(1L));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(0, index.getOpenJobs(1L));
+    }
+
+    @Test
+    void recordChanges_ShouldOnlyCountOpenJobs() {
+        when(technicianRepository.findWorkloads(any())).thenReturn(List.of(workload(1L, 0), workload(2L, 0)));
+        index.rebuild();
+
+        index.recordCreated(1L, Job.JobStatus.PENDING);
+        index.recordCreated(1L, Job.JobStatus.COMPLETED);
+        index.recordCreated(2L, Job.JobStatus.IN_PROGRESS);
+        index.recordUpdated(2L, Job.JobStatus.IN_PROGRESS, 2L, Job.JobStatus.COMPLETED);
+        index.recordUpdated(1L, Job.JobStatus.PENDING, 2L, Job.JobStatus.PENDING);
+        index.recordCreated(1L, Job.JobStatus.PENDING);
+        index.recordDeleted(1L, Job.JobStatus.PENDING);
+
+        assertEquals(0, index.getOpenJobs(1L));
+        assertEquals(1, index.getOpenJobs(2L));
+        assertEquals(1L, index.reserveLeastLoaded());
+    }
+
+    @Test
+    void technicianChanges_ShouldApplyOnlyAfterCommit() {
+        when(technicianRepository.findWorkloads(any())).thenReturn(List.of(workload(1L, 5)));
+        index.rebuild();
+        TransactionSynchronizationManager.initSynchronization();
+
+        index.technicianAdded(2L);
+        index.technicianRemoved(1L);
+        assertEquals(1L, index.reserveLeastLoaded());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        assertEquals(2L, index.reserveLeastLoaded());
+        assertEquals(0, index.getOpenJobs(1L));
+    }
+
+    @Test
+    void reserveLeastLoaded_WhileRebuildQueries_ShouldNotWaitForIt() throws Exception {
+        CountDownLatch queryStarted = new CountDownLatch(1);
+        CountDownLatch releaseQuery = new CountDownLatch(1);
+        when(technicianRepository.findWorkloads(any()))
+                .thenReturn(List.of(workload(1L, 0)))
+                .thenAnswer(invocation -> {
+                    queryStarted.countDown();
+                    releaseQuery.await(10, TimeUnit.SECONDS);
+                    return List.of(workload(1L, 0));
+                });
+        index.rebuild();
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> rebuild = executor.submit(index::rebuild);
+            assertTrue(queryStarted.await(10, TimeUnit.SECONDS));
+
+            assertEquals(1L, executor.submit(index::reserveLeastLoaded).get(5, TimeUnit.SECONDS));
+            assertFalse(rebuild.isDone());
+
+            releaseQuery.countDown();
+            rebuild.get(10, TimeUnit.SECONDS);
+        } finally {
+            releaseQuery.countDown();
+            executor.shutdownNow();
+        }
+        assertEquals(1, index.getOpenJobs(1L));
+    }
+
+    @Test
+    void reserveLeastLoaded_UnderConcurrentCreates_ShouldSpreadJobsEvenly() throws Exception {
+        int technicians = 8;
+        int reservations = 8_000;
+        when(technicianRepository.findWorkloads(any())).thenReturn(
+                LongStream.rangeClosed(1, technicians).mapToObj(id -> workload(id, 0)).toList());
+        index.rebuild();
+        ConcurrentHashMap<Long, AtomicInteger> assigned = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < reservations; i++) {
+                futures.add(executor.submit(() -> assigned
+                        .computeIfAbsent(index.reserveLeastLoaded(), id -> new AtomicInteger())
+                        .incrementAndGet()));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(technicians, assigned.size());
+        assigned.values().forEach(count -> assertEquals(reservations / technicians, count.get()));
+        for (long techId = 1; techId <= technicians; techId++) {
+            assertEquals(reservations / technicians, index.getOpenJobs(techId));
+        }
+    }
+
+    private static TechnicianWorkload workload(Long techId, long openJobs) {
+        return new TechnicianWorkload() {
+            @Override
+            public Long getTechId() {
+                return techId;
+            }
+
+            @Override
+            public long getOpenJobs() {
+                return openJobs;
+            }
+        };
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.jobmanagement.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateUtilsTest {
+
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    @Test
+    void formatAndParse_ShouldHandleNull() {
+        assertNull(DateUtils.formatDate(null));
+        assertNull(DateUtils.formatDateTime(null));
+        assertNull(DateUtils.parseDate(null));
+        assertNull(DateUtils.parseDateTime(null));
+    }
+
+    @Test
+    void formatAndParse_ShouldMatchFormatterForRandomValues() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(1 + random.nextInt(9999), 1 + random.nextInt(12), 1,
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60)).plusDays(random.nextInt(31));
+            String expected = DATE_TIME.format(dateTime);
+
+            assertEquals(expected, DateUtils.formatDateTime(dateTime));
+            assertEquals(DATE.format(dateTime), DateUtils.formatDate(dateTime.toLocalDate()));
+            assertEquals(dateTime, DateUtils.parseDateTime(expected));
+            assertEquals(dateTime.toLocalDate(), DateUtils.parseDate(expected.substring(0, 10)));
+        }
+    }
+
+    @Test
+    void formatAndParse_ShouldFallBackToFormatterOutsideFourDigitYears() {
+        LocalDateTime farFuture = LocalDateTime.of(12345, 6, 7, 8, 9, 10);
+        LocalDate yearZero = LocalDate.of(0, 1, 1);
+
+        assertEquals(DATE_TIME.format(farFuture), DateUtils.formatDateTime(farFuture));
+        assertEquals(DATE.format(yearZero), DateUtils.formatDate(yearZero));
+        assertEquals(farFuture, DateUtils.parseDateTime(DATE_TIME.format(farFuture)));
+    }
+
+    @Test
+    void parse_ShouldResolveLikeFormatter() {
+        // The formatter resolves an out-of-range day to the last day of the month
+        assertEquals(LocalDate.parse("2023-02-30", DATE), DateUtils.parseDate("2023-02-30"));
+        assertEquals(LocalDate.of(2024, 2, 29), DateUtils.parseDate("2024-02-29"));
+    }
+
+    @Test
+    void parse_WithInvalidText_ShouldThrowParseException() {
+        assertThrows(DateTimeParseException.class, () -> DateUtils.parseDate("2024-1-15"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.parseDate("2024-13-01"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.parseDateTime("2024-01-15T10:00:00"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.parseDateTime("2024-01-15 25:00:00"));
+        assertThrows(DateTimeParseException.class, () -> DateUtils.parseDateTime("2024-01-15 10:00", 0));
+    }
+
+    @Test
+    void appendAndWrite_ShouldWriteAtOffset() {
+        LocalDateTime dateTime = LocalDateTime.of(2024, 3, 5, 7, 8, 9);
+        StringBuilder sb = new StringBuilder("at ");
+        byte[] buffer = new byte[2 + DateUtils.DATE_TIME_LENGTH];
+
+        DateUtils.appendDateTime(sb, dateTime);
+        int end = DateUtils.writeDateTime(dateTime, buffer, 2);
+
+        assertEquals("at 2024-03-05 07:08:09", sb.toString());
+        assertEquals(buffer.length, end);
+        assertEquals("2024-03-05 07:08:09", new String(buffer, 2, DateUtils.DATE_TIME_LENGTH, StandardCharsets.US_ASCII));
+        assertEquals(DateUtils.DATE_LENGTH, DateUtils.writeDate(dateTime.toLocalDate(), buffer, 0));
+    }
+
+    @Test
+    void parseAtOffset_ShouldReadCharactersAndBytes() {
+        String line = "42,2024-03-05 07:08:09,2024-03-06";
+        byte[] bytes = line.getBytes(StandardCharsets.US_ASCII);
+
+        assertEquals(LocalDateTime.of(2024, 3, 5, 7, 8, 9), DateUtils.parseDateTime(line, 3));
+        assertEquals(LocalDateTime.of(2024, 3, 5, 7, 8, 9), DateUtils.parseDateTime(bytes, 3));
+        assertEquals(LocalDate.of(2024, 3, 6), DateUtils.parseDate(line, 23));
+        assertEquals(LocalDate.of(2024, 3, 6), DateUtils.parseDate(bytes, 23));
+    }
+}